@@ -0,0 +1,91 @@
+package com.mendes.example.config;
+
+import com.mendes.example.shared.datasource.ConsistencyTokenFilter;
+import com.mendes.example.shared.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.flyway.autoconfigure.FlywayDataSource;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Réplica de leitura: transações somente leitura usam o pool {@code replica}
+ * ({@code datasource.replica.*}); escritas e o Flyway usam o pool {@code primary}
+ * ({@code spring.datasource.*}).
+ *
+ * Ativada quando {@code datasource.replica.url} é definido; sem ela, a aplicação usa o
+ * DataSource único da auto-configuração.
+ *
+ * Exige {@code spring.jpa.open-in-view=false} (falha na inicialização caso contrário): o
+ * EntityManager aberto por toda a requisição prenderia a ela a conexão, e a rota, da primeira
+ * transação.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+        @Value("${datasource.replica.url}") String url,
+        @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+        @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+        @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * DataSource da aplicação (JPA, JdbcTemplate): roteamento decidido na primeira consulta de
+     * cada conexão.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        MeterRegistry meterRegistry,
+        @Value("${spring.jpa.open-in-view:true}") boolean openInView
+    ) {
+        if (openInView) {
+            throw new IllegalStateException("Read replica routing requires spring.jpa.open-in-view=false");
+        }
+        return new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, meterRegistry)
+        );
+    }
+
+    @Bean
+    public ConsistencyTokenFilter consistencyTokenFilter(
+        @Value("${datasource.replica.max-lag:PT5S}") Duration maxLag
+    ) {
+        return new ConsistencyTokenFilter(maxLag);
+    }
+}
@@ -0,0 +1,13 @@
+package com.mendes.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class SchedulingConfig {
+    // Tarefas periódicas (ex.: reconciliação do KitchenBoard) e métodos @Async, no executor
+    // da auto-configuração (threads virtuais com spring.threads.virtual.enabled=true)
+}
@@ -0,0 +1,77 @@
+package com.mendes.example.config;
+
+import com.mendes.example.shared.datasource.AdmissionLimitingDataSource;
+import com.mendes.example.shared.threads.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Modo de threads virtuais ({@code spring.threads.virtual.enabled=true}): o Spring Boot já
+ * executa as requisições do Tomcat, os métodos {@code @Async} e as tarefas {@code @Scheduled}
+ * em threads virtuais; aqui entram as proteções do acesso JDBC.
+ *
+ * <ul>
+ *   <li>O DataSource da aplicação passa por um {@link AdmissionLimitingDataSource} com
+ *   {@code datasource.admission.max-concurrent} vagas e espera máxima
+ *   {@code datasource.admission.timeout}. O padrão é o tamanho do pool Hikari menos
+ *   {@code datasource.admission.reserved} conexões, deixadas para as conexões aninhadas
+ *   (a reconstrução do {@link com.mendes.example.pizza.application.PizzaCatalog} em
+ *   {@code REQUIRES_NEW}, disparada com a transação do chamador ainda aberta).</li>
+ *   <li>O {@link VirtualThreadPinningMonitor} loga as threads virtuais presas à portadora por mais
+ *   de {@code threads.virtual.pinning.threshold}; desabilite com
+ *   {@code threads.virtual.pinning.enabled=false}.</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor jdbcAdmissionLimit(
+        @Value("${datasource.admission.max-concurrent:0}") int maxConcurrent,
+        @Value("${datasource.admission.reserved:1}") int reserved,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+        @Value("${datasource.admission.timeout:PT30S}") Duration timeout
+    ) {
+        int limit = maxConcurrent > 0 ? maxConcurrent : Math.max(1, poolSize - reserved);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                    && !(bean instanceof AdmissionLimitingDataSource)) {
+                    return new AdmissionLimitingDataSource(dataSource, limit, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder jdbcAdmissionMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                dataSource.unwrap(AdmissionLimitingDataSource.class).bindTo(registry);
+            } catch (SQLException e) {
+                throw new IllegalStateException("DataSource is not admission limited", e);
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "threads.virtual.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+        @Value("${threads.virtual.pinning.threshold:20ms}") Duration threshold,
+        MeterRegistry meterRegistry
+    ) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+}
@@ -6,13 +6,20 @@ import com.mendes.example.customer.application.dto.UpdateCustomerRequest;
 import com.mendes.example.customer.application.mapper.CustomerMapper;
 import com.mendes.example.customer.domain.Customer;
 import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.customer.infrastructure.CustomerRow;
 import com.mendes.example.shared.exception.ResourceNotFoundException;
 import com.mendes.example.shared.exception.InvalidOperationException;
+import com.mendes.example.shared.pagination.Cursor;
+import com.mendes.example.shared.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -33,8 +40,31 @@ public class CustomerService {
      */
     @Transactional(readOnly = true)
     public List<CustomerResponse> listAllCustomers() {
-        List<Customer> customers = customerRepository.findAll();
-        return customerMapper.toResponseList(customers);
+        return customerMapper.toResponseList(customerRepository.findAllRows());
+    }
+
+    /**
+     * Lista os clientes paginados por keyset em {@code (created_at, id)}.
+     *
+     * @param cursor cursor opaco da página anterior, ou {@code null} para a primeira página
+     * @throws IllegalArgumentException caso o cursor ou o tamanho de página sejam inválidos
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CustomerResponse> listCustomersPage(String cursor, int size) {
+        Limit limit = Limit.of(CursorPage.fetchLimit(size));
+        List<CustomerRow> customers;
+        if (cursor == null) {
+            customers = customerRepository.findFirstPage(limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            customers = customerRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+        return CursorPage.of(
+            customers,
+            size,
+            customer -> new Cursor(customer.createdAt(), customer.id()),
+            customerMapper::toResponseList
+        );
     }
 
     /**
@@ -114,4 +144,25 @@ public class CustomerService {
                     CUSTOMER_NOT_FOUND + id
                 ));
     }
+
+    // Método interno para uso do OrderService - valida a existência e retorna uma referência
+    // (proxy) sem carregar as colunas do cliente
+    @Transactional(readOnly = true)
+    public Customer getCustomerReferenceById(UUID id) {
+        if (!customerRepository.existsById(id)) {
+            throw new ResourceNotFoundException(CUSTOMER_NOT_FOUND + id);
+        }
+        return customerRepository.getReferenceById(id);
+    }
+
+    // Método interno para uso do OrderService (pedidos em lote) - referências apenas dos clientes
+    // existentes, validados em um único SELECT
+    @Transactional(readOnly = true)
+    public Map<UUID, Customer> findCustomerReferencesByIds(Collection<UUID> ids) {
+        Map<UUID, Customer> references = new HashMap<>();
+        for (UUID id : customerRepository.findExistingIds(ids)) {
+            references.put(id, customerRepository.getReferenceById(id));
+        }
+        return references;
+    }
 }
@@ -4,6 +4,7 @@ import com.mendes.example.customer.application.dto.CreateCustomerRequest;
 import com.mendes.example.customer.application.dto.CustomerResponse;
 import com.mendes.example.customer.application.dto.UpdateCustomerRequest;
 import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -30,9 +31,14 @@ public interface CustomerMapper {
     CustomerResponse toResponse(Customer customer);
 
     /**
-     * Converte lista de Customer entities para lista de CustomerResponse
+     * Converte a projeção de cliente para CustomerResponse
      */
-    List<CustomerResponse> toResponseList(List<Customer> customers);
+    CustomerResponse toResponse(CustomerRow row);
+
+    /**
+     * Converte lista de projeções de cliente para lista de CustomerResponse
+     */
+    List<CustomerResponse> toResponseList(List<CustomerRow> rows);
 
     /**
      * Atualiza Customer entity com dados do UpdateCustomerRequest
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 /**
@@ -15,7 +16,10 @@ import java.util.UUID;
  * Contém dados de contato e endereço, além de timestamps de criação e atualização.
  */
 @Entity
-@Table(name = "customer")
+@Table(
+    name = "customer",
+    indexes = @Index(name = "idx_customer_created_at_id", columnList = "created_at, id")
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -58,8 +62,9 @@ public class Customer {
      */
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // Truncado para a precisão da coluna, mantendo o cursor (created_at, id) estável
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     /**
@@ -1,9 +1,14 @@
 package com.mendes.example.customer.infrastructure;
 
 import com.mendes.example.customer.domain.Customer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,4 +26,43 @@ public interface CustomerRepository extends JpaRepository<Customer, UUID> {
      * Verifica se um e-mail já está cadastrado.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Retorna, dentre os ids informados, os que correspondem a clientes existentes.
+     */
+    @Query("select c.id from Customer c where c.id in :ids")
+    List<UUID> findExistingIds(Collection<UUID> ids);
+
+    /**
+     * Todos os clientes projetados, sem carregar entidades.
+     */
+    @Query("""
+            select new com.mendes.example.customer.infrastructure.CustomerRow(
+                c.id, c.name, c.email, c.phone, c.address, c.zipCode, c.city, c.state, c.createdAt, c.updatedAt)
+            from Customer c
+            order by c.createdAt asc, c.id asc""")
+    List<CustomerRow> findAllRows();
+
+    /**
+     * Primeira página de clientes ordenada por {@code (created_at, id)}.
+     */
+    @Query("""
+            select new com.mendes.example.customer.infrastructure.CustomerRow(
+                c.id, c.name, c.email, c.phone, c.address, c.zipCode, c.city, c.state, c.createdAt, c.updatedAt)
+            from Customer c
+            order by c.createdAt asc, c.id asc""")
+    List<CustomerRow> findFirstPage(Limit limit);
+
+    /**
+     * Página de clientes posterior à chave {@code (createdAt, id)} informada. O limite inferior
+     * redundante em {@code createdAt} faz o índice começar a varredura na chave do cursor.
+     */
+    @Query("""
+            select new com.mendes.example.customer.infrastructure.CustomerRow(
+                c.id, c.name, c.email, c.phone, c.address, c.zipCode, c.city, c.state, c.createdAt, c.updatedAt)
+            from Customer c
+            where c.createdAt >= :createdAt
+              and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))
+            order by c.createdAt asc, c.id asc""")
+    List<CustomerRow> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
 }
@@ -0,0 +1,21 @@
+package com.mendes.example.customer.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção das colunas de um cliente para as listagens, sem carregar entidades.
+ */
+public record CustomerRow(
+    UUID id,
+    String name,
+    String email,
+    String phone,
+    String address,
+    String zipCode,
+    String city,
+    String state,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
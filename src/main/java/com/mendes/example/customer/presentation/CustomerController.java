@@ -4,6 +4,7 @@ import com.mendes.example.customer.application.CustomerService;
 import com.mendes.example.customer.application.dto.CreateCustomerRequest;
 import com.mendes.example.customer.application.dto.CustomerResponse;
 import com.mendes.example.customer.application.dto.UpdateCustomerRequest;
+import com.mendes.example.shared.pagination.CursorPage;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,21 @@ public class CustomerController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Lista os clientes paginados por cursor (versão 2).
+     *
+     * O campo {@code next} da resposta deve ser repassado em {@code cursor} para obter a
+     * página seguinte.
+     */
+    @GetMapping(version = "2")
+    public ResponseEntity<CursorPage<CustomerResponse>> listCustomersPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size
+    ) {
+        CursorPage<CustomerResponse> page = customerService.listCustomersPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Recupera um cliente pelo identificador.
      */
@@ -0,0 +1,82 @@
+package com.mendes.example.order.application;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache limitado de respostas por chave de idempotência: no máximo {@code capacity} entradas,
+ * cada uma válida por {@code ttlNanos} a partir da gravação, ou pelo TTL informado a
+ * {@link #put(String, Object, long)}.
+ *
+ * As entradas ficam em ordem de inserção, então as expiradas com o TTL padrão estão sempre no
+ * início do mapa e são removidas a cada gravação; uma entrada com TTL menor fica até ser lida,
+ * alcançada pela remoção ou empurrada pela capacidade, acima da qual sai a mais antiga.
+ * Thread-safe.
+ */
+final class IdempotencyCache<V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final int capacity;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>();
+
+    IdempotencyCache(int capacity, long ttlNanos, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+    }
+
+    synchronized V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.expiresAt() >= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    void put(String key, V value) {
+        put(key, value, ttlNanos);
+    }
+
+    /**
+     * Grava a entrada válida por {@code ttlNanos} (limitado ao TTL do cache); nada é gravado se
+     * o TTL não for positivo.
+     */
+    synchronized void put(String key, V value, long ttlNanos) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+        entries.remove(key);
+        if (ttlNanos <= 0) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, now + Math.min(ttlNanos, this.ttlNanos)));
+        if (entries.size() > capacity) {
+            Iterator<String> eldest = entries.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && now - iterator.next().getValue().expiresAt() >= 0) {
+            iterator.remove();
+        }
+    }
+}
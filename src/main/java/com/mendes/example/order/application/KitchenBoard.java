@@ -0,0 +1,190 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.application.event.OrderDeletedEvent;
+import com.mendes.example.order.application.event.OrderStatusChangedEvent;
+import com.mendes.example.order.application.mapper.OrderMapper;
+import com.mendes.example.order.domain.Order;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice em memória dos pedidos ativos (PENDING até IN_DELIVERY), por status e em ordem
+ * de criação, que atende o quadro da cozinha ({@code GET /orders/status/{status}}).
+ *
+ * - Carregado na inicialização da aplicação
+ * - Atualizado após o commit das alterações do {@link OrderService} ({@link OrderStatusChangedEvent})
+ * - Reconciliado periodicamente com o banco ({@code orders.board.reconcile-interval})
+ *
+ * Cada entrada guarda a versão do pedido; eventos e reconciliações só substituem uma entrada
+ * por outra de versão igual ou mais recente, então a ordem de chegada não importa.
+ *
+ * Habilitado por padrão; desabilite com {@code orders.board.enabled=false}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.board.enabled", havingValue = "true", matchIfMissing = true)
+public class KitchenBoard {
+
+    private static final Set<OrderStatus> ACTIVE_STATUSES = Collections.unmodifiableSet(EnumSet.of(
+        OrderStatus.PENDING,
+        OrderStatus.CONFIRMED,
+        OrderStatus.PREPARING,
+        OrderStatus.READY,
+        OrderStatus.IN_DELIVERY
+    ));
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final TransactionTemplate readTransaction;
+
+    private final Map<OrderStatus, ConcurrentSkipListMap<BoardKey, OrderResponse>> byStatus =
+        new EnumMap<>(OrderStatus.class);
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private record BoardKey(LocalDateTime createdAt, UUID id) implements Comparable<BoardKey> {
+        @Override
+        public int compareTo(BoardKey other) {
+            int byCreation = createdAt.compareTo(other.createdAt);
+            return byCreation != 0 ? byCreation : id.compareTo(other.id);
+        }
+    }
+
+    /**
+     * Estado de um pedido no índice. {@code status == null} marca um pedido que saiu do quadro
+     * (finalizado ou excluído), mantido até a próxima reconciliação para que eventos atrasados
+     * não o recoloquem.
+     * {@code touchedAt} é o número de sequência da última alteração, usado pela reconciliação.
+     */
+    private record Entry(BoardKey key, OrderStatus status, long version, long touchedAt) {
+    }
+
+    public KitchenBoard(
+        OrderRepository orderRepository,
+        OrderMapper orderMapper,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        for (OrderStatus status : ACTIVE_STATUSES) {
+            byStatus.put(status, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * Indica se o status é atendido pelo índice.
+     */
+    public boolean serves(OrderStatus status) {
+        return ACTIVE_STATUSES.contains(status);
+    }
+
+    /**
+     * Pedidos ativos no status informado, em ordem de criação.
+     */
+    public List<OrderResponse> list(OrderStatus status) {
+        return new ArrayList<>(byStatus.get(status).values());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        apply(event.order(), event.version());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderDeleted(OrderDeletedEvent event) {
+        entries.compute(event.orderId(), (id, existing) -> {
+            if (existing != null && existing.status() != null) {
+                byStatus.get(existing.status()).remove(existing.key());
+            }
+            return new Entry(null, null, Long.MAX_VALUE, sequence.incrementAndGet());
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+        log.info("Kitchen board loaded with {} active orders", activeCount());
+    }
+
+    /**
+     * Recarrega os pedidos ativos do banco, corrigindo eventos perdidos (ex.: alterações
+     * feitas por outros nós). Entradas alteradas durante a leitura são preservadas.
+     */
+    @Scheduled(
+        fixedDelayString = "${orders.board.reconcile-interval:PT1M}",
+        initialDelayString = "${orders.board.reconcile-interval:PT1M}"
+    )
+    public void reconcile() {
+        long startedAt = sequence.incrementAndGet();
+        List<Order> active = readTransaction.execute(status ->
+            orderRepository.findWithItemsByStatusIn(ACTIVE_STATUSES)
+        );
+
+        Set<UUID> activeIds = ConcurrentHashMap.newKeySet();
+        for (Order order : active) {
+            activeIds.add(order.getId());
+            apply(orderMapper.toResponse(order), order.getVersion());
+        }
+        // Remove pedidos que deixaram de estar ativos no banco e marcadores de pedidos finalizados,
+        // desde que não tenham sido tocados após o início da leitura
+        entries.forEach((id, entry) -> {
+            if (!activeIds.contains(id) && entry.touchedAt() < startedAt) {
+                entries.computeIfPresent(id, (key, current) -> {
+                    if (current.touchedAt() >= startedAt) {
+                        return current;
+                    }
+                    if (current.status() != null) {
+                        byStatus.get(current.status()).remove(current.key());
+                    }
+                    return null;
+                });
+            }
+        });
+    }
+
+    private void apply(OrderResponse order, long version) {
+        entries.compute(order.getId(), (id, existing) -> {
+            if (existing != null && existing.version() > version) {
+                return existing;
+            }
+            if (existing != null && existing.status() != null) {
+                byStatus.get(existing.status()).remove(existing.key());
+            }
+            BoardKey key = new BoardKey(order.getCreatedAt(), id);
+            if (!serves(order.getStatus())) {
+                return new Entry(key, null, version, sequence.incrementAndGet());
+            }
+            byStatus.get(order.getStatus()).put(key, order);
+            return new Entry(key, order.getStatus(), version, sequence.incrementAndGet());
+        });
+    }
+
+    private int activeCount() {
+        return byStatus.values().stream().mapToInt(Map::size).sum();
+    }
+}
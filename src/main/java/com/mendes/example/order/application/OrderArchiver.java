@@ -0,0 +1,123 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.ArchivedOrderRepository;
+import com.mendes.example.order.infrastructure.OrderItemRepository;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Move pedidos finalizados (entregues/cancelados) criados há mais de
+ * {@code orders.archive.min-age} de {@code orders}/{@code order_item} para
+ * {@code orders_archive}/{@code order_item_archive}, mantendo as tabelas quentes (e seus
+ * índices) do tamanho do movimento recente.
+ *
+ * Cada bloco de {@code orders.archive.chunk-size} pedidos é reservado com
+ * {@code FOR UPDATE SKIP LOCKED}, copiado com INSERT ... SELECT e removido das tabelas quentes
+ * na mesma transação: uma falha desfaz só o bloco corrente, que volta na próxima execução.
+ * As consultas por id e por cliente do {@link OrderService}, inclusive a paginada, e o backfill
+ * dos rollups de vendas recorrem ao arquivo.
+ *
+ * Métrica {@code orders.archived}: pedidos movidos para o arquivo.
+ *
+ * Habilitado por padrão; desabilite com {@code orders.archive.enabled=false}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiver {
+
+    static final Set<OrderStatus> ARCHIVABLE = Set.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final Counter archived;
+
+    public OrderArchiver(
+        OrderRepository orderRepository,
+        OrderItemRepository orderItemRepository,
+        ArchivedOrderRepository archivedOrderRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${orders.archive.min-age:P30D}") Duration minAge,
+        @Value("${orders.archive.chunk-size:500}") int chunkSize
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+        this.archived = Counter.builder("orders.archived")
+            .description("Pedidos finalizados movidos para o arquivo")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${orders.archive.interval:PT1H}",
+        initialDelayString = "${orders.archive.interval:PT1H}"
+    )
+    public void run() {
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            log.warn("Order archiving failed, remaining orders will be retried: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Arquiva blocos até não restarem pedidos elegíveis.
+     *
+     * @return quantidade de pedidos arquivados
+     */
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        int total = 0;
+        int moved;
+        do {
+            moved = archiveChunk(cutoff);
+            total += moved;
+        } while (moved == chunkSize);
+        if (total > 0) {
+            log.info("Archived {} orders created before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<UUID> orderIds = orderRepository.lockArchivable(ARCHIVABLE, cutoff, Limit.of(chunkSize));
+            if (orderIds.isEmpty()) {
+                return 0;
+            }
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            archivedOrderRepository.copyOrders(orderIds, now);
+            archivedOrderRepository.copyItems(orderIds);
+            orderItemRepository.deleteByOrderIdIn(orderIds);
+            orderRepository.deleteAllByIdInBatch(orderIds);
+            archived.increment(orderIds.size());
+            return orderIds.size();
+        });
+        return moved == null ? 0 : moved;
+    }
+}
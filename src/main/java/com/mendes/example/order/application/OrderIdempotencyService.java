@@ -0,0 +1,160 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.domain.OrderIdempotencyKey;
+import com.mendes.example.order.infrastructure.OrderIdempotencyKeyRepository;
+import com.mendes.example.shared.exception.InvalidOperationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Criação de pedidos com header {@code Idempotency-Key}: retentativas com a mesma chave
+ * recebem o {@link OrderResponse} original, sem consultar clientes/pizzas nem inserir nada.
+ *
+ * As respostas recentes ficam num {@link IdempotencyCache} limitado
+ * ({@code orders.idempotency.capacity}) que expira em {@code orders.idempotency.ttl}; a tabela
+ * {@code order_idempotency_key}, gravada na mesma transação do pedido, cobre as chaves que
+ * saíram do cache e os restarts. A chave primária da tabela decide corridas entre requisições
+ * simultâneas com a mesma chave: a perdedora é desfeita e devolve a resposta da vencedora.
+ *
+ * Reusar uma chave com outra requisição é rejeitado ({@link InvalidOperationException}).
+ *
+ * Métrica {@code orders.idempotency.replays}: retentativas respondidas com a resposta original.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private record StoredResponse(String requestHash, OrderResponse response) {
+    }
+
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final IdempotencyCache<StoredResponse> cache;
+    private final Counter replays;
+
+    public OrderIdempotencyService(
+        OrderService orderService,
+        OrderIdempotencyKeyRepository repository,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${orders.idempotency.capacity:10000}") int capacity,
+        @Value("${orders.idempotency.ttl:PT24H}") Duration ttl
+    ) {
+        this.orderService = orderService;
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.cache = new IdempotencyCache<>(capacity, ttl.toNanos(), System::nanoTime);
+        this.replays = Counter.builder("orders.idempotency.replays")
+            .description("Retentativas de criação de pedido respondidas com a resposta original")
+            .register(meterRegistry);
+    }
+
+    public OrderResponse createOrder(String key, CreateOrderRequest request) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                "Idempotency-Key must have between 1 and " + MAX_KEY_LENGTH + " characters"
+            );
+        }
+        String requestHash = hash(request);
+        Optional<OrderResponse> replay = find(key, requestHash);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+
+        try {
+            OrderResponse response = transactionTemplate.execute(status -> {
+                OrderResponse created = orderService.createOrder(request);
+                repository.deleteExpired(key, cutoff());
+                repository.saveAndFlush(OrderIdempotencyKey.builder()
+                    .key(key)
+                    .requestHash(requestHash)
+                    .orderId(created.getId())
+                    .response(objectMapper.writeValueAsString(created))
+                    .build());
+                return created;
+            });
+            cache.put(key, new StoredResponse(requestHash, response));
+            return response;
+        } catch (DataIntegrityViolationException e) {
+            // Outra requisição com a mesma chave confirmou antes: esta foi desfeita
+            log.debug("Concurrent order creation with idempotency key {}", key);
+            return find(key, requestHash).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Remove da tabela as chaves expiradas.
+     *
+     * @return quantidade de chaves removidas
+     */
+    @Scheduled(
+        fixedDelayString = "${orders.idempotency.purge-interval:PT1H}",
+        initialDelayString = "${orders.idempotency.purge-interval:PT1H}"
+    )
+    public int purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> repository.deleteCreatedBefore(cutoff()));
+        return purged == null ? 0 : purged;
+    }
+
+    private Optional<OrderResponse> find(String key, String requestHash) {
+        StoredResponse stored = cache.get(key);
+        if (stored == null) {
+            LocalDateTime now = LocalDateTime.now();
+            OrderIdempotencyKey row = repository.findById(key)
+                .filter(candidate -> candidate.getCreatedAt().plus(ttl).isAfter(now))
+                .orElse(null);
+            if (row == null) {
+                return Optional.empty();
+            }
+            stored = new StoredResponse(
+                row.getRequestHash(),
+                objectMapper.readValue(row.getResponse(), OrderResponse.class)
+            );
+            // Só pelo TTL restante da linha: a chave expira no cache junto com a tabela
+            cache.put(key, stored, Duration.between(now, row.getCreatedAt().plus(ttl)).toNanos());
+        }
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new InvalidOperationException("Idempotency-Key already used with a different request: " + key);
+        }
+        replays.increment();
+        return Optional.of(stored.response());
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(ttl);
+    }
+
+    private String hash(CreateOrderRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
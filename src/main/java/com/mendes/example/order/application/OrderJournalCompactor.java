@@ -0,0 +1,58 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.order.infrastructure.journal.SegmentedJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Compacta periodicamente os segmentos selados do journal de transições: descarta registros
+ * repetidos e os anteriores a {@code orders.journal.retention}, limitando o tamanho do journal
+ * em disco. O segmento ativo nunca é compactado.
+ *
+ * A retenção precisa ser maior que {@code orders.journal.reconcile-window}, que é o trecho
+ * relido pelo {@link OrderJournalReconciler}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.journal.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderJournalCompactor {
+
+    private final SegmentedJournal orderJournal;
+    private final Duration retention;
+
+    public OrderJournalCompactor(
+        SegmentedJournal orderJournal,
+        @Value("${orders.journal.retention:P30D}") Duration retention
+    ) {
+        this.orderJournal = orderJournal;
+        this.retention = retention;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${orders.journal.compaction-interval:PT1H}",
+        initialDelayString = "${orders.journal.compaction-interval:PT1H}"
+    )
+    public void run() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Order journal compaction failed, it will be retried: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compacta os segmentos selados.
+     *
+     * @return quantidade de registros descartados
+     */
+    public int compact() throws IOException {
+        return orderJournal.compact(orderJournal.nextSequence(), Instant.now().minus(retention));
+    }
+}
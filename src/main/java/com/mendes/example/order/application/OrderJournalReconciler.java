@@ -0,0 +1,126 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.order.infrastructure.OrderVersionRow;
+import com.mendes.example.order.infrastructure.journal.JournalRecord;
+import com.mendes.example.order.infrastructure.journal.SegmentedJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Fecha a lacuna entre {@code orders} e o journal de transições.
+ *
+ * O {@link OrderJournalWriter} grava após o commit, então uma queda ou falha de I/O entre o
+ * commit no banco e o fsync do journal perde transições já confirmadas. Na inicialização, os
+ * pedidos alterados a partir de {@code orders.journal.reconcile-window} antes do último registro
+ * do journal são comparados com os registros do journal na mesma janela: para cada pedido cuja
+ * versão no banco é mais recente que a última registrada, grava-se uma transição do último status
+ * registrado para o atual (sem status de origem se o pedido não tiver registro na janela).
+ *
+ * Só a janela do journal é relida, e os pedidos vêm do banco em páginas de
+ * {@code orders.journal.reconcile-page-size}; com o journal vazio, todos os pedidos são
+ * comparados, página a página.
+ *
+ * As transições intermediárias perdidas não podem ser reconstruídas (o banco guarda só o estado
+ * atual); no journal a lacuna aparece como um salto de versão do pedido.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.journal.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderJournalReconciler {
+
+    // Journal vazio: todos os pedidos são comparados
+    private static final LocalDateTime NO_CUTOFF = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SegmentedJournal orderJournal;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate readTransaction;
+    private final Duration window;
+    private final int pageSize;
+
+    public OrderJournalReconciler(
+        SegmentedJournal orderJournal,
+        OrderRepository orderRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${orders.journal.reconcile-window:PT10M}") Duration window,
+        @Value("${orders.journal.reconcile-page-size:1000}") int pageSize
+    ) {
+        this.orderJournal = orderJournal;
+        this.orderRepository = orderRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.window = window;
+        this.pageSize = pageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reconcile();
+    }
+
+    /**
+     * Grava as transições confirmadas no banco que faltam no journal.
+     *
+     * @return quantidade de registros acrescentados
+     */
+    public int reconcile() {
+        Optional<JournalRecord> last = orderJournal.lastRecord();
+        LocalDateTime since = NO_CUTOFF;
+        Map<UUID, JournalRecord> journaled = new HashMap<>();
+        if (last.isPresent()) {
+            Instant from = last.get().timestamp().minus(window);
+            since = LocalDateTime.ofInstant(from, ZoneId.systemDefault());
+            orderJournal.replaySince(from, record -> journaled.merge(record.orderId(), record,
+                (current, candidate) -> candidate.version() > current.version() ? candidate : current));
+        }
+
+        LocalDateTime cutoff = since;
+        int appended = 0;
+        List<OrderVersionRow> orders = readTransaction.execute(status ->
+            orderRepository.findFirstVersionsUpdatedSince(cutoff, Limit.of(pageSize)));
+        while (!orders.isEmpty()) {
+            for (OrderVersionRow order : orders) {
+                JournalRecord latest = journaled.get(order.id());
+                if (latest == null || latest.version() < order.version()) {
+                    orderJournal.append(
+                        order.id(),
+                        latest == null ? null : latest.toStatus(),
+                        order.status(),
+                        order.version(),
+                        order.updatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                    );
+                    appended++;
+                }
+            }
+            if (orders.size() < pageSize) {
+                break;
+            }
+            UUID lastId = orders.getLast().id();
+            orders = readTransaction.execute(status ->
+                orderRepository.findVersionsUpdatedSinceAfter(cutoff, lastId, Limit.of(pageSize)));
+        }
+
+        if (appended > 0) {
+            orderJournal.flush();
+            log.warn("Order journal reconciled: {} committed transitions were missing", appended);
+        }
+        return appended;
+    }
+}
@@ -0,0 +1,122 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.application.event.OrderStatusChangedEvent;
+import com.mendes.example.order.infrastructure.journal.SegmentedJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Registra no journal a criação e as transições de status confirmadas pelo {@link OrderService}.
+ *
+ * Roda após o commit, então só transições efetivadas entram no journal; transições do mesmo
+ * pedido gravadas fora de ordem são desambiguadas pela versão do registro.
+ *
+ * A requisição só é respondida depois do fsync em grupo que cobre os registros (no máximo
+ * {@code orders.journal.fsync-interval}). Todos os eventos de uma transação (ex.: lote de
+ * pedidos ou transições em massa) são acrescentados primeiro e a espera acontece uma única vez,
+ * pela maior sequência, ao fim da transação. Se o fsync não acontecer em
+ * {@code orders.journal.durable-timeout}, ou o append falhar, a transição continua confirmada
+ * no banco e a lacuna é fechada pelo {@link OrderJournalReconciler} na próxima inicialização.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.journal.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderJournalWriter {
+
+    private final SegmentedJournal orderJournal;
+    private final Duration durableTimeout;
+
+    public OrderJournalWriter(
+        SegmentedJournal orderJournal,
+        @Value("${orders.journal.durable-timeout:PT1S}") Duration durableTimeout
+    ) {
+        this.orderJournal = orderJournal;
+        this.durableTimeout = durableTimeout;
+    }
+
+    /**
+     * Na publicação do evento, ainda dentro da transação: registra a espera única pelo fsync,
+     * executada depois dos appends de todos os eventos da transação.
+     */
+    @EventListener
+    public void onOrderStatusChangedInTransaction(OrderStatusChangedEvent event) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && TransactionSynchronizationManager.getResource(this) == null) {
+            DurableWait wait = new DurableWait();
+            TransactionSynchronizationManager.bindResource(this, wait);
+            TransactionSynchronizationManager.registerSynchronization(wait);
+        }
+    }
+
+    // Ordem menor que a da DurableWait: os appends da transação acontecem antes da espera
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        OrderResponse order = event.order();
+        long sequence;
+        try {
+            sequence = orderJournal.append(
+                order.getId(),
+                event.previousStatus(),
+                order.getStatus(),
+                event.version(),
+                order.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant()
+            );
+        } catch (RuntimeException e) {
+            log.error("Could not journal transition of order {} to {} (version {}); it will be reconciled on restart",
+                order.getId(), order.getStatus(), event.version(), e);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.getResource(this) instanceof DurableWait wait) {
+            wait.highestSequence = Math.max(wait.highestSequence, sequence);
+        } else {
+            awaitDurable(sequence);
+        }
+    }
+
+    private void awaitDurable(long sequence) {
+        try {
+            if (!orderJournal.awaitDurable(sequence, durableTimeout)) {
+                log.warn("Journal records up to {} not synced within {}", sequence, durableTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted waiting for the journal fsync of record {}", sequence);
+        }
+    }
+
+    /**
+     * Maior sequência acrescentada pelos eventos da transação corrente; aguardada uma vez,
+     * ao fim da transação (nada a aguardar em rollback).
+     */
+    private final class DurableWait implements TransactionSynchronization {
+
+        private long highestSequence = -1;
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrderJournalWriter.this);
+            if (highestSequence >= 0) {
+                awaitDurable(highestSequence);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.order.application.dto.OrderLifecycleMessage;
+import com.mendes.example.order.application.event.OrderStatusChangedEvent;
+import com.mendes.example.outbox.application.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grava no outbox a criação e cada mudança de status dos pedidos.
+ *
+ * Listener síncrono (não transacional): roda dentro da transação do {@link OrderService}
+ * que publicou o evento, então a mensagem é confirmada ou desfeita junto com o pedido.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxWriter {
+
+    static final String AGGREGATE_TYPE = "Order";
+    static final String ORDER_CREATED = "OrderCreated";
+    static final String ORDER_STATUS_CHANGED = "OrderStatusChanged";
+
+    private final OutboxService outboxService;
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        outboxService.append(
+            AGGREGATE_TYPE,
+            event.order().getId(),
+            event.isCreation() ? ORDER_CREATED : ORDER_STATUS_CHANGED,
+            OrderLifecycleMessage.builder()
+                .previousStatus(event.previousStatus())
+                .version(event.version())
+                .order(event.order())
+                .build()
+        );
+    }
+}
@@ -2,23 +2,58 @@ package com.mendes.example.order.application;
 
 import com.mendes.example.customer.application.CustomerService;
 import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.order.application.dto.BatchOrderResponse;
+import com.mendes.example.order.application.dto.BatchOrderResult;
+import com.mendes.example.order.application.dto.BulkTransitionRequest;
+import com.mendes.example.order.application.dto.BulkTransitionResponse;
+import com.mendes.example.order.application.dto.BulkTransitionResult;
 import com.mendes.example.order.application.dto.CreateOrderRequest;
 import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.application.dto.OrderItemResponse;
 import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.application.event.OrderDeletedEvent;
+import com.mendes.example.order.application.event.OrderStatusChangedEvent;
+import com.mendes.example.order.application.mapper.OrderItemMapper;
 import com.mendes.example.order.application.mapper.OrderMapper;
 import com.mendes.example.order.domain.Order;
 import com.mendes.example.order.domain.OrderItem;
 import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.domain.OrderTransition;
+import com.mendes.example.order.infrastructure.ArchivedOrderRepository;
+import com.mendes.example.order.infrastructure.OrderItemRepository;
+import com.mendes.example.order.infrastructure.OrderItemRow;
+import com.mendes.example.order.infrastructure.OrderLineRow;
 import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.order.infrastructure.OrderStatusView;
+import com.mendes.example.order.infrastructure.OrderSummaryRow;
 import com.mendes.example.pizza.application.PizzaService;
-import com.mendes.example.pizza.domain.Pizza;
+import com.mendes.example.pizza.application.dto.PizzaResponse;
 import com.mendes.example.shared.exception.InvalidOperationException;
 import com.mendes.example.shared.exception.ResourceNotFoundException;
-import java.math.BigDecimal;
+import com.mendes.example.shared.money.Money;
+import com.mendes.example.shared.pagination.Cursor;
+import com.mendes.example.shared.pagination.CursorPage;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,169 +63,499 @@ import org.springframework.transaction.annotation.Transactional;
 public class OrderService {
 
     public static final String ORDER_NOT_FOUND = "Order not found with id: ";
+    public static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_TRANSITION_ATTEMPTS = 3;
+
+    // Ordem das páginas no banco: (created_at, id), com UUIDs comparados byte a byte sem sinal
+    // (UUID.compareTo compara com sinal e divergiria da ordem do keyset)
+    private static final Comparator<OrderSummaryRow> PAGE_ORDER = Comparator
+        .comparing(OrderSummaryRow::createdAt)
+        .thenComparing(OrderSummaryRow::id, (a, b) -> {
+            int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+            return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+        });
+
     private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
     private final PizzaService pizzaService;
     private final CustomerService customerService;
+    private final OrderItemRepository orderItemRepository;
     private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<KitchenBoard> kitchenBoard;
 
     @Transactional(readOnly = true)
     public List<OrderResponse> listAllOrders() {
-        List<Order> orders = orderRepository.findAll();
-        return orderMapper.toResponseList(orders);
+        return toResponses(orderRepository.findAllLines());
     }
 
+    /**
+     * Pedidos finalizados movidos pelo {@link OrderArchiver} são buscados no arquivo.
+     */
     @Transactional(readOnly = true)
     public OrderResponse getOrderById(UUID id) {
-        Order order = orderRepository
+        return orderRepository
             .findById(id)
+            .map(orderMapper::toResponse)
+            .or(() -> archivedOrderRepository.findWithItemsById(id).map(orderMapper::toResponse))
             .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + id));
-        return orderMapper.toResponse(order);
     }
 
+    /**
+     * Pedidos ativos e recentes seguidos dos arquivados pelo {@link OrderArchiver}.
+     */
     @Transactional(readOnly = true)
     public List<OrderResponse> getOrdersByCustomerId(UUID customerId) {
-        List<Order> orders = orderRepository.findByCustomerId(customerId);
-        return orderMapper.toResponseList(orders);
+        List<OrderResponse> orders = toResponses(orderRepository.findLinesByCustomerId(customerId));
+        orders.addAll(orderMapper.toArchivedResponseList(archivedOrderRepository.findByCustomerId(customerId)));
+        return orders;
     }
 
+    /**
+     * Status ativos são servidos pelo {@link KitchenBoard} em memória, quando habilitado;
+     * status finais (entregue/cancelado) são consultados no banco.
+     */
     @Transactional(readOnly = true)
     public List<OrderResponse> getOrdersByStatus(OrderStatus status) {
-        List<Order> orders = orderRepository.findByStatus(status);
-        return orderMapper.toResponseList(orders);
+        KitchenBoard board = kitchenBoard.getIfAvailable();
+        if (board != null && board.serves(status)) {
+            return board.list(status);
+        }
+        return toResponses(orderRepository.findLinesByStatus(status));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> listOrdersPage(String cursor, int size) {
+        Limit limit = Limit.of(CursorPage.fetchLimit(size));
+        List<OrderSummaryRow> orders;
+        if (cursor == null) {
+            orders = orderRepository.findFirstPage(limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            orders = orderRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+        return toPage(orders, size);
+    }
+
+    /**
+     * Pedidos do cliente em ordem de criação, intercalando os ativos/recentes com os arquivados
+     * pelo {@link OrderArchiver}: cada página lê o bloco seguinte ao cursor nas duas tabelas e
+     * mantém os primeiros por {@code (created_at, id)}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> getOrdersPageByCustomerId(UUID customerId, String cursor, int size) {
+        Limit limit = Limit.of(CursorPage.fetchLimit(size));
+        List<OrderSummaryRow> orders;
+        List<OrderSummaryRow> archived;
+        if (cursor == null) {
+            orders = orderRepository.findFirstPageByCustomerId(customerId, limit);
+            archived = archivedOrderRepository.findFirstPageByCustomerId(customerId, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            orders = orderRepository.findPageByCustomerIdAfter(
+                customerId, after.createdAt(), after.id(), limit
+            );
+            archived = archivedOrderRepository.findPageByCustomerIdAfter(
+                customerId, after.createdAt(), after.id(), limit
+            );
+        }
+        if (archived.isEmpty()) {
+            return toPage(orders, size);
+        }
+
+        Set<UUID> archivedIds = archived.stream().map(OrderSummaryRow::id).collect(Collectors.toSet());
+        List<OrderSummaryRow> merged = Stream.concat(orders.stream(), archived.stream())
+            .sorted(PAGE_ORDER)
+            .limit(limit.max())
+            .toList();
+        return CursorPage.of(
+            merged,
+            size,
+            order -> new Cursor(order.createdAt(), order.id()),
+            page -> withItems(page, archivedIds)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> getOrdersPageByStatus(OrderStatus status, String cursor, int size) {
+        Limit limit = Limit.of(CursorPage.fetchLimit(size));
+        List<OrderSummaryRow> orders;
+        if (cursor == null) {
+            orders = orderRepository.findFirstPageByStatus(status, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            orders = orderRepository.findPageByStatusAfter(
+                status, after.createdAt(), after.id(), limit
+            );
+        }
+        return toPage(orders, size);
+    }
+
+    private CursorPage<OrderResponse> toPage(List<OrderSummaryRow> orders, int size) {
+        return CursorPage.of(
+            orders,
+            size,
+            order -> new Cursor(order.createdAt(), order.id()),
+            this::withItems
+        );
+    }
+
+    /**
+     * Monta as respostas a partir das linhas pedido/item, que chegam agrupadas por pedido.
+     */
+    private List<OrderResponse> toResponses(List<OrderLineRow> lines) {
+        List<OrderResponse> responses = new ArrayList<>();
+        OrderResponse current = null;
+        for (OrderLineRow line : lines) {
+            if (current == null || !current.getId().equals(line.id())) {
+                current = orderMapper.toResponse(line);
+                current.setItems(new ArrayList<>(2));
+                responses.add(current);
+            }
+            if (line.itemId() != null) {
+                current.getItems().add(orderItemMapper.toResponse(line));
+            }
+        }
+        return responses;
+    }
+
+    private List<OrderResponse> withItems(List<OrderSummaryRow> orders) {
+        return withItems(orders, Set.of());
+    }
+
+    /**
+     * Converte a página de pedidos, lendo os itens de todos eles em um único SELECT por tabela;
+     * {@code archivedIds} indica os pedidos vindos do arquivo.
+     */
+    private List<OrderResponse> withItems(List<OrderSummaryRow> orders, Set<UUID> archivedIds) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        Map<Boolean, List<UUID>> orderIds = orders.stream()
+            .map(OrderSummaryRow::id)
+            .collect(Collectors.partitioningBy(archivedIds::contains));
+        List<OrderItemRow> items = new ArrayList<>();
+        if (!orderIds.get(false).isEmpty()) {
+            items.addAll(orderItemRepository.findRowsByOrderIdIn(orderIds.get(false)));
+        }
+        if (!orderIds.get(true).isEmpty()) {
+            items.addAll(archivedOrderRepository.findItemRowsByOrderIdIn(orderIds.get(true)));
+        }
+        Map<UUID, List<OrderItemResponse>> itemsByOrder = new HashMap<>(orders.size() * 2);
+        for (OrderItemRow item : items) {
+            itemsByOrder.computeIfAbsent(item.orderId(), id -> new ArrayList<>(2))
+                .add(orderItemMapper.toResponse(item));
+        }
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        for (OrderSummaryRow order : orders) {
+            OrderResponse response = orderMapper.toResponse(order);
+            response.setItems(itemsByOrder.getOrDefault(order.id(), new ArrayList<>()));
+            responses.add(response);
+        }
+        return responses;
     }
 
     public OrderResponse createOrder(CreateOrderRequest request) {
+        validateItems(request);
+
+        Customer customer = customerService.getCustomerReferenceById(request.getCustomerId());
+        Map<Long, PizzaResponse> pizzas = pizzaService.getPizzasByIds(pizzaIdsOf(List.of(request)));
+
+        Order savedOrder = orderRepository.save(buildOrder(request, customer, pizzas));
+        OrderResponse response = orderMapper.toResponse(savedOrder);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(response, savedOrder.getVersion(), null));
+        return response;
+    }
+
+    /**
+     * Cria vários pedidos em uma única transação. Clientes e pizzas de todo o lote são
+     * resolvidos de uma vez e os INSERTs seguem o JDBC batching do Hibernate. Pedidos
+     * inválidos são reportados individualmente sem impedir a criação dos demais.
+     */
+    public BatchOrderResponse createOrders(List<CreateOrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must have at least one order");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                "Batch must have at most " + MAX_BATCH_SIZE + " orders. Received: " + requests.size()
+            );
+        }
+
+        Set<UUID> customerIds = requests.stream()
+            .filter(Objects::nonNull)
+            .map(CreateOrderRequest::getCustomerId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<UUID, Customer> customers = customerService.findCustomerReferencesByIds(customerIds);
+        Map<Long, PizzaResponse> pizzas = pizzaService.findPizzasByIds(pizzaIdsOf(requests));
+
+        List<BatchOrderResult> results = new ArrayList<>(requests.size());
+        List<Order> orders = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            CreateOrderRequest request = requests.get(index);
+            try {
+                validateItems(request);
+                Customer customer = customers.get(request.getCustomerId());
+                if (customer == null) {
+                    throw new ResourceNotFoundException(
+                        CustomerService.CUSTOMER_NOT_FOUND + request.getCustomerId()
+                    );
+                }
+                for (OrderItemRequest item : request.getItems()) {
+                    if (!pizzas.containsKey(item.getPizzaId())) {
+                        throw new ResourceNotFoundException("Pizza not found with id: " + item.getPizzaId());
+                    }
+                }
+                orders.add(buildOrder(request, customer, pizzas));
+                results.add(BatchOrderResult.builder().index(index).success(true).build());
+            } catch (IllegalArgumentException | ResourceNotFoundException e) {
+                orders.add(null);
+                results.add(
+                    BatchOrderResult.builder().index(index).success(false).error(e.getMessage()).build()
+                );
+            }
+        }
+
+        orderRepository.saveAll(orders.stream().filter(Objects::nonNull).toList());
+
+        int created = 0;
+        for (int index = 0; index < orders.size(); index++) {
+            Order order = orders.get(index);
+            if (order != null) {
+                OrderResponse response = orderMapper.toResponse(order);
+                results.get(index).setOrder(response);
+                eventPublisher.publishEvent(new OrderStatusChangedEvent(response, order.getVersion(), null));
+                created++;
+            }
+        }
+        return BatchOrderResponse.builder()
+            .created(created)
+            .failed(requests.size() - created)
+            .results(results)
+            .build();
+    }
+
+    private void validateItems(CreateOrderRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Order is required");
+        }
         if (request.getItems() == null || request.getItems().isEmpty()) {
             throw new IllegalArgumentException("Order must have at least one item");
         }
+        for (OrderItemRequest item : request.getItems()) {
+            if (item == null) {
+                throw new IllegalArgumentException("Item is required");
+            }
+            if (item.getPizzaId() == null) {
+                throw new IllegalArgumentException("Item pizza id is required");
+            }
+            if (item.getQuantity() == null || item.getQuantity() < 1) {
+                throw new IllegalArgumentException(
+                    "Item quantity must be at least 1. Pizza id: " + item.getPizzaId()
+                );
+            }
+        }
+    }
 
-        Customer customer = customerService.getCustomerEntityById(request.getCustomerId());
+    private Set<Long> pizzaIdsOf(List<CreateOrderRequest> requests) {
+        return requests.stream()
+            .filter(request -> request != null && request.getItems() != null)
+            .flatMap(request -> request.getItems().stream())
+            .filter(Objects::nonNull)
+            .map(OrderItemRequest::getPizzaId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
 
+    private Order buildOrder(
+        CreateOrderRequest request,
+        Customer customer,
+        Map<Long, PizzaResponse> pizzas
+    ) {
         Order order = Order.builder().customer(customer).notes(request.getNotes()).build();
 
         for (OrderItemRequest itemRequest : request.getItems()) {
-            Pizza pizza = pizzaService.getPizzaEntityById(itemRequest.getPizzaId());
-
-            BigDecimal unitPrice = pizza.getPrice();
-            BigDecimal totalPrice = unitPrice.multiply(
-                BigDecimal.valueOf(itemRequest.getQuantity())
-            );
+            PizzaResponse pizza = pizzas.get(itemRequest.getPizzaId());
 
+            // addItem calcula o total do item e soma ao total do pedido
             OrderItem item = OrderItem.builder()
                 .pizzaId(pizza.getId())
                 .pizzaName(pizza.getName())
                 .quantity(itemRequest.getQuantity())
-                .unitPrice(unitPrice) // Fix: usar preço da pizza, não do request
-                .totalPrice(totalPrice) // Fix: calcular total price explicitamente
+                .unitPrice(Money.of(pizza.getPrice())) // Fix: usar preço da pizza, não do request
                 .build();
 
             order.addItem(item);
         }
-
-        order.calculateTotalAmount();
-        Order savedOrder = orderRepository.save(order);
-        return orderMapper.toResponse(savedOrder);
+        return order;
     }
 
     public OrderResponse confirmOrder(UUID orderId) {
-        Order order = orderRepository
-            .findById(orderId)
-            .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + orderId));
-
-        if (order.getStatus() != OrderStatus.PENDING) {
-            throw new InvalidOperationException(
-                "Only pending orders can be confirmed. Current status: " + order.getStatus()
-            );
-        }
-
-        order.setStatus(OrderStatus.CONFIRMED);
-        Order savedOrder = orderRepository.save(order);
-        return orderMapper.toResponse(savedOrder);
+        return applyTransition(orderId, OrderTransition.CONFIRM);
     }
 
     public OrderResponse startPreparing(UUID orderId) {
-        Order order = orderRepository
-            .findById(orderId)
-            .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + orderId));
-
-        if (order.getStatus() != OrderStatus.CONFIRMED) {
-            throw new InvalidOperationException(
-                "Only confirmed orders can start preparing. Current status: " + order.getStatus()
-            );
-        }
-
-        order.setStatus(OrderStatus.PREPARING);
-        Order savedOrder = orderRepository.save(order);
-        return orderMapper.toResponse(savedOrder);
+        return applyTransition(orderId, OrderTransition.START_PREPARING);
     }
 
     public OrderResponse markAsReady(UUID orderId) {
-        Order order = orderRepository
-            .findById(orderId)
-            .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + orderId));
-
-        if (order.getStatus() != OrderStatus.PREPARING) {
-            throw new InvalidOperationException(
-                "Only preparing orders can be marked as ready. Current status: " + order.getStatus()
-            );
-        }
-
-        order.setStatus(OrderStatus.READY);
-        Order savedOrder = orderRepository.save(order);
-        return orderMapper.toResponse(savedOrder);
+        return applyTransition(orderId, OrderTransition.MARK_READY);
     }
 
     public OrderResponse markAsInDelivery(UUID orderId) {
-        Order order = orderRepository
-            .findById(orderId)
-            .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + orderId));
-
-        if (order.getStatus() != OrderStatus.READY) {
-            throw new InvalidOperationException(
-                "Only ready orders can be marked as in delivery. Current status: " +
-                    order.getStatus()
-            );
-        }
-
-        order.setStatus(OrderStatus.IN_DELIVERY);
-        Order savedOrder = orderRepository.save(order);
-        return orderMapper.toResponse(savedOrder);
+        return applyTransition(orderId, OrderTransition.MARK_IN_DELIVERY);
     }
 
     public OrderResponse markAsDelivered(UUID orderId) {
-        Order order = orderRepository
-            .findById(orderId)
-            .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + orderId));
+        return applyTransition(orderId, OrderTransition.MARK_DELIVERED);
+    }
 
-        if (order.getStatus() != OrderStatus.IN_DELIVERY) {
-            throw new InvalidOperationException(
-                "Only in delivery orders can be marked as delivered. Current status: " +
-                    order.getStatus()
+    public OrderResponse cancelOrder(UUID orderId) {
+        return applyTransition(orderId, OrderTransition.CANCEL);
+    }
+
+    /**
+     * Aplica a transição com um UPDATE condicional ao status de origem, sem carregar o
+     * pedido antes: dois terminais concorrentes nunca aplicam a mesma transição duas vezes.
+     *
+     * Transições com várias origens (cancelamento) leem o status atual e fazem o
+     * compare-and-set sobre ele, repetindo caso outro terminal o altere no meio; assim o
+     * status anterior publicado no evento é sempre exato. Se o status continuar mudando após
+     * {@code MAX_TRANSITION_ATTEMPTS} tentativas, a transição é recusada com uma mensagem de
+     * concorrência (o status atual ainda permitiria a transição).
+     */
+    private OrderResponse applyTransition(UUID orderId, OrderTransition transition) {
+        for (int attempt = 1; ; attempt++) {
+            OrderStatus source = transition.getSources().size() == 1
+                ? transition.getSources().iterator().next()
+                : currentStatus(orderId);
+            if (!transition.allowsFrom(source)) {
+                throw new InvalidOperationException(transition.rejectionMessage(source));
+            }
+
+            int updated = orderRepository.transition(
+                orderId,
+                source,
+                transition.getTarget(),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
             );
+            if (updated == 1) {
+                Order order = orderRepository
+                    .findWithItemsById(orderId)
+                    .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + orderId));
+                OrderResponse response = orderMapper.toResponse(order);
+                eventPublisher.publishEvent(new OrderStatusChangedEvent(response, order.getVersion(), source));
+                return response;
+            }
+
+            OrderStatus current = currentStatus(orderId);
+            if (!transition.allowsFrom(current)) {
+                throw new InvalidOperationException(transition.rejectionMessage(current));
+            }
+            if (attempt >= MAX_TRANSITION_ATTEMPTS) {
+                throw new InvalidOperationException(
+                    "Order " + orderId + " kept changing concurrently; transition to " + transition.getTarget()
+                        + " not applied after " + attempt + " attempts. Current status: " + current
+                );
+            }
         }
-
-        order.setStatus(OrderStatus.DELIVERED);
-        Order savedOrder = orderRepository.save(order);
-        return orderMapper.toResponse(savedOrder);
     }
 
-    public OrderResponse cancelOrder(UUID orderId) {
-        Order order = orderRepository
-            .findById(orderId)
+    private OrderStatus currentStatus(UUID orderId) {
+        return orderRepository
+            .findStatusById(orderId)
             .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + orderId));
+    }
 
-        if (
-            order.getStatus() == OrderStatus.DELIVERED || order.getStatus() == OrderStatus.CANCELLED
-        ) {
-            throw new InvalidOperationException(
-                "Cannot cancel delivered or already cancelled orders. Current status: " +
-                    order.getStatus()
+    /**
+     * Move vários pedidos para o mesmo status com um UPDATE condicional por status de origem
+     * ({@code WHERE id IN (...) AND status = ?}).
+     *
+     * Os status atuais são lidos antes para agrupar os pedidos elegíveis. Se algum UPDATE
+     * afetar menos linhas que o esperado (concorrência), o {@code updated_at} exclusivo gravado
+     * pela operação é usado para apurar quais pedidos foram efetivamente movidos por esta chamada.
+     */
+    public BulkTransitionResponse transitionOrders(BulkTransitionRequest request) {
+        if (request.getTargetStatus() == null) {
+            throw new IllegalArgumentException("Target status is required");
+        }
+        if (request.getOrderIds() == null || request.getOrderIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one order id is required");
+        }
+        Set<UUID> orderIds = new LinkedHashSet<>(request.getOrderIds());
+        if (orderIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                "Batch must have at most " + MAX_BATCH_SIZE + " orders. Received: " + orderIds.size()
+            );
+        }
+        OrderTransition transition = OrderTransition.toStatus(request.getTargetStatus());
+
+        Map<UUID, OrderStatusView> before = statusesOf(orderIds);
+        Map<OrderStatus, List<UUID>> eligibleBySource = before.values().stream()
+            .filter(view -> transition.allowsFrom(view.getStatus()))
+            .collect(Collectors.groupingBy(
+                OrderStatusView::getStatus,
+                Collectors.mapping(OrderStatusView::getId, Collectors.toList())
+            ));
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        boolean raced = false;
+        for (Map.Entry<OrderStatus, List<UUID>> group : eligibleBySource.entrySet()) {
+            int updated = orderRepository.transitionAll(
+                group.getValue(), group.getKey(), transition.getTarget(), now
+            );
+            raced |= updated != group.getValue().size();
+        }
+        Map<UUID, OrderStatusView> after = raced ? statusesOf(orderIds) : before;
+
+        List<BulkTransitionResult> results = new ArrayList<>(orderIds.size());
+        List<UUID> appliedIds = new ArrayList<>();
+        for (UUID orderId : orderIds) {
+            OrderStatusView previous = before.get(orderId);
+            OrderStatusView current = after.get(orderId);
+            BulkTransitionResult.BulkTransitionResultBuilder result = BulkTransitionResult.builder()
+                .orderId(orderId);
+            boolean applied = previous != null && transition.allowsFrom(previous.getStatus()) && (
+                !raced || (current != null
+                    && current.getStatus() == transition.getTarget()
+                    && now.equals(current.getUpdatedAt()))
             );
+            if (previous == null) {
+                result.success(false).error(ORDER_NOT_FOUND + orderId);
+            } else if (applied) {
+                result.success(true).status(transition.getTarget());
+                appliedIds.add(orderId);
+            } else {
+                OrderStatus status = current != null ? current.getStatus() : previous.getStatus();
+                result.success(false).status(status).error(transition.rejectionMessage(status));
+            }
+            results.add(result.build());
         }
 
-        order.setStatus(OrderStatus.CANCELLED);
-        Order savedOrder = orderRepository.save(order);
-        return orderMapper.toResponse(savedOrder);
+        if (!appliedIds.isEmpty()) {
+            for (Order order : orderRepository.findWithItemsByIdIn(appliedIds)) {
+                eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    orderMapper.toResponse(order),
+                    order.getVersion(),
+                    before.get(order.getId()).getStatus()
+                ));
+            }
+        }
+
+        return BulkTransitionResponse.builder()
+            .targetStatus(transition.getTarget())
+            .applied(appliedIds.size())
+            .rejected(orderIds.size() - appliedIds.size())
+            .results(results)
+            .build();
+    }
+
+    private Map<UUID, OrderStatusView> statusesOf(Set<UUID> orderIds) {
+        return orderRepository.findStatusesByIdIn(orderIds).stream()
+            .collect(Collectors.toMap(OrderStatusView::getId, Function.identity()));
     }
 
     public void deleteOrder(UUID orderId) {
@@ -198,6 +563,7 @@ public class OrderService {
             .findById(orderId)
             .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND + orderId));
         orderRepository.delete(order);
+        eventPublisher.publishEvent(new OrderDeletedEvent(orderId));
     }
 
     @Transactional(readOnly = true)
@@ -205,7 +571,45 @@ public class OrderService {
         LocalDateTime startDate,
         LocalDateTime endDate
     ) {
-        List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-        return orderMapper.toResponseList(orders);
+        return toResponses(orderRepository.findLinesByCreatedAtBetween(startDate, endDate));
+    }
+
+    /**
+     * Exporta os pedidos do período em streaming, entregando cada pedido completo ao
+     * {@code sink} assim que seus itens são lidos. O contexto de persistência é limpo a cada
+     * pedido emitido, então a memória usada independe do tamanho do período.
+     *
+     * @return quantidade de pedidos exportados
+     */
+    @Transactional(readOnly = true)
+    public long exportOrdersByDateRange(
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Consumer<OrderResponse> sink
+    ) {
+        long exported = 0;
+        OrderResponse current = null;
+        try (Stream<OrderItem> items = orderItemRepository.streamByOrderCreatedAtBetween(startDate, endDate)) {
+            Iterator<OrderItem> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                OrderItem item = iterator.next();
+                Order order = item.getOrder();
+                if (current == null || !current.getId().equals(order.getId())) {
+                    if (current != null) {
+                        sink.accept(current);
+                        exported++;
+                        entityManager.clear();
+                    }
+                    current = orderMapper.toResponseWithoutItems(order);
+                    current.setItems(new ArrayList<>());
+                }
+                current.getItems().add(orderItemMapper.toResponse(item));
+            }
+        }
+        if (current != null) {
+            sink.accept(current);
+            exported++;
+        }
+        return exported;
     }
 }
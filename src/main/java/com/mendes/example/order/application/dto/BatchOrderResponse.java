@@ -0,0 +1,21 @@
+package com.mendes.example.order.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para criação de pedidos em lote.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchOrderResponse {
+    private int created;
+    private int failed;
+    private List<BatchOrderResult> results;
+}
@@ -0,0 +1,21 @@
+package com.mendes.example.order.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de um pedido dentro de um lote: {@code order} quando criado,
+ * {@code error} quando rejeitado. {@code index} é a posição do pedido na requisição.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchOrderResult {
+    private int index;
+    private boolean success;
+    private OrderResponse order;
+    private String error;
+}
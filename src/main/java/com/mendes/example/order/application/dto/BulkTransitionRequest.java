@@ -0,0 +1,22 @@
+package com.mendes.example.order.application.dto;
+
+import com.mendes.example.order.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para mover vários pedidos para o mesmo status de destino.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTransitionRequest {
+    private OrderStatus targetStatus;
+    private List<UUID> orderIds;
+}
@@ -0,0 +1,23 @@
+package com.mendes.example.order.application.dto;
+
+import com.mendes.example.order.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para transições de status em lote.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTransitionResponse {
+    private OrderStatus targetStatus;
+    private int applied;
+    private int rejected;
+    private List<BulkTransitionResult> results;
+}
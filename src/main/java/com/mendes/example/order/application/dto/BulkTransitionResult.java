@@ -0,0 +1,24 @@
+package com.mendes.example.order.application.dto;
+
+import com.mendes.example.order.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Resultado da transição de um pedido dentro de uma transição em lote.
+ * {@code status} é o status do pedido após a operação ({@code null} se não encontrado).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTransitionResult {
+    private UUID orderId;
+    private boolean success;
+    private OrderStatus status;
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.mendes.example.order.application.dto;
+
+import com.mendes.example.order.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload das mensagens de ciclo de vida do pedido gravadas no outbox.
+ * {@code previousStatus} é {@code null} na criação do pedido.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderLifecycleMessage {
+    private OrderStatus previousStatus;
+    private long version;
+    private OrderResponse order;
+}
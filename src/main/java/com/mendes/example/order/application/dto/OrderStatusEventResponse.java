@@ -0,0 +1,26 @@
+package com.mendes.example.order.application.dto;
+
+import com.mendes.example.order.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload dos eventos de status de pedido enviados via Server-Sent Events.
+ * {@code previousStatus} é {@code null} quando o pedido acabou de ser criado.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusEventResponse {
+    private UUID orderId;
+    private UUID customerId;
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,9 @@
+package com.mendes.example.order.application.event;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado pelo {@code OrderService} quando um pedido é excluído.
+ */
+public record OrderDeletedEvent(UUID orderId) {
+}
@@ -0,0 +1,21 @@
+package com.mendes.example.order.application.event;
+
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.domain.OrderStatus;
+
+/**
+ * Evento publicado pelo {@code OrderService} quando um pedido é criado ou muda de status.
+ *
+ * @param order          estado do pedido após a alteração
+ * @param version        versão do pedido (lock otimista) após a alteração
+ * @param previousStatus status anterior, ou {@code null} quando o pedido acabou de ser criado
+ */
+public record OrderStatusChangedEvent(OrderResponse order, long version, OrderStatus previousStatus) {
+
+    /**
+     * Indica se o evento corresponde à criação do pedido.
+     */
+    public boolean isCreation() {
+        return previousStatus == null;
+    }
+}
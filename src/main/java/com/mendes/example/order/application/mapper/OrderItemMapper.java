@@ -1,12 +1,17 @@
 package com.mendes.example.order.application.mapper;
 
 import com.mendes.example.order.application.dto.OrderItemResponse;
+import com.mendes.example.order.domain.ArchivedOrderItem;
 import com.mendes.example.order.domain.OrderItem;
+import com.mendes.example.order.infrastructure.OrderItemRow;
+import com.mendes.example.order.infrastructure.OrderLineRow;
+import com.mendes.example.shared.money.MoneyMapper;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = MoneyMapper.class)
 public interface OrderItemMapper {
 
     /**
@@ -18,4 +23,21 @@ public interface OrderItemMapper {
      * Converte lista de OrderItem entities para lista de OrderItemResponse
      */
     List<OrderItemResponse> toResponseList(List<OrderItem> orderItems);
+
+    /**
+     * Converte item de pedido arquivado para OrderItemResponse
+     */
+    OrderItemResponse toResponse(ArchivedOrderItem orderItem);
+
+    /**
+     * Converte a projeção de item para OrderItemResponse
+     */
+    OrderItemResponse toResponse(OrderItemRow row);
+
+    /**
+     * Converte as colunas de item da projeção de pedido com item para OrderItemResponse
+     */
+    @Mapping(source = "itemId", target = "id")
+    @Mapping(source = "itemCreatedAt", target = "createdAt")
+    OrderItemResponse toResponse(OrderLineRow row);
 }
@@ -1,13 +1,18 @@
 package com.mendes.example.order.application.mapper;
 
 import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.domain.ArchivedOrder;
 import com.mendes.example.order.domain.Order;
+import com.mendes.example.order.infrastructure.OrderLineRow;
+import com.mendes.example.order.infrastructure.OrderSummaryRow;
+import com.mendes.example.shared.money.MoneyMapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import java.util.List;
 
-@Mapper(componentModel = "spring", uses = {OrderItemMapper.class})
+@Mapper(componentModel = "spring", uses = {OrderItemMapper.class, MoneyMapper.class})
 public interface OrderMapper {
 
     /**
@@ -17,7 +22,34 @@ public interface OrderMapper {
     OrderResponse toResponse(Order order);
 
     /**
-     * Converte lista de Order entities para lista de OrderResponse
+     * Converte Order entity para OrderResponse sem acessar a coleção de itens,
+     * para quando os itens já foram carregados por outra consulta
      */
-    List<OrderResponse> toResponseList(List<Order> orders);
+    @Mapping(source = "customer.id", target = "customerId")
+    @Mapping(target = "items", ignore = true)
+    @Named("withoutItems")
+    OrderResponse toResponseWithoutItems(Order order);
+
+    /**
+     * Converte a projeção de pedido para OrderResponse; os itens são preenchidos pelo chamador
+     */
+    @Mapping(target = "items", ignore = true)
+    OrderResponse toResponse(OrderSummaryRow row);
+
+    /**
+     * Converte as colunas de pedido da projeção com item para OrderResponse; os itens são
+     * preenchidos pelo chamador
+     */
+    @Mapping(target = "items", ignore = true)
+    OrderResponse toResponse(OrderLineRow row);
+
+    /**
+     * Converte pedido arquivado para OrderResponse
+     */
+    OrderResponse toResponse(ArchivedOrder order);
+
+    /**
+     * Converte lista de pedidos arquivados para lista de OrderResponse
+     */
+    List<OrderResponse> toArchivedResponseList(List<ArchivedOrder> orders);
 }
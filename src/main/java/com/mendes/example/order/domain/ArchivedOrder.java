@@ -0,0 +1,61 @@
+package com.mendes.example.order.domain;
+
+import com.mendes.example.shared.money.Money;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pedido finalizado (entregue/cancelado) movido para {@code orders_archive} pelo
+ * {@code OrderArchiver}. Somente leitura: as linhas são gravadas por INSERT ... SELECT
+ * a partir de {@code orders}.
+ */
+@Entity
+@Immutable
+@Table(
+        name = "orders_archive",
+        indexes = @Index(name = "idx_orders_archive_customer_created_at_id", columnList = "customer_id, created_at, id")
+)
+@Getter
+@NoArgsConstructor
+public class ArchivedOrder {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private Money totalAmount;
+
+    @Column(length = 500)
+    private String notes;
+
+    @OneToMany(mappedBy = "order", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    private List<ArchivedOrderItem> items = new ArrayList<>();
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,46 @@
+package com.mendes.example.order.domain;
+
+import com.mendes.example.shared.money.Money;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Item de um {@link ArchivedOrder}, copiado de {@code order_item}. Somente leitura.
+ */
+@Entity
+@Immutable
+@Table(name = "order_item_archive")
+@Getter
+@NoArgsConstructor
+public class ArchivedOrderItem {
+
+    @Id
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private ArchivedOrder order;
+
+    @Column(name = "pizza_id", nullable = false)
+    private Long pizzaId;
+
+    @Column(nullable = false)
+    private String pizzaName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false)
+    private Money unitPrice;
+
+    @Column(nullable = false)
+    private Money totalPrice;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,22 +1,30 @@
 package com.mendes.example.order.domain;
 
 import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.shared.money.Money;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+            @Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+            @Index(name = "idx_orders_status_created_at_id", columnList = "status, created_at, id"),
+            @Index(name = "idx_orders_customer_created_at_id", columnList = "customer_id, created_at, id")
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,12 +44,14 @@ public class Order {
     private OrderStatus status;
 
     @Column(nullable = false)
-    private BigDecimal totalAmount;
+    @Builder.Default
+    private Money totalAmount = Money.ZERO;
 
     @Column(length = 500)
     private String notes;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<OrderItem> items = new ArrayList<>();
 
@@ -51,10 +61,16 @@ public class Order {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Lock otimista; as transições de status também o incrementam no UPDATE condicional
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // Truncado para a precisão da coluna, mantendo o cursor (created_at, id) estável
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
         status = OrderStatus.PENDING;
     }
 
@@ -64,10 +80,11 @@ public class Order {
     }
 
     public void calculateTotalAmount() {
-        totalAmount = items.stream()
-                .map(OrderItem::getTotalPrice)
-                .filter(Objects::nonNull)  // Filtrar nulls para segurança
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money total = Money.ZERO;
+        for (OrderItem item : items) {
+            total = total.plus(item.getTotalPrice());
+        }
+        totalAmount = total;
     }
 
     public void addItem(OrderItem item) {
@@ -75,12 +92,14 @@ public class Order {
         item.calculateTotalPrice();
         items.add(item);
         item.setOrder(this);
-        calculateTotalAmount();
+        // Soma só o item novo: recalcular a lista inteira a cada inclusão seria quadrático
+        totalAmount = totalAmount.plus(item.getTotalPrice());
     }
 
     public void removeItem(OrderItem item) {
-        items.remove(item);
-        calculateTotalAmount();
+        if (items.remove(item)) {
+            totalAmount = totalAmount.minus(item.getTotalPrice());
+        }
     }
 }
 
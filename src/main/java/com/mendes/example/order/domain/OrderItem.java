@@ -1,12 +1,12 @@
 package com.mendes.example.order.domain;
 
+import com.mendes.example.shared.money.Money;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -36,10 +36,10 @@ public class OrderItem {
     private Integer quantity;
 
     @Column(nullable = false)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @Column(nullable = false)
-    private BigDecimal totalPrice;
+    private Money totalPrice;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -53,11 +53,11 @@ public class OrderItem {
     /**
      * Calcula o totalPrice se for null
      */
-    public BigDecimal getTotalPrice() {
+    public Money getTotalPrice() {
         if (totalPrice == null && unitPrice != null && quantity != null) {
-            totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            totalPrice = unitPrice.times(quantity);
         }
-        return totalPrice != null ? totalPrice : BigDecimal.ZERO;
+        return totalPrice != null ? totalPrice : Money.ZERO;
     }
 
     /**
@@ -65,7 +65,7 @@ public class OrderItem {
      */
     public void calculateTotalPrice() {
         if (unitPrice != null && quantity != null) {
-            totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            totalPrice = unitPrice.times(quantity);
         }
     }
 }
@@ -0,0 +1,80 @@
+package com.mendes.example.order.domain;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Tabela de transições da máquina de estados de pedidos (ADR-008).
+ *
+ * Cada transição define o status de destino e os status de origem a partir dos quais é
+ * permitida. A tabela é aplicada no banco como um UPDATE condicional
+ * ({@code WHERE id = ? AND status IN (...)}), sem carregar o pedido antes.
+ */
+public enum OrderTransition {
+    CONFIRM(OrderStatus.CONFIRMED, "Only pending orders can be confirmed",
+            OrderStatus.PENDING),
+    START_PREPARING(OrderStatus.PREPARING, "Only confirmed orders can start preparing",
+            OrderStatus.CONFIRMED),
+    MARK_READY(OrderStatus.READY, "Only preparing orders can be marked as ready",
+            OrderStatus.PREPARING),
+    MARK_IN_DELIVERY(OrderStatus.IN_DELIVERY, "Only ready orders can be marked as in delivery",
+            OrderStatus.READY),
+    MARK_DELIVERED(OrderStatus.DELIVERED, "Only in delivery orders can be marked as delivered",
+            OrderStatus.IN_DELIVERY),
+    CANCEL(OrderStatus.CANCELLED, "Cannot cancel delivered or already cancelled orders",
+            OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PREPARING,
+            OrderStatus.READY, OrderStatus.IN_DELIVERY);
+
+    private final OrderStatus target;
+    private final Set<OrderStatus> sources;
+    private final String rejection;
+
+    OrderTransition(OrderStatus target, String rejection, OrderStatus first, OrderStatus... rest) {
+        this.target = target;
+        this.sources = Collections.unmodifiableSet(EnumSet.of(first, rest));
+        this.rejection = rejection;
+    }
+
+    /**
+     * Transição que leva ao status informado.
+     *
+     * @throws IllegalArgumentException caso nenhuma transição leve ao status (ex.: PENDING)
+     */
+    public static OrderTransition toStatus(OrderStatus target) {
+        for (OrderTransition transition : values()) {
+            if (transition.target == target) {
+                return transition;
+            }
+        }
+        throw new IllegalArgumentException("No transition leads to status: " + target);
+    }
+
+    /**
+     * Status resultante da transição.
+     */
+    public OrderStatus getTarget() {
+        return target;
+    }
+
+    /**
+     * Status a partir dos quais a transição é permitida.
+     */
+    public Set<OrderStatus> getSources() {
+        return sources;
+    }
+
+    /**
+     * Indica se a transição é permitida a partir do status informado.
+     */
+    public boolean allowsFrom(OrderStatus current) {
+        return sources.contains(current);
+    }
+
+    /**
+     * Mensagem de erro para uma tentativa a partir de um status não permitido.
+     */
+    public String rejectionMessage(OrderStatus current) {
+        return rejection + ". Current status: " + current;
+    }
+}
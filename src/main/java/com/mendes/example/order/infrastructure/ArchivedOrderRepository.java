@@ -0,0 +1,121 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.order.domain.ArchivedOrder;
+import com.mendes.example.order.domain.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, UUID> {
+
+    @EntityGraph(attributePaths = "items")
+    Optional<ArchivedOrder> findWithItemsById(UUID id);
+
+    @EntityGraph(attributePaths = "items")
+    List<ArchivedOrder> findByCustomerId(UUID customerId);
+
+    // Páginas por keyset em (created_at, id), intercaladas às de orders por OrderService
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSummaryRow(
+                o.id, o.customerId, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt)
+            from ArchivedOrder o
+            where o.customerId = :customerId
+            order by o.createdAt asc, o.id asc""")
+    List<OrderSummaryRow> findFirstPageByCustomerId(UUID customerId, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSummaryRow(
+                o.id, o.customerId, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt)
+            from ArchivedOrder o
+            where o.customerId = :customerId and o.createdAt >= :createdAt
+              and (o.createdAt > :createdAt or (o.createdAt = :createdAt and o.id > :id))
+            order by o.createdAt asc, o.id asc""")
+    List<OrderSummaryRow> findPageByCustomerIdAfter(UUID customerId, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderItemRow(
+                i.order.id, i.id, i.pizzaId, i.pizzaName, i.quantity, i.unitPrice, i.totalPrice, i.createdAt)
+            from ArchivedOrderItem i
+            where i.order.id in :orderIds""")
+    List<OrderItemRow> findItemRowsByOrderIdIn(Collection<UUID> orderIds);
+
+    // Análises de pedidos: mesmos blocos por keyset em (created_at, id) de OrderRepository,
+    // lidos depois dos da tabela quente (OrderAnalyticsService)
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderAnalyticsRow(
+                o.id, o.createdAt, o.status, o.totalAmount, c.city)
+            from ArchivedOrder o join Customer c on c.id = o.customerId
+            where o.createdAt >= :start and o.createdAt < :end
+            order by o.createdAt asc, o.id asc""")
+    List<OrderAnalyticsRow> findFirstAnalyticsChunk(LocalDateTime start, LocalDateTime end, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderAnalyticsRow(
+                o.id, o.createdAt, o.status, o.totalAmount, c.city)
+            from ArchivedOrder o join Customer c on c.id = o.customerId
+            where o.createdAt >= :createdAt and o.createdAt < :end
+              and (o.createdAt > :createdAt or (o.createdAt = :createdAt and o.id > :id))
+            order by o.createdAt asc, o.id asc""")
+    List<OrderAnalyticsRow> findAnalyticsChunkAfter(LocalDateTime end, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderItemAnalyticsRow(
+                i.order.id, i.pizzaId, i.quantity, i.totalPrice)
+            from ArchivedOrderItem i
+            where i.order.id in :orderIds""")
+    List<OrderItemAnalyticsRow> findAnalyticsRowsByOrderIdIn(Collection<UUID> orderIds);
+
+    /**
+     * Vendas dos pedidos arquivados criados no período, para o backfill dos rollups; mesmo
+     * formato e ordem de {@link OrderItemRepository#streamSalesByOrderCreatedAt}.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSalesRow(
+                o.id, o.status, o.createdAt, i.pizzaId, i.pizzaName, i.quantity, i.totalPrice)
+            from ArchivedOrderItem i join i.order o
+            where o.createdAt >= :start and o.createdAt < :end and o.status in :statuses
+            order by o.createdAt asc, o.id asc""")
+    Stream<OrderSalesRow> streamSalesByOrderCreatedAt(LocalDateTime start, LocalDateTime end,
+                                                      Collection<OrderStatus> statuses);
+
+    // Arquivamento: copia pedidos e itens das tabelas quentes com INSERT ... SELECT, sem
+    // trazer as linhas para a aplicação; a remoção das originais fica a cargo do chamador
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into orders_archive
+                (id, customer_id, status, total_amount, notes, created_at, updated_at, version, archived_at)
+            select id, customer_id, status, total_amount, notes, created_at, updated_at, version, :archivedAt
+            from orders
+            where id in (:orderIds)""")
+    int copyOrders(Collection<UUID> orderIds, LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into order_item_archive
+                (id, order_id, pizza_id, pizza_name, quantity, unit_price, total_price, created_at)
+            select id, order_id, pizza_id, pizza_name, quantity, unit_price, total_price, created_at
+            from order_item
+            where order_id in (:orderIds)""")
+    int copyItems(Collection<UUID> orderIds);
+}
@@ -0,0 +1,20 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.shared.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção de um pedido com a cidade do cliente, lida em blocos pelas análises de pedidos
+ * sem carregar entidades.
+ */
+public record OrderAnalyticsRow(
+    UUID id,
+    LocalDateTime createdAt,
+    OrderStatus status,
+    Money totalAmount,
+    String city
+) {
+}
@@ -0,0 +1,21 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.order.domain.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.key = :key and k.createdAt < :cutoff")
+    int deleteExpired(String key, LocalDateTime cutoff);
+
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.createdAt < :cutoff")
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,11 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.shared.money.Money;
+
+import java.util.UUID;
+
+/**
+ * Projeção de um item de pedido usada pelas análises de pedidos.
+ */
+public record OrderItemAnalyticsRow(UUID orderId, Long pizzaId, Integer quantity, Money totalPrice) {
+}
@@ -1,14 +1,73 @@
 package com.mendes.example.order.infrastructure;
 
 import com.mendes.example.order.domain.OrderItem;
+import com.mendes.example.order.domain.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
     List<OrderItem> findByOrderId(UUID orderId);
-}
 
+    /**
+     * Itens (com o pedido) criados no período, agrupados por pedido em ordem de
+     * {@code (created_at, id)}. Lido em streaming com fetch size; deve ser consumido
+     * dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select i from OrderItem i join fetch i.order o
+            where o.createdAt between :startDate and :endDate
+            order by o.createdAt asc, o.id asc, i.createdAt asc""")
+    Stream<OrderItem> streamByOrderCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Vendas (uma linha por item) dos pedidos criados em {@code [start, end)} com os status
+     * informados, em ordem de {@code (created_at, id)} do pedido; usada pelo backfill dos
+     * rollups. Lido em streaming, como {@link #streamByOrderCreatedAtBetween}.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSalesRow(
+                o.id, o.status, o.createdAt, i.pizzaId, i.pizzaName, i.quantity, i.totalPrice)
+            from OrderItem i join i.order o
+            where o.createdAt >= :start and o.createdAt < :end and o.status in :statuses
+            order by o.createdAt asc, o.id asc""")
+    Stream<OrderSalesRow> streamSalesByOrderCreatedAt(LocalDateTime start, LocalDateTime end,
+                                                      Collection<OrderStatus> statuses);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderItemRow(
+                i.order.id, i.id, i.pizzaId, i.pizzaName, i.quantity, i.unitPrice, i.totalPrice, i.createdAt)
+            from OrderItem i
+            where i.order.id in :orderIds""")
+    List<OrderItemRow> findRowsByOrderIdIn(Collection<UUID> orderIds);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderItemAnalyticsRow(
+                i.order.id, i.pizzaId, i.quantity, i.totalPrice)
+            from OrderItem i
+            where i.order.id in :orderIds""")
+    List<OrderItemAnalyticsRow> findAnalyticsRowsByOrderIdIn(Collection<UUID> orderIds);
+
+    @Modifying
+    @Query("delete from OrderItem i where i.order.id in :orderIds")
+    int deleteByOrderIdIn(Collection<UUID> orderIds);
+}
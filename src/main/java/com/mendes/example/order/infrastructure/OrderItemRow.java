@@ -0,0 +1,21 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.shared.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção de um item com o id do pedido, carregada em lote para as páginas de pedidos.
+ */
+public record OrderItemRow(
+    UUID orderId,
+    UUID id,
+    Long pizzaId,
+    String pizzaName,
+    Integer quantity,
+    Money unitPrice,
+    Money totalPrice,
+    LocalDateTime createdAt
+) {
+}
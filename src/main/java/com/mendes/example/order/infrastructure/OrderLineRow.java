@@ -0,0 +1,30 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.shared.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção de um pedido com um de seus itens (left join: colunas do item nulas em pedidos sem
+ * itens), usada pelas listagens completas para montar as respostas em um único SELECT, sem
+ * carregar entidades. As linhas de um mesmo pedido vêm consecutivas.
+ */
+public record OrderLineRow(
+    UUID id,
+    UUID customerId,
+    OrderStatus status,
+    Money totalAmount,
+    String notes,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    UUID itemId,
+    Long pizzaId,
+    String pizzaName,
+    Integer quantity,
+    Money unitPrice,
+    Money totalPrice,
+    LocalDateTime itemCreatedAt
+) {
+}
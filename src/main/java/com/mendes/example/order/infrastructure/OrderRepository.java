@@ -2,18 +2,216 @@ package com.mendes.example.order.infrastructure;
 
 import com.mendes.example.order.domain.Order;
 import com.mendes.example.order.domain.OrderStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, UUID> {
+    // Finders usados pelas listagens carregam os itens no mesmo SELECT (evita N+1 no mapper)
+
+    @Override
+    @EntityGraph(attributePaths = "items")
+    List<Order> findAll();
+
+    @EntityGraph(attributePaths = "items")
+    Optional<Order> findWithItemsById(UUID id);
+
+    @EntityGraph(attributePaths = "items")
+    List<Order> findWithItemsByIdIn(Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = "items")
+    List<Order> findWithItemsByStatusIn(Collection<OrderStatus> statuses);
+
+    @EntityGraph(attributePaths = "items")
     List<Order> findByCustomerId(UUID customerId);
-    List<Order> findByStatus(OrderStatus status);
+
+    @EntityGraph(attributePaths = "items")
     List<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status);
-    List<Order> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
-}
 
+    // Listagens somente leitura: pedido e itens projetados em um único SELECT (uma linha por
+    // item), sem entidades no contexto de persistência nem snapshots para dirty checking
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderLineRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt,
+                i.id, i.pizzaId, i.pizzaName, i.quantity, i.unitPrice, i.totalPrice, i.createdAt)
+            from Order o left join o.items i
+            order by o.createdAt asc, o.id asc""")
+    List<OrderLineRow> findAllLines();
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderLineRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt,
+                i.id, i.pizzaId, i.pizzaName, i.quantity, i.unitPrice, i.totalPrice, i.createdAt)
+            from Order o left join o.items i
+            where o.customer.id = :customerId
+            order by o.createdAt asc, o.id asc""")
+    List<OrderLineRow> findLinesByCustomerId(UUID customerId);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderLineRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt,
+                i.id, i.pizzaId, i.pizzaName, i.quantity, i.unitPrice, i.totalPrice, i.createdAt)
+            from Order o left join o.items i
+            where o.status = :status
+            order by o.createdAt asc, o.id asc""")
+    List<OrderLineRow> findLinesByStatus(OrderStatus status);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderLineRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt,
+                i.id, i.pizzaId, i.pizzaName, i.quantity, i.unitPrice, i.totalPrice, i.createdAt)
+            from Order o left join o.items i
+            where o.createdAt between :startDate and :endDate
+            order by o.createdAt asc, o.id asc""")
+    List<OrderLineRow> findLinesByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    // Paginação por keyset em (created_at, id), projetada sem itens: o limite vale para pedidos,
+    // e os itens da página são lidos depois em um único SELECT (OrderItemRepository.findRowsByOrderIdIn).
+    // O limite inferior redundante em created_at faz o índice começar a varredura na chave do cursor
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSummaryRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt)
+            from Order o
+            order by o.createdAt asc, o.id asc""")
+    List<OrderSummaryRow> findFirstPage(Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSummaryRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt)
+            from Order o
+            where o.createdAt >= :createdAt
+              and (o.createdAt > :createdAt or (o.createdAt = :createdAt and o.id > :id))
+            order by o.createdAt asc, o.id asc""")
+    List<OrderSummaryRow> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSummaryRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt)
+            from Order o
+            where o.status = :status
+            order by o.createdAt asc, o.id asc""")
+    List<OrderSummaryRow> findFirstPageByStatus(OrderStatus status, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSummaryRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt)
+            from Order o
+            where o.status = :status and o.createdAt >= :createdAt
+              and (o.createdAt > :createdAt or (o.createdAt = :createdAt and o.id > :id))
+            order by o.createdAt asc, o.id asc""")
+    List<OrderSummaryRow> findPageByStatusAfter(OrderStatus status, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSummaryRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt)
+            from Order o
+            where o.customer.id = :customerId
+            order by o.createdAt asc, o.id asc""")
+    List<OrderSummaryRow> findFirstPageByCustomerId(UUID customerId, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderSummaryRow(
+                o.id, o.customer.id, o.status, o.totalAmount, o.notes, o.createdAt, o.updatedAt)
+            from Order o
+            where o.customer.id = :customerId and o.createdAt >= :createdAt
+              and (o.createdAt > :createdAt or (o.createdAt = :createdAt and o.id > :id))
+            order by o.createdAt asc, o.id asc""")
+    List<OrderSummaryRow> findPageByCustomerIdAfter(UUID customerId, LocalDateTime createdAt, UUID id, Limit limit);
+
+    // Transições de status (compare-and-set): um único UPDATE condicionado ao status atual
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Order o
+            set o.status = :target, o.updatedAt = :now, o.version = o.version + 1
+            where o.id = :id and o.status = :source""")
+    int transition(UUID id, OrderStatus source, OrderStatus target, LocalDateTime now);
+
+    @Query("select o.status from Order o where o.id = :id")
+    Optional<OrderStatus> findStatusById(UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Order o
+            set o.status = :target, o.updatedAt = :now, o.version = o.version + 1
+            where o.id in :ids and o.status = :source""")
+    int transitionAll(Collection<UUID> ids, OrderStatus source, OrderStatus target, LocalDateTime now);
+
+    @Query("select o.id as id, o.status as status, o.updatedAt as updatedAt from Order o where o.id in :ids")
+    List<OrderStatusView> findStatusesByIdIn(Collection<UUID> ids);
+
+    // Análises: blocos de pedidos do período por keyset em (created_at, id), projetados sem entidades;
+    // o limite inferior redundante em created_at mantém a varredura no índice idx_orders_created_at_id
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderAnalyticsRow(
+                o.id, o.createdAt, o.status, o.totalAmount, c.city)
+            from Order o join o.customer c
+            where o.createdAt >= :start and o.createdAt < :end
+            order by o.createdAt asc, o.id asc""")
+    List<OrderAnalyticsRow> findFirstAnalyticsChunk(LocalDateTime start, LocalDateTime end, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderAnalyticsRow(
+                o.id, o.createdAt, o.status, o.totalAmount, c.city)
+            from Order o join o.customer c
+            where o.createdAt >= :createdAt and o.createdAt < :end
+              and (o.createdAt > :createdAt or (o.createdAt = :createdAt and o.id > :id))
+            order by o.createdAt asc, o.id asc""")
+    List<OrderAnalyticsRow> findAnalyticsChunkAfter(LocalDateTime end, LocalDateTime createdAt, UUID id, Limit limit);
+
+    // Reconciliação do journal de transições, executada só na inicialização (OrderJournalReconciler).
+    // Páginas por keyset na chave primária: um índice em updated_at seria mantido a cada transição
+    // (e, no PostgreSQL, impediria updates HOT) para servir uma consulta que roda uma vez por boot
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderVersionRow(o.id, o.status, o.version, o.updatedAt)
+            from Order o
+            where o.updatedAt >= :since
+            order by o.id asc""")
+    List<OrderVersionRow> findFirstVersionsUpdatedSince(LocalDateTime since, Limit limit);
+
+    @Query("""
+            select new com.mendes.example.order.infrastructure.OrderVersionRow(o.id, o.status, o.version, o.updatedAt)
+            from Order o
+            where o.id > :id and o.updatedAt >= :since
+            order by o.id asc""")
+    List<OrderVersionRow> findVersionsUpdatedSinceAfter(LocalDateTime since, UUID id, Limit limit);
+
+    /**
+     * Bloqueia ({@code FOR UPDATE}) os pedidos criados no período, esperando as transições em
+     * andamento sobre eles; usado pelo backfill dos rollups de vendas.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id from Order o where o.createdAt >= :start and o.createdAt < :end")
+    List<UUID> lockCreatedBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Ids do próximo bloco de pedidos a arquivar (status finais criados antes do corte), bloqueado para
+     * esta transação com {@code FOR UPDATE SKIP LOCKED}: arquivadores concorrentes (outras
+     * instâncias) pulam os pedidos já reservados.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select o.id from Order o
+            where o.status in :statuses and o.createdAt < :cutoff
+            order by o.createdAt asc, o.id asc""")
+    List<UUID> lockArchivable(Collection<OrderStatus> statuses, LocalDateTime cutoff, Limit limit);
+}
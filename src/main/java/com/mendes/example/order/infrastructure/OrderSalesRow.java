@@ -0,0 +1,22 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.shared.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção de um item vendido com o pedido, lida em streaming pelo backfill dos rollups de
+ * vendas nas tabelas quentes e no arquivo.
+ */
+public record OrderSalesRow(
+    UUID orderId,
+    OrderStatus status,
+    LocalDateTime createdAt,
+    Long pizzaId,
+    String pizzaName,
+    Integer quantity,
+    Money totalPrice
+) {
+}
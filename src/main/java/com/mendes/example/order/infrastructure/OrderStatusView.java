@@ -0,0 +1,16 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.order.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção com o status atual de um pedido, usada para apurar o resultado
+ * de transições em lote sem carregar as entidades.
+ */
+public interface OrderStatusView {
+    UUID getId();
+    OrderStatus getStatus();
+    LocalDateTime getUpdatedAt();
+}
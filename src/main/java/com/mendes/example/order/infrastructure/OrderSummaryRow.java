@@ -0,0 +1,21 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.shared.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção das colunas de um pedido, sem itens, usada nas páginas por keyset.
+ */
+public record OrderSummaryRow(
+    UUID id,
+    UUID customerId,
+    OrderStatus status,
+    Money totalAmount,
+    String notes,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.mendes.example.order.infrastructure;
+
+import com.mendes.example.order.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Status e versão atuais de um pedido, usados na reconciliação do journal de transições.
+ */
+public record OrderVersionRow(
+    UUID id,
+    OrderStatus status,
+    long version,
+    LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,88 @@
+package com.mendes.example.order.infrastructure.journal;
+
+import com.mendes.example.order.domain.OrderStatus;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Registro do journal de transições de pedidos.
+ *
+ * Formato binário de tamanho fixo ({@value #SIZE} bytes, big-endian):
+ * <pre>
+ *  0  int   CRC32C dos bytes 4..47
+ *  4  byte  marcador (1 = registro válido; 0 = espaço livre do segmento)
+ *  5  byte  status de origem (ordinal; -1 na criação do pedido)
+ *  6  byte  status de destino (ordinal)
+ *  7  byte  reservado
+ *  8  long  sequência global do registro
+ * 16  long  orderId (bits mais significativos)
+ * 24  long  orderId (bits menos significativos)
+ * 32  long  versão do pedido após a transição
+ * 40  long  instante da transição, em microssegundos desde a época
+ * </pre>
+ * Os status são gravados pelo ordinal: novos valores de {@link OrderStatus} devem ser
+ * acrescentados ao final do enum.
+ *
+ * @param fromStatus status anterior, ou {@code null} quando o pedido foi criado
+ * @param version    versão do pedido (lock otimista); ordena transições do mesmo pedido
+ *                   mesmo que tenham sido gravadas fora de ordem
+ */
+public record JournalRecord(
+    long sequence,
+    UUID orderId,
+    OrderStatus fromStatus,
+    OrderStatus toStatus,
+    long version,
+    Instant timestamp
+) {
+
+    public static final int SIZE = 48;
+
+    private static final byte VALID = 1;
+    private static final byte NO_STATUS = -1;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    void writeTo(ByteBuffer buffer, int offset) {
+        buffer.put(offset + 4, VALID);
+        buffer.put(offset + 5, fromStatus == null ? NO_STATUS : (byte) fromStatus.ordinal());
+        buffer.put(offset + 6, (byte) toStatus.ordinal());
+        buffer.put(offset + 7, (byte) 0);
+        buffer.putLong(offset + 8, sequence);
+        buffer.putLong(offset + 16, orderId.getMostSignificantBits());
+        buffer.putLong(offset + 24, orderId.getLeastSignificantBits());
+        buffer.putLong(offset + 32, version);
+        buffer.putLong(offset + 40, ChronoUnit.MICROS.between(Instant.EPOCH, timestamp));
+        buffer.putInt(offset, checksum(buffer, offset));
+    }
+
+    /**
+     * Lê o registro na posição informada.
+     *
+     * @return o registro, ou {@code null} se a posição estiver livre ou o registro estiver
+     *         incompleto (escrita interrompida por uma queda do processo)
+     */
+    static JournalRecord readFrom(ByteBuffer buffer, int offset) {
+        if (buffer.get(offset + 4) != VALID || buffer.getInt(offset) != checksum(buffer, offset)) {
+            return null;
+        }
+        byte from = buffer.get(offset + 5);
+        return new JournalRecord(
+            buffer.getLong(offset + 8),
+            new UUID(buffer.getLong(offset + 16), buffer.getLong(offset + 24)),
+            from == NO_STATUS ? null : STATUSES[from],
+            STATUSES[buffer.get(offset + 6)],
+            buffer.getLong(offset + 32),
+            Instant.EPOCH.plus(buffer.getLong(offset + 40), ChronoUnit.MICROS)
+        );
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + 4, SIZE - 4));
+        return (int) crc.getValue();
+    }
+}
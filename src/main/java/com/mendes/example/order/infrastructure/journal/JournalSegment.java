@@ -0,0 +1,144 @@
+package com.mendes.example.order.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Arquivo do journal mapeado em memória, com capacidade fixa de registros.
+ *
+ * Escritas vão direto para o page cache (sem syscall por registro); a durabilidade em disco
+ * depende de {@link #force(int)}, chamado em grupo pelo {@link SegmentedJournal}.
+ * Registros abaixo de {@link #count()} são imutáveis e podem ser lidos sem sincronização.
+ */
+final class JournalSegment implements Closeable {
+
+    private final Path path;
+    private final long baseSequence;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    // Protege forcedCount durante o fsync, sem prender threads virtuais como um monitor
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private volatile int count;
+    private int forcedCount;
+    private long coveredUpTo = Long.MIN_VALUE;
+
+    private JournalSegment(Path path, long baseSequence, int capacity) throws IOException {
+        this.path = path;
+        this.baseSequence = baseSequence;
+        this.capacity = capacity;
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * JournalRecord.SIZE);
+    }
+
+    /**
+     * Abre (ou cria) o segmento e localiza o fim dos registros válidos.
+     */
+    static JournalSegment open(Path path, long baseSequence, int capacity) throws IOException {
+        JournalSegment segment = new JournalSegment(path, baseSequence, capacity);
+        int valid = 0;
+        while (valid < capacity && JournalRecord.readFrom(segment.buffer, valid * JournalRecord.SIZE) != null) {
+            valid++;
+        }
+        segment.count = valid;
+        segment.forcedCount = valid;
+        return segment;
+    }
+
+    /**
+     * Capacidade de um segmento existente, derivada do tamanho do arquivo.
+     */
+    static int capacityOf(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return (int) (channel.size() / JournalRecord.SIZE);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long baseSequence() {
+        return baseSequence;
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count == capacity;
+    }
+
+    /**
+     * Sequência do último registro, ou {@code baseSequence - 1} se o segmento estiver vazio.
+     */
+    long lastSequence() {
+        int current = count;
+        return current == 0 ? baseSequence - 1 : recordAt(current - 1).sequence();
+    }
+
+    /**
+     * Última sequência representada pelo segmento. Em segmentos compactados pode ser maior
+     * que {@link #lastSequence()}, pois registros descartados também são cobertos.
+     */
+    long coveredUpTo() {
+        return Math.max(coveredUpTo, lastSequence());
+    }
+
+    void setCoveredUpTo(long coveredUpTo) {
+        this.coveredUpTo = coveredUpTo;
+    }
+
+    /**
+     * Acrescenta um registro; o chamador garante exclusão mútua e que o segmento não está cheio.
+     */
+    void append(JournalRecord record) {
+        record.writeTo(buffer, count * JournalRecord.SIZE);
+        count++;
+    }
+
+    JournalRecord recordAt(int index) {
+        return JournalRecord.readFrom(buffer, index * JournalRecord.SIZE);
+    }
+
+    /**
+     * Percorre os registros com sequência {@code >= fromSequence} entre os {@code upTo} primeiros.
+     */
+    void forEach(long fromSequence, int upTo, Consumer<JournalRecord> consumer) {
+        for (int i = 0; i < upTo; i++) {
+            JournalRecord record = recordAt(i);
+            if (record.sequence() >= fromSequence) {
+                consumer.accept(record);
+            }
+        }
+    }
+
+    /**
+     * Grava em disco os registros ainda não sincronizados entre os {@code upTo} primeiros.
+     */
+    void force(int upTo) {
+        forceLock.lock();
+        try {
+            if (upTo > forcedCount) {
+                buffer.force(forcedCount * JournalRecord.SIZE, (upTo - forcedCount) * JournalRecord.SIZE);
+                forcedCount = upTo;
+            }
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force(count);
+        channel.close();
+    }
+}
@@ -0,0 +1,29 @@
+package com.mendes.example.order.infrastructure.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Journal de transições de pedidos ({@code orders.journal.*}).
+ *
+ * Habilitado por padrão; desabilite com {@code orders.journal.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "orders.journal.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public SegmentedJournal orderJournal(
+        @Value("${orders.journal.directory:data/journal}") Path directory,
+        @Value("${orders.journal.segment-records:1048576}") int segmentRecords,
+        @Value("${orders.journal.fsync-interval:10ms}") Duration fsyncInterval
+    ) throws IOException {
+        return new SegmentedJournal(directory, segmentRecords, fsyncInterval);
+    }
+}
@@ -0,0 +1,460 @@
+package com.mendes.example.order.infrastructure.journal;
+
+import com.mendes.example.order.domain.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Journal append-only de transições de pedidos em segmentos mapeados em memória.
+ *
+ * - Append: grava o registro direto no segmento ativo, sob um lock curto, sem syscall
+ * - Group fsync: uma thread sincroniza o trecho pendente a cada {@code fsyncInterval};
+ *   quem precisa de durabilidade chama {@link #awaitDurable(long)} e compartilha o mesmo fsync
+ * - Rollover: ao encher, o segmento é selado e um novo é criado ({@code <primeira sequência>.seg})
+ * - Compactação: segmentos selados antigos podem ser fundidos em um
+ *   {@code <primeira>-<última sequência coberta>.compacted}, descartando registros duplicados
+ *   (mesmo pedido e versão) e os anteriores ao período de retenção informado; o histórico de
+ *   transições dentro da retenção é preservado
+ *
+ * Na abertura, registros incompletos no fim do segmento ativo (queda durante a escrita)
+ * são ignorados pelo CRC e sobrescritos.
+ */
+@Slf4j
+public class SegmentedJournal implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String COMPACTED_SUFFIX = ".compacted";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition durable = lock.newCondition();
+    private final ScheduledExecutorService flusher;
+    // Uma compactação por vez; ReentrantLock porque ela faz I/O e fsync (monitor prenderia threads virtuais)
+    private final ReentrantLock compactionLock = new ReentrantLock();
+
+    /**
+     * Identidade de uma transição: a versão do pedido após ela.
+     */
+    private record TransitionKey(UUID orderId, long version) {
+    }
+
+    private volatile List<JournalSegment> segments;
+    private JournalSegment active;
+    private final List<JournalSegment> sealedPendingForce = new ArrayList<>();
+    private long nextSequence;
+    private long durableSequence;
+    private boolean closed;
+
+    /**
+     * @param directory       diretório dos segmentos (criado se não existir)
+     * @param segmentCapacity quantidade de registros por segmento
+     * @param fsyncInterval   intervalo do fsync em grupo
+     */
+    public SegmentedJournal(Path directory, int segmentCapacity, Duration fsyncInterval) throws IOException {
+        this.directory = directory;
+        this.segmentCapacity = segmentCapacity;
+        Files.createDirectories(directory);
+
+        List<JournalSegment> existing = recover();
+        JournalSegment last = existing.isEmpty() ? null : existing.getLast();
+        this.nextSequence = last == null ? 0 : last.coveredUpTo() + 1;
+        this.durableSequence = nextSequence - 1;
+        if (last != null && last.path().toString().endsWith(SEGMENT_SUFFIX) && !last.isFull()) {
+            this.active = last;
+        } else {
+            this.active = createSegment(nextSequence);
+            existing.add(active);
+        }
+        this.segments = List.copyOf(existing);
+
+        long intervalNanos = fsyncInterval.toNanos();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().daemon().name("order-journal-fsync").unstarted(runnable));
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Acrescenta uma transição ao journal.
+     *
+     * @return sequência atribuída ao registro
+     */
+    public long append(UUID orderId, OrderStatus fromStatus, OrderStatus toStatus, long version, Instant timestamp) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            if (active.isFull()) {
+                roll();
+            }
+            long sequence = nextSequence++;
+            active.append(new JournalRecord(sequence, orderId, fromStatus, toStatus, version, timestamp));
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Bloqueia até que o registro informado esteja sincronizado em disco. Todos os chamadores
+     * que aguardam durante o mesmo intervalo são liberados pelo mesmo fsync.
+     */
+    public void awaitDurable(long sequence) throws InterruptedException {
+        lock.lock();
+        try {
+            while (durableSequence < sequence && !closed) {
+                durable.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Como {@link #awaitDurable(long)}, com prazo.
+     *
+     * @return {@code false} se o prazo expirou (ou o journal foi fechado) antes do fsync
+     */
+    public boolean awaitDurable(long sequence, Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (durableSequence < sequence && !closed) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = durable.awaitNanos(remaining);
+            }
+            return durableSequence >= sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sincroniza em disco tudo o que foi acrescentado até agora.
+     */
+    public void flush() {
+        List<JournalSegment> sealed;
+        JournalSegment current;
+        int upTo;
+        long lastSequence;
+        lock.lock();
+        try {
+            sealed = new ArrayList<>(sealedPendingForce);
+            sealedPendingForce.clear();
+            current = active;
+            upTo = current.count();
+            lastSequence = nextSequence - 1;
+        } finally {
+            lock.unlock();
+        }
+
+        sealed.forEach(segment -> segment.force(segment.count()));
+        current.force(upTo);
+
+        lock.lock();
+        try {
+            if (lastSequence > durableSequence) {
+                durableSequence = lastSequence;
+                durable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Percorre, em ordem de sequência, os registros com sequência {@code >= fromSequence}.
+     * Não bloqueia appends: considera os registros existentes no início da chamada.
+     */
+    public void replay(long fromSequence, Consumer<JournalRecord> consumer) {
+        List<JournalSegment> snapshot;
+        JournalSegment current;
+        int activeCount;
+        lock.lock();
+        try {
+            snapshot = segments;
+            current = active;
+            activeCount = active.count();
+        } finally {
+            lock.unlock();
+        }
+
+        for (JournalSegment segment : snapshot) {
+            int upTo = segment == current ? activeCount : segment.count();
+            if (upTo > 0 && segment.lastSequence() >= fromSequence) {
+                segment.forEach(fromSequence, upTo, consumer);
+            }
+        }
+    }
+
+    /**
+     * Percorre, em ordem de sequência, os registros com timestamp {@code >= from}. Segmentos cujo
+     * último registro é anterior a {@code from} são pulados sem serem lidos.
+     */
+    public void replaySince(Instant from, Consumer<JournalRecord> consumer) {
+        List<JournalSegment> snapshot;
+        JournalSegment current;
+        int activeCount;
+        lock.lock();
+        try {
+            snapshot = segments;
+            current = active;
+            activeCount = active.count();
+        } finally {
+            lock.unlock();
+        }
+
+        for (JournalSegment segment : snapshot) {
+            int upTo = segment == current ? activeCount : segment.count();
+            if (upTo == 0 || segment.recordAt(upTo - 1).timestamp().isBefore(from)) {
+                continue;
+            }
+            for (int i = 0; i < upTo; i++) {
+                JournalRecord record = segment.recordAt(i);
+                if (!record.timestamp().isBefore(from)) {
+                    consumer.accept(record);
+                }
+            }
+        }
+    }
+
+    /**
+     * Último registro presente no journal (vazio se não houver nenhum).
+     */
+    public Optional<JournalRecord> lastRecord() {
+        List<JournalSegment> snapshot;
+        JournalSegment current;
+        int activeCount;
+        lock.lock();
+        try {
+            snapshot = segments;
+            current = active;
+            activeCount = active.count();
+        } finally {
+            lock.unlock();
+        }
+
+        for (JournalSegment segment : snapshot.reversed()) {
+            int upTo = segment == current ? activeCount : segment.count();
+            if (upTo > 0) {
+                return Optional.of(segment.recordAt(upTo - 1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Como {@link #compact(long, Instant)}, sem descartar registros por idade.
+     */
+    public int compact(long beforeSequence) throws IOException {
+        return compact(beforeSequence, Instant.MIN);
+    }
+
+    /**
+     * Funde os segmentos selados cujos registros são todos anteriores a {@code beforeSequence}
+     * em um único arquivo. As transições são mantidas em ordem de sequência; são descartadas as
+     * repetições de uma mesma versão de um pedido (fica a primeira gravada) e os registros com
+     * timestamp anterior a {@code retainFrom}. Se nada for descartado de um único segmento, ele
+     * não é regravado.
+     *
+     * @return quantidade de registros descartados
+     */
+    public int compact(long beforeSequence, Instant retainFrom) throws IOException {
+        compactionLock.lock();
+        try {
+            List<JournalSegment> candidates;
+            lock.lock();
+            try {
+                candidates = segments.stream()
+                    .filter(segment -> segment != active && segment.coveredUpTo() < beforeSequence)
+                    .toList();
+            } finally {
+                lock.unlock();
+            }
+            if (candidates.isEmpty()) {
+                return 0;
+            }
+
+            Set<TransitionKey> seen = new HashSet<>();
+            List<JournalRecord> kept = new ArrayList<>();
+            int total = 0;
+            for (JournalSegment segment : candidates) {
+                for (int i = 0; i < segment.count(); i++) {
+                    JournalRecord record = segment.recordAt(i);
+                    if (!record.timestamp().isBefore(retainFrom)
+                        && seen.add(new TransitionKey(record.orderId(), record.version()))) {
+                        kept.add(record);
+                    }
+                    total++;
+                }
+            }
+            if (candidates.size() == 1 && kept.size() == total) {
+                return 0;
+            }
+
+            long base = candidates.getFirst().baseSequence();
+            long coveredUpTo = candidates.getLast().coveredUpTo();
+            Path target = null;
+            JournalSegment compacted = null;
+            if (!kept.isEmpty()) {
+                String name = fileName(base) + "-" + fileName(coveredUpTo);
+                Path temporary = directory.resolve(name + COMPACTING_SUFFIX);
+                Files.deleteIfExists(temporary);
+                try (JournalSegment compacting = JournalSegment.open(temporary, base, kept.size())) {
+                    kept.forEach(compacting::append);
+                }
+                target = Files.move(temporary, directory.resolve(name + COMPACTED_SUFFIX),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                compacted = JournalSegment.open(target, base, kept.size());
+                compacted.setCoveredUpTo(coveredUpTo);
+            }
+
+            lock.lock();
+            try {
+                List<JournalSegment> updated = new ArrayList<>();
+                if (compacted != null) {
+                    updated.add(compacted);
+                }
+                segments.stream().filter(segment -> !candidates.contains(segment)).forEach(updated::add);
+                segments = List.copyOf(updated);
+                sealedPendingForce.removeAll(candidates);
+            } finally {
+                lock.unlock();
+            }
+
+            for (JournalSegment segment : candidates) {
+                segment.close();
+                if (target == null || !segment.path().equals(target)) {
+                    Files.deleteIfExists(segment.path());
+                }
+            }
+            log.info("Compacted {} journal segments: {} records -> {}", candidates.size(), total, kept.size());
+            return total - kept.size();
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * Próxima sequência a ser atribuída.
+     */
+    public long nextSequence() {
+        lock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        flush();
+        lock.lock();
+        try {
+            closed = true;
+            durable.signalAll();
+            for (JournalSegment segment : segments) {
+                segment.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll() {
+        sealedPendingForce.add(active);
+        active = createSegment(nextSequence);
+        List<JournalSegment> updated = new ArrayList<>(segments);
+        updated.add(active);
+        segments = List.copyOf(updated);
+    }
+
+    private JournalSegment createSegment(long baseSequence) {
+        try {
+            Path path = directory.resolve(fileName(baseSequence) + SEGMENT_SUFFIX);
+            return JournalSegment.open(path, baseSequence, segmentCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create journal segment " + baseSequence, e);
+        }
+    }
+
+    /**
+     * Abre os segmentos existentes em ordem de sequência. Descarta compactações interrompidas
+     * e segmentos já cobertos por um {@code .compacted} (queda entre a compactação e a remoção).
+     */
+    private List<JournalSegment> recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.toList();
+        }
+        List<JournalSegment> opened = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(COMPACTING_SUFFIX)) {
+                Files.delete(file);
+            } else if (name.endsWith(SEGMENT_SUFFIX) || name.endsWith(COMPACTED_SUFFIX)) {
+                String[] range = name.substring(0, name.indexOf('.')).split("-");
+                JournalSegment segment = JournalSegment.open(file, Long.parseLong(range[0]), JournalSegment.capacityOf(file));
+                if (range.length > 1) {
+                    segment.setCoveredUpTo(Long.parseLong(range[1]));
+                }
+                opened.add(segment);
+            }
+        }
+        opened.sort(Comparator.comparingLong(JournalSegment::baseSequence)
+            .thenComparing(segment -> -segment.coveredUpTo()));
+
+        List<JournalSegment> recovered = new ArrayList<>();
+        long coveredUpTo = -1;
+        for (JournalSegment segment : opened) {
+            if (segment.count() > 0 && segment.coveredUpTo() <= coveredUpTo) {
+                segment.close();
+                Files.delete(segment.path());
+                continue;
+            }
+            coveredUpTo = Math.max(coveredUpTo, segment.coveredUpTo());
+            recovered.add(segment);
+        }
+        return recovered;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Journal fsync failed: {}", e.getMessage());
+        }
+    }
+
+    private static String fileName(long sequence) {
+        return String.format("%020d", sequence);
+    }
+}
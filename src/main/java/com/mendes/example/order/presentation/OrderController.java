@@ -1,13 +1,25 @@
 package com.mendes.example.order.presentation;
 
+import com.mendes.example.order.application.OrderIdempotencyService;
 import com.mendes.example.order.application.OrderService;
+import com.mendes.example.order.application.dto.BatchOrderResponse;
+import com.mendes.example.order.application.dto.BulkTransitionRequest;
+import com.mendes.example.order.application.dto.BulkTransitionResponse;
 import com.mendes.example.order.application.dto.CreateOrderRequest;
 import com.mendes.example.order.application.dto.OrderResponse;
 import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.shared.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -21,7 +33,11 @@ import java.util.UUID;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderEventStream orderEventStream;
+    private final ObjectMapper objectMapper;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
 
     @GetMapping(version = "1")
     public ResponseEntity<List<OrderResponse>> listAllOrders() {
@@ -29,6 +45,26 @@ public class OrderController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(version = "2")
+    public ResponseEntity<CursorPage<OrderResponse>> listOrdersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        CursorPage<OrderResponse> page = orderService.listOrdersPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Stream (Server-Sent Events) de criações e mudanças de status de pedidos, com filtros
+     * opcionais por status e cliente e retomada via header {@code Last-Event-ID}.
+     */
+    @GetMapping(path = "/events", version = "1", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) UUID customerId,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return orderEventStream.subscribe(new OrderEventStream.Filter(status, customerId), lastEventId);
+    }
+
     @GetMapping(path = "/{id}", version = "1")
     public ResponseEntity<OrderResponse> getOrderById(@PathVariable UUID id) {
         OrderResponse response = orderService.getOrderById(id);
@@ -41,18 +77,50 @@ public class OrderController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(path = "/customer/{customerId}", version = "2")
+    public ResponseEntity<CursorPage<OrderResponse>> getOrdersPageByCustomerId(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        CursorPage<OrderResponse> page = orderService.getOrdersPageByCustomerId(customerId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping(path = "/status/{status}", version = "1")
     public ResponseEntity<List<OrderResponse>> getOrdersByStatus(@PathVariable OrderStatus status) {
         List<OrderResponse> responses = orderService.getOrdersByStatus(status);
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(path = "/status/{status}", version = "2")
+    public ResponseEntity<CursorPage<OrderResponse>> getOrdersPageByStatus(
+            @PathVariable OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        CursorPage<OrderResponse> page = orderService.getOrdersPageByStatus(status, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Com o header {@code Idempotency-Key}, retentativas da mesma requisição devolvem o pedido
+     * criado na primeira tentativa em vez de criar outro.
+     */
     @PostMapping(version = "1")
-    public ResponseEntity<OrderResponse> createOrder(@RequestBody CreateOrderRequest request) {
-        OrderResponse response = orderService.createOrder(request);
+    public ResponseEntity<OrderResponse> createOrder(
+            @RequestBody CreateOrderRequest request,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        OrderResponse response = idempotencyKey == null
+                ? orderService.createOrder(request)
+                : orderIdempotencyService.createOrder(idempotencyKey, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(path = "/batch", version = "1")
+    public ResponseEntity<BatchOrderResponse> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        BatchOrderResponse response = orderService.createOrders(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping(path = "/{id}/confirm", version = "1")
     public ResponseEntity<OrderResponse> confirmOrder(@PathVariable UUID id) {
         OrderResponse response = orderService.confirmOrder(id);
@@ -89,6 +157,12 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping(path = "/transitions", version = "1")
+    public ResponseEntity<BulkTransitionResponse> transitionOrders(@RequestBody BulkTransitionRequest request) {
+        BulkTransitionResponse response = orderService.transitionOrders(request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping(path = "/{id}", version = "1")
     public ResponseEntity<Void> deleteOrder(@PathVariable UUID id) {
         orderService.deleteOrder(id);
@@ -104,5 +178,28 @@ public class OrderController {
         List<OrderResponse> responses = orderService.getOrdersByDateRange(start, end);
         return ResponseEntity.ok(responses);
     }
-}
 
+    /**
+     * Exporta os pedidos do período em streaming (NDJSON por padrão ou CSV), sem materializar
+     * o resultado em memória. A leitura roda em transação própria na thread assíncrona da resposta.
+     */
+    @GetMapping(path = "/export", version = "1")
+    public ResponseEntity<StreamingResponseBody> exportOrdersByDateRange(
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(defaultValue = "NDJSON") OrderExportFormat format) {
+        LocalDateTime start = LocalDateTime.parse(startDate, DATE_FORMATTER);
+        LocalDateTime end = LocalDateTime.parse(endDate, DATE_FORMATTER);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+            format.writeHeader(out);
+            orderService.exportOrdersByDateRange(start, end,
+                    order -> format.writeOrderUnchecked(order, out, objectMapper));
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+}
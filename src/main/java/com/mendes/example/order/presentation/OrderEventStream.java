@@ -0,0 +1,269 @@
+package com.mendes.example.order.presentation;
+
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.application.dto.OrderStatusEventResponse;
+import com.mendes.example.order.application.event.OrderStatusChangedEvent;
+import com.mendes.example.order.domain.OrderStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Difusão de mudanças de status de pedidos via Server-Sent Events.
+ *
+ * Cada evento confirmado recebe um id sequencial, é serializado uma única vez e guardado em
+ * um buffer circular ({@code orders.events.replay-buffer-size}) que permite retomar a conexão
+ * com {@code Last-Event-ID}. Conexões não ocupam threads: cada assinante tem uma fila limitada,
+ * drenada sob demanda por uma virtual thread; assinantes lentos demais são desconectados e
+ * retomam pelo {@code Last-Event-ID}.
+ */
+@Slf4j
+@Component
+public class OrderEventStream {
+
+    static final String STATUS_EVENT = "order-status";
+    static final String RESYNC_EVENT = "resync";
+    private static final int QUEUE_HEADROOM = 256;
+    private static final KeepAlive KEEP_ALIVE = new KeepAlive();
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final StreamedEvent[] buffer;
+    private final int queueCapacity;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private long sequence;
+
+    /**
+     * Mensagem enfileirada para um assinante. O {@link SseEmitter.SseEventBuilder} é montado por
+     * assinante, na drenagem: o builder acumula estado a cada {@code build()} e não pode ser
+     * compartilhado entre conexões.
+     */
+    private sealed interface Outgoing permits StreamedEvent, Resync, KeepAlive {
+        SseEmitter.SseEventBuilder toSse();
+    }
+
+    /**
+     * Evento já serializado, compartilhado entre todos os assinantes.
+     */
+    private record StreamedEvent(long id, OrderStatus previousStatus, OrderStatus status, UUID customerId, String json)
+        implements Outgoing {
+
+        @Override
+        public SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event()
+                .id(Long.toString(id))
+                .name(STATUS_EVENT)
+                .data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private record Resync(long id) implements Outgoing {
+
+        @Override
+        public SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().name(RESYNC_EVENT).id(Long.toString(id)).data("{}");
+        }
+    }
+
+    private record KeepAlive() implements Outgoing {
+
+        @Override
+        public SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().comment("keep-alive");
+        }
+    }
+
+    /**
+     * Filtros da assinatura; {@code null} aceita qualquer valor. O filtro de status casa
+     * tanto com o status novo quanto com o anterior, para que o quadro saiba o que sai da coluna.
+     */
+    public record Filter(OrderStatus status, UUID customerId) {
+        boolean matches(StreamedEvent event) {
+            boolean statusMatches = status == null || status == event.status() || status == event.previousStatus();
+            boolean customerMatches = customerId == null || customerId.equals(event.customerId());
+            return statusMatches && customerMatches;
+        }
+    }
+
+    public OrderEventStream(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${orders.events.replay-buffer-size:1024}") int replayBufferSize,
+        @Value("${orders.events.timeout:PT30M}") Duration timeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.buffer = new StreamedEvent[replayBufferSize];
+        this.queueCapacity = replayBufferSize + QUEUE_HEADROOM;
+        Gauge.builder("orders.events.subscribers", subscriptions, Set::size)
+            .description("Conexões SSE ativas de eventos de pedidos")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Abre uma assinatura, reenviando os eventos posteriores a {@code lastEventId} que ainda
+     * estejam no buffer. Se o id já saiu do buffer, ou é maior que o último emitido (a sequência
+     * recomeçou após um restart, ou a conexão anterior foi com outro nó), envia
+     * {@value #RESYNC_EVENT} para que o cliente recarregue o estado antes de seguir com os
+     * eventos ao vivo.
+     */
+    public SseEmitter subscribe(Filter filter, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(emitter, filter);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+
+        boolean accepted = true;
+        synchronized (this) {
+            if (lastEventId != null) {
+                long oldest = Math.max(1, sequence - buffer.length + 1);
+                if (lastEventId + 1 < oldest || lastEventId > sequence) {
+                    accepted = subscription.enqueue(new Resync(sequence));
+                }
+                for (long id = Math.max(lastEventId + 1, oldest); accepted && id <= sequence; id++) {
+                    StreamedEvent event = buffer[(int) (id % buffer.length)];
+                    if (filter.matches(event)) {
+                        accepted = subscription.enqueue(event);
+                    }
+                }
+            }
+            if (accepted) {
+                subscriptions.add(subscription);
+            }
+        }
+        // Fora do monitor: complete() pode escrever na resposta e disparar os callbacks do emitter
+        if (accepted) {
+            subscription.drain();
+        } else {
+            subscription.disconnect();
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        OrderResponse order = event.order();
+        String json = objectMapper.writeValueAsString(OrderStatusEventResponse.builder()
+            .orderId(order.getId())
+            .customerId(order.getCustomerId())
+            .previousStatus(event.previousStatus())
+            .status(order.getStatus())
+            .updatedAt(order.getUpdatedAt())
+            .build());
+
+        List<Subscription> notified = new ArrayList<>();
+        List<Subscription> overflowed = new ArrayList<>();
+        synchronized (this) {
+            StreamedEvent streamed = new StreamedEvent(
+                ++sequence, event.previousStatus(), order.getStatus(), order.getCustomerId(), json
+            );
+            buffer[(int) (streamed.id() % buffer.length)] = streamed;
+            for (Subscription subscription : subscriptions) {
+                if (subscription.filter.matches(streamed)) {
+                    (subscription.enqueue(streamed) ? notified : overflowed).add(subscription);
+                }
+            }
+        }
+        overflowed.forEach(Subscription::disconnect);
+        notified.forEach(Subscription::drain);
+    }
+
+    /**
+     * Comentário periódico que mantém proxies abertos e detecta conexões encerradas.
+     */
+    @Scheduled(fixedDelayString = "${orders.events.heartbeat-interval:PT20S}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.enqueue(KEEP_ALIVE)) {
+                subscription.drain();
+            } else {
+                subscription.disconnect();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        senders.shutdown();
+    }
+
+    /**
+     * Conexão de um assinante: fila limitada e drenagem exclusiva (no máximo uma virtual
+     * thread enviando por vez, preservando a ordem dos eventos).
+     */
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final BlockingQueue<Outgoing> queue = new LinkedBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter, Filter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        /**
+         * Enfileira o evento; com a fila cheia remove a assinatura e devolve {@code false}. O
+         * chamador encerra a conexão com {@link #disconnect()} depois de liberar o monitor do stream.
+         */
+        private boolean enqueue(Outgoing event) {
+            if (queue.offer(event)) {
+                return true;
+            }
+            subscriptions.remove(this);
+            return false;
+        }
+
+        private void disconnect() {
+            log.debug("SSE subscriber too slow, disconnecting");
+            emitter.complete();
+        }
+
+        private void drain() {
+            if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            senders.execute(() -> {
+                try {
+                    Outgoing event;
+                    while ((event = queue.poll()) != null) {
+                        emitter.send(event.toSse());
+                    }
+                } catch (IOException | RuntimeException e) {
+                    subscriptions.remove(this);
+                    emitter.completeWithError(e);
+                } finally {
+                    draining.set(false);
+                }
+                // Eventos enfileirados entre o último poll e a liberação do flag
+                if (!queue.isEmpty() && subscriptions.contains(this)) {
+                    drain();
+                }
+            });
+        }
+    }
+}
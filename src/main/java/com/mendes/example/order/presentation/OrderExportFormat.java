@@ -0,0 +1,88 @@
+package com.mendes.example.order.presentation;
+
+import com.mendes.example.order.application.dto.OrderItemResponse;
+import com.mendes.example.order.application.dto.OrderResponse;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formatos suportados pela exportação em streaming de pedidos.
+ *
+ * - NDJSON: um {@link OrderResponse} completo por linha
+ * - CSV: uma linha por item, repetindo as colunas do pedido
+ */
+public enum OrderExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")) {
+        @Override
+        void writeOrder(OrderResponse order, OutputStream out, ObjectMapper objectMapper) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(order));
+            out.write('\n');
+        }
+    },
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8")) {
+        private static final String HEADER =
+            "orderId,customerId,status,createdAt,orderTotal,pizzaId,pizzaName,quantity,unitPrice,totalPrice\n";
+
+        @Override
+        void writeHeader(OutputStream out) throws IOException {
+            out.write(HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        void writeOrder(OrderResponse order, OutputStream out, ObjectMapper objectMapper) throws IOException {
+            StringBuilder lines = new StringBuilder();
+            for (OrderItemResponse item : order.getItems()) {
+                lines.append(order.getId()).append(',')
+                    .append(order.getCustomerId()).append(',')
+                    .append(order.getStatus()).append(',')
+                    .append(order.getCreatedAt()).append(',')
+                    .append(order.getTotalAmount().toPlainString()).append(',')
+                    .append(item.getPizzaId()).append(',')
+                    .append(escape(item.getPizzaName())).append(',')
+                    .append(item.getQuantity()).append(',')
+                    .append(item.getUnitPrice().toPlainString()).append(',')
+                    .append(item.getTotalPrice().toPlainString()).append('\n');
+            }
+            out.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    };
+
+    private final MediaType mediaType;
+
+    OrderExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    void writeHeader(OutputStream out) throws IOException {
+        // Sem cabeçalho por padrão
+    }
+
+    abstract void writeOrder(OrderResponse order, OutputStream out, ObjectMapper objectMapper) throws IOException;
+
+    /**
+     * Variante para uso em lambdas ({@code Consumer<OrderResponse>}).
+     */
+    void writeOrderUnchecked(OrderResponse order, OutputStream out, ObjectMapper objectMapper) {
+        try {
+            writeOrder(order, out, objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.mendes.example.outbox.application;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.mendes.example.outbox.domain.OutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Mensagem do outbox entregue aos {@link OutboxSink}s. O {@code payload} já é JSON e
+ * é serializado sem escape.
+ */
+public record OutboxEvent(
+    long id,
+    String aggregateType,
+    UUID aggregateId,
+    String eventType,
+    @JsonRawValue String payload,
+    LocalDateTime createdAt
+) {
+
+    static OutboxEvent of(OutboxMessage message) {
+        return new OutboxEvent(
+            message.getId(),
+            message.getAggregateType(),
+            message.getAggregateId(),
+            message.getEventType(),
+            message.getPayload(),
+            message.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package com.mendes.example.outbox.application;
+
+import com.mendes.example.outbox.domain.OutboxMessage;
+import com.mendes.example.outbox.infrastructure.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drena o transactional outbox em lotes e entrega as mensagens ao {@link OutboxSink}.
+ *
+ * Cada lote é lido com {@code FOR UPDATE SKIP LOCKED}, entregue e removido na mesma transação:
+ * várias instâncias podem rodar o relay ao mesmo tempo sem entregar a mesma mensagem duas vezes
+ * (exceto quando o sink falha depois de entregar parte do lote).
+ *
+ * Métricas:
+ * - {@code outbox.messages.relayed}: mensagens entregues (throughput)
+ * - {@code outbox.relay.failures}: lotes que falharam e voltaram para o outbox
+ * - {@code outbox.delivery.lag}: tempo entre a gravação e a entrega de cada mensagem
+ * - {@code outbox.lag}: idade, em segundos, da mensagem pendente mais antiga
+ *
+ * Habilitado por padrão; desabilite com {@code outbox.relay.enabled=false}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter relayed;
+    private final Counter failures;
+    private final Timer deliveryLag;
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public OutboxRelay(
+        OutboxRepository outboxRepository,
+        OutboxSink sink,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${outbox.relay.batch-size:100}") int batchSize
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.relayed = Counter.builder("outbox.messages.relayed")
+            .description("Mensagens do outbox entregues ao sink")
+            .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+            .description("Lotes do outbox que falharam na entrega")
+            .register(meterRegistry);
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+            .description("Tempo entre a gravação da mensagem no outbox e sua entrega")
+            .register(meterRegistry);
+        Gauge.builder("outbox.lag", oldestPending, OutboxRelay::ageInSeconds)
+            .description("Idade da mensagem pendente mais antiga do outbox")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:PT1S}")
+    public void relay() {
+        drain();
+    }
+
+    /**
+     * Entrega lotes até esvaziar o outbox ou até o sink falhar.
+     *
+     * @return quantidade de mensagens entregues
+     */
+    public int drain() {
+        int total = 0;
+        try {
+            int delivered;
+            do {
+                delivered = relayBatch();
+                total += delivered;
+            } while (delivered == batchSize);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay failed, batch will be retried: {}", e.getMessage());
+        }
+        oldestPending.set(outboxRepository.findOldestCreatedAt().orElse(null));
+        return total;
+    }
+
+    private int relayBatch() {
+        Integer delivered = transactionTemplate.execute(status -> {
+            List<OutboxMessage> batch = outboxRepository.lockNextBatch(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.publish(batch.stream().map(OutboxEvent::of).toList());
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox sink rejected batch: " + e.getMessage(), e);
+            }
+            outboxRepository.deleteAllByIdInBatch(batch.stream().map(OutboxMessage::getId).toList());
+
+            LocalDateTime now = LocalDateTime.now();
+            batch.forEach(message -> deliveryLag.record(Duration.between(message.getCreatedAt(), now)));
+            relayed.increment(batch.size());
+            return batch.size();
+        });
+        return delivered == null ? 0 : delivered;
+    }
+
+    private static double ageInSeconds(AtomicReference<LocalDateTime> oldest) {
+        LocalDateTime createdAt = oldest.get();
+        return createdAt == null ? 0 : Duration.between(createdAt, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
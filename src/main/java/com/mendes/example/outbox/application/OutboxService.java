@@ -0,0 +1,32 @@
+package com.mendes.example.outbox.application;
+
+import com.mendes.example.outbox.domain.OutboxMessage;
+import com.mendes.example.outbox.infrastructure.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.UUID;
+
+/**
+ * Escrita no transactional outbox.
+ *
+ * Participa da transação corrente, de modo que a mensagem só existe se a alteração do
+ * agregado for confirmada; a entrega fica a cargo do {@link OutboxRelay}.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public void append(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+        outboxRepository.save(OutboxMessage.builder()
+            .aggregateType(aggregateType)
+            .aggregateId(aggregateId)
+            .eventType(eventType)
+            .payload(objectMapper.writeValueAsString(payload))
+            .build());
+    }
+}
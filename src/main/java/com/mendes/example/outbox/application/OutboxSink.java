@@ -0,0 +1,15 @@
+package com.mendes.example.outbox.application;
+
+import java.util.List;
+
+/**
+ * Destino das mensagens drenadas pelo {@link OutboxRelay} (broker, arquivo, memória...).
+ *
+ * Recebe lotes em ordem de gravação. Uma exceção faz o lote inteiro voltar para o outbox
+ * e ser reenviado no próximo ciclo, então a entrega é at-least-once: consumidores devem
+ * deduplicar pelo {@link OutboxEvent#id()}.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> batch) throws Exception;
+}
@@ -0,0 +1,60 @@
+package com.mendes.example.outbox.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Mensagem pendente do transactional outbox.
+ *
+ * Gravada na mesma transação da alteração do agregado e removida pelo
+ * {@code OutboxRelay} depois de entregue ao {@code OutboxSink}. O id sequencial
+ * define a ordem de entrega; a sequência é alocada em blocos para permitir inserts em lote.
+ */
+@Entity
+@Table(name = "outbox_message")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_message_seq")
+    @SequenceGenerator(name = "outbox_message_seq", sequenceName = "outbox_message_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    // Texto longo (text no PostgreSQL), sem a API de LOB: as mensagens são removidas após a entrega
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Callback JPA executado antes de inserir a entidade.
+     * Popula o timestamp {@code createdAt}, usado no cálculo do atraso de entrega.
+     */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
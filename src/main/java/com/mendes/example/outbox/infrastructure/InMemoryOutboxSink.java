@@ -0,0 +1,46 @@
+package com.mendes.example.outbox.infrastructure;
+
+import com.mendes.example.outbox.application.OutboxEvent;
+import com.mendes.example.outbox.application.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Sink em memória para execução local e testes: guarda as últimas
+ * {@code outbox.sink.memory.capacity} mensagens entregues.
+ *
+ * Sink padrão; selecionado com {@code outbox.sink=memory}.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<OutboxEvent> events = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(@Value("${outbox.sink.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * Mensagens entregues, da mais antiga para a mais recente.
+     */
+    public synchronized List<OutboxEvent> events() {
+        return List.copyOf(events);
+    }
+}
@@ -0,0 +1,61 @@
+package com.mendes.example.outbox.infrastructure;
+
+import com.mendes.example.outbox.application.OutboxEvent;
+import com.mendes.example.outbox.application.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sink que acrescenta as mensagens, uma por linha (NDJSON), em {@code outbox.sink.log-file.path}.
+ * Útil para inspecionar localmente o que seria publicado.
+ *
+ * Selecionado com {@code outbox.sink=log-file}.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "log-file")
+public class LogFileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    // Uma gravação por vez: linhas de lotes concorrentes não se intercalam no arquivo
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public LogFileOutboxSink(
+        @Value("${outbox.sink.log-file.path:logs/outbox.ndjson}") Path path,
+        ObjectMapper objectMapper
+    ) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> batch) throws IOException {
+        lock.lock();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxEvent event : batch) {
+                    writer.write(objectMapper.writeValueAsString(event));
+                    writer.newLine();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
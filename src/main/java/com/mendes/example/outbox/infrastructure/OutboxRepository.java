@@ -0,0 +1,35 @@
+package com.mendes.example.outbox.infrastructure;
+
+import com.mendes.example.outbox.domain.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Próximo lote de mensagens em ordem de gravação, bloqueado para esta transação.
+     * O timeout {@code -2} é traduzido pelo Hibernate para {@code FOR UPDATE SKIP LOCKED}:
+     * relays concorrentes (outras instâncias) pulam as linhas já reservadas em vez de esperar.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from OutboxMessage m order by m.id")
+    List<OutboxMessage> lockNextBatch(Limit limit);
+
+    /**
+     * Data de gravação da mensagem pendente mais antiga, usada na métrica de atraso.
+     */
+    @Query("select min(m.createdAt) from OutboxMessage m")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
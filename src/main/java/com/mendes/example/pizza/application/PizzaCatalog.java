@@ -0,0 +1,178 @@
+package com.mendes.example.pizza.application;
+
+import com.mendes.example.pizza.application.dto.PizzaResponse;
+import com.mendes.example.pizza.application.mapper.PizzaMapper;
+import com.mendes.example.pizza.infrastructure.PizzaRepository;
+import com.mendes.example.pizza.infrastructure.PizzaRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot imutável, em memória, do cardápio de pizzas.
+ *
+ * O cardápio é pequeno e quase somente leitura, então as leituras de {@link PizzaService} e a
+ * precificação de pedidos são atendidas por este snapshot. Alterações feitas pelo
+ * {@link PizzaService} publicam um {@link PizzaCatalogChangedEvent}; o snapshot é reconstruído
+ * após o commit e trocado atomicamente, de modo que leitores nunca observam um estado parcial.
+ *
+ * Métricas publicadas no {@link MeterRegistry}:
+ * - {@code pizza.catalog.lookups} (tag {@code result}: hit/miss)
+ * - {@code pizza.catalog.rebuilds}
+ * - {@code pizza.catalog.size}
+ */
+@Slf4j
+@Component
+public class PizzaCatalog {
+
+    private final PizzaRepository pizzaRepository;
+    private final PizzaMapper pizzaMapper;
+    private final TransactionTemplate rebuildTransaction;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rebuilds;
+
+    /**
+     * Estado imutável do cardápio em um instante. {@code version} é incrementada a cada reconstrução.
+     *
+     * As instâncias de {@link PizzaResponse} são compartilhadas entre requisições e não devem
+     * ser alteradas pelos chamadores.
+     */
+    public record Snapshot(long version, Map<Long, PizzaResponse> byId, List<PizzaResponse> available) {
+    }
+
+    public PizzaCatalog(
+        PizzaRepository pizzaRepository,
+        PizzaMapper pizzaMapper,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.pizzaRepository = pizzaRepository;
+        this.pizzaMapper = pizzaMapper;
+
+        // A reconstrução roda em transação própria para enxergar apenas dados confirmados,
+        // mesmo quando disparada de dentro da transação de um chamador
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildTransaction.setReadOnly(true);
+
+        this.hits = Counter.builder("pizza.catalog.lookups")
+            .tag("result", "hit")
+            .description("Consultas ao cardápio atendidas pelo snapshot em memória")
+            .register(meterRegistry);
+        this.misses = Counter.builder("pizza.catalog.lookups")
+            .tag("result", "miss")
+            .description("Consultas ao cardápio não encontradas no snapshot em memória")
+            .register(meterRegistry);
+        this.rebuilds = Counter.builder("pizza.catalog.rebuilds")
+            .description("Reconstruções do snapshot do cardápio")
+            .register(meterRegistry);
+        Gauge.builder("pizza.catalog.size", snapshot, ref -> ref.get() == null ? 0 : ref.get().byId().size())
+            .description("Quantidade de pizzas no snapshot do cardápio")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Retorna o snapshot atual, carregando-o na primeira utilização.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * Pizzas disponíveis, em ordem de id.
+     */
+    public List<PizzaResponse> listAvailable() {
+        return snapshot().available();
+    }
+
+    /**
+     * Busca uma pizza no snapshot.
+     */
+    public Optional<PizzaResponse> findById(Long id) {
+        PizzaResponse pizza = snapshot().byId().get(id);
+        (pizza != null ? hits : misses).increment();
+        return Optional.ofNullable(pizza);
+    }
+
+    /**
+     * Busca as pizzas informadas no snapshot; ids ausentes não aparecem no mapa retornado.
+     */
+    public Map<Long, PizzaResponse> findAllById(Collection<Long> ids) {
+        Map<Long, PizzaResponse> byId = snapshot().byId();
+        Map<Long, PizzaResponse> found = new LinkedHashMap<>();
+        for (Long id : ids) {
+            PizzaResponse pizza = byId.get(id);
+            if (pizza != null) {
+                found.put(id, pizza);
+            }
+        }
+        hits.increment(found.size());
+        misses.increment(ids.size() - found.size());
+        return found;
+    }
+
+    /**
+     * Reconstrói o snapshot após o commit de uma alteração do cardápio.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(PizzaCatalogChangedEvent event) {
+        log.debug("Pizza catalog changed (pizzaId={}), rebuilding snapshot", event.pizzaId());
+        rebuild();
+    }
+
+    /**
+     * Recarrega o cardápio do banco e troca o snapshot atomicamente.
+     *
+     * Serializado para que reconstruções concorrentes sejam aplicadas na ordem em que leram o banco;
+     * com {@link ReentrantLock}, e não {@code synchronized}, a consulta JDBC feita com o lock não
+     * prende a thread virtual à portadora.
+     */
+    public Snapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            List<PizzaRow> pizzas = rebuildTransaction.execute(status -> pizzaRepository.findAllRows());
+
+            Map<Long, PizzaResponse> byId = pizzas.stream()
+                .map(pizzaMapper::toResponse)
+                .collect(Collectors.toMap(
+                    PizzaResponse::getId,
+                    Function.identity(),
+                    (a, b) -> a,
+                    LinkedHashMap::new
+                ));
+            List<PizzaResponse> available = byId.values().stream()
+                .filter(pizza -> Boolean.TRUE.equals(pizza.getAvailable()))
+                .toList();
+
+            Snapshot previous = snapshot.get();
+            long version = previous == null ? 1 : previous.version() + 1;
+            Snapshot rebuilt = new Snapshot(version, Map.copyOf(byId), available);
+            snapshot.set(rebuilt);
+            rebuilds.increment();
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
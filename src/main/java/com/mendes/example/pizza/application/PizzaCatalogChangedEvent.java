@@ -0,0 +1,10 @@
+package com.mendes.example.pizza.application;
+
+/**
+ * Evento publicado pelo {@link PizzaService} quando o cardápio é alterado.
+ *
+ * O {@link PizzaCatalog} reconstrói o snapshot somente após o commit da transação
+ * que originou o evento.
+ */
+public record PizzaCatalogChangedEvent(Long pizzaId) {
+}
@@ -8,10 +8,16 @@ import com.mendes.example.pizza.domain.Pizza;
 import com.mendes.example.pizza.infrastructure.PizzaRepository;
 import com.mendes.example.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Serviço de aplicação responsável pelas regras de negócio e operações CRUD de pizzas.
@@ -23,28 +29,34 @@ public class PizzaService {
 
     private final PizzaRepository pizzaRepository;
     private final PizzaMapper pizzaMapper;
+    private final PizzaCatalog pizzaCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Lista as pizzas marcadas como disponíveis.
+     * Lista as pizzas marcadas como disponíveis, a partir do snapshot do cardápio. Leitura em
+     * memória: não abre transação (nem conexão) própria.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<PizzaResponse> listAvailablePizzas() {
-        List<Pizza> pizzas = pizzaRepository.findByAvailableTrue();
-        return pizzaMapper.toResponseList(pizzas);
+        return pizzaCatalog.listAvailable();
     }
 
     /**
-     * Recupera uma pizza pelo identificador.
+     * Recupera uma pizza pelo identificador, consultando o banco apenas se ela não
+     * estiver no snapshot do cardápio. Só a consulta ao banco abre transação (a somente
+     * leitura do repositório); o acerto no snapshot não usa conexão.
      *
      * @throws ResourceNotFoundException caso a pizza não seja encontrada
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PizzaResponse getPizzaById(Long id) {
-        Pizza pizza = pizzaRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                    "Pizza not found with id: " + id
-                ));
-        return pizzaMapper.toResponse(pizza);
+        return pizzaCatalog.findById(id).orElseGet(() -> {
+            Pizza pizza = pizzaRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                        "Pizza not found with id: " + id
+                    ));
+            return pizzaMapper.toResponse(pizza);
+        });
     }
 
     /**
@@ -53,6 +65,7 @@ public class PizzaService {
     public PizzaResponse createPizza(CreatePizzaRequest request) {
         Pizza pizza = pizzaMapper.toEntity(request);
         Pizza savedPizza = pizzaRepository.save(pizza);
+        eventPublisher.publishEvent(new PizzaCatalogChangedEvent(savedPizza.getId()));
         return pizzaMapper.toResponse(savedPizza);
     }
 
@@ -69,6 +82,7 @@ public class PizzaService {
 
         pizzaMapper.updateEntityFromRequest(request, pizza);
         Pizza savedPizza = pizzaRepository.save(pizza);
+        eventPublisher.publishEvent(new PizzaCatalogChangedEvent(id));
         return pizzaMapper.toResponse(savedPizza);
     }
 
@@ -83,6 +97,7 @@ public class PizzaService {
                     "Pizza not found with id: " + id
                 ));
         pizzaRepository.delete(pizza);
+        eventPublisher.publishEvent(new PizzaCatalogChangedEvent(id));
     }
 
     /**
@@ -90,8 +105,7 @@ public class PizzaService {
      */
     @Transactional(readOnly = true)
     public List<PizzaResponse> searchPizzasByName(String name) {
-        List<Pizza> pizzas = pizzaRepository.findByNameContainingIgnoreCase(name);
-        return pizzaMapper.toResponseList(pizzas);
+        return pizzaMapper.toResponseList(pizzaRepository.findRowsByNameContaining(name));
     }
 
     // Método interno para uso do OrderService - retorna entidade
@@ -102,4 +116,30 @@ public class PizzaService {
                     "Pizza not found with id: " + id
                 ));
     }
+
+    // Método interno para uso do OrderService - resolve os preços pelo snapshot do cardápio,
+    // buscando no banco em um único SELECT apenas os ids ausentes do snapshot
+    @Transactional(readOnly = true)
+    public Map<Long, PizzaResponse> getPizzasByIds(Collection<Long> ids) {
+        Map<Long, PizzaResponse> pizzas = findPizzasByIds(ids);
+        for (Long id : ids) {
+            if (!pizzas.containsKey(id)) {
+                throw new ResourceNotFoundException("Pizza not found with id: " + id);
+            }
+        }
+        return pizzas;
+    }
+
+    // Variante que não falha: ids inexistentes simplesmente não aparecem no mapa (pedidos em lote)
+    @Transactional(readOnly = true)
+    public Map<Long, PizzaResponse> findPizzasByIds(Collection<Long> ids) {
+        Map<Long, PizzaResponse> pizzas = pizzaCatalog.findAllById(ids);
+        if (pizzas.size() < ids.size()) {
+            Set<Long> missing = new HashSet<>(ids);
+            missing.removeAll(pizzas.keySet());
+            pizzaRepository.findRowsByIdIn(missing)
+                    .forEach(pizza -> pizzas.put(pizza.id(), pizzaMapper.toResponse(pizza)));
+        }
+        return pizzas;
+    }
 }
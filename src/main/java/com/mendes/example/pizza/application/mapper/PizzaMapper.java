@@ -4,6 +4,7 @@ import com.mendes.example.pizza.application.dto.CreatePizzaRequest;
 import com.mendes.example.pizza.application.dto.PizzaResponse;
 import com.mendes.example.pizza.application.dto.UpdatePizzaRequest;
 import com.mendes.example.pizza.domain.Pizza;
+import com.mendes.example.pizza.infrastructure.PizzaRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -31,9 +32,14 @@ public interface PizzaMapper {
     PizzaResponse toResponse(Pizza pizza);
 
     /**
-     * Converte lista de Pizza entities para lista de PizzaResponse
+     * Converte a projeção de pizza para PizzaResponse
      */
-    List<PizzaResponse> toResponseList(List<Pizza> pizzas);
+    PizzaResponse toResponse(PizzaRow row);
+
+    /**
+     * Converte lista de projeções de pizza para lista de PizzaResponse
+     */
+    List<PizzaResponse> toResponseList(List<PizzaRow> rows);
 
     /**
      * Atualiza Pizza entity com dados do UpdatePizzaRequest
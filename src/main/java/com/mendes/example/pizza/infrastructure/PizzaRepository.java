@@ -2,8 +2,10 @@ package com.mendes.example.pizza.infrastructure;
 
 import com.mendes.example.pizza.domain.Pizza;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,5 +22,27 @@ public interface PizzaRepository extends JpaRepository<Pizza, Long> {
     /**
      * Busca pizzas cujo nome contenha o termo informado (case-insensitive).
      */
-    List<Pizza> findByNameContainingIgnoreCase(String name);
+    @Query("""
+            select new com.mendes.example.pizza.infrastructure.PizzaRow(
+                p.id, p.name, p.description, p.price, p.size, p.available, p.createdAt, p.updatedAt)
+            from Pizza p
+            where lower(p.name) like lower(concat('%', :#{escape(#name)}, '%')) escape :#{escapeCharacter()}""")
+    List<PizzaRow> findRowsByNameContaining(String name);
+
+    /**
+     * Todas as pizzas em ordem de id, para o snapshot do cardápio.
+     */
+    @Query("""
+            select new com.mendes.example.pizza.infrastructure.PizzaRow(
+                p.id, p.name, p.description, p.price, p.size, p.available, p.createdAt, p.updatedAt)
+            from Pizza p
+            order by p.id asc""")
+    List<PizzaRow> findAllRows();
+
+    @Query("""
+            select new com.mendes.example.pizza.infrastructure.PizzaRow(
+                p.id, p.name, p.description, p.price, p.size, p.available, p.createdAt, p.updatedAt)
+            from Pizza p
+            where p.id in :ids""")
+    List<PizzaRow> findRowsByIdIn(Collection<Long> ids);
 }
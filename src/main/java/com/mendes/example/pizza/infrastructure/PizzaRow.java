@@ -0,0 +1,22 @@
+package com.mendes.example.pizza.infrastructure;
+
+import com.mendes.example.pizza.domain.PizzaSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção das colunas de uma pizza para o snapshot do cardápio e as buscas, sem carregar
+ * entidades.
+ */
+public record PizzaRow(
+    Long id,
+    String name,
+    String description,
+    BigDecimal price,
+    PizzaSize size,
+    Boolean available,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
@@ -6,6 +6,7 @@ import com.mendes.example.pizza.application.dto.PizzaResponse;
 import com.mendes.example.pizza.application.dto.UpdatePizzaRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,23 +24,27 @@ import java.util.List;
 public class PizzaController {
 
     private final PizzaService pizzaService;
+    private final PizzaMenuRepresentations menuRepresentations;
 
     /**
      * Lista todas as pizzas disponíveis.
+     *
+     * Responde com o JSON pré-serializado e ETag forte; requisições com
+     * {@code If-None-Match} correspondente recebem 304 Not Modified.
      */
     @GetMapping(version = "1")
-    public ResponseEntity<List<PizzaResponse>> listAvailablePizzas() {
-        List<PizzaResponse> responses = pizzaService.listAvailablePizzas();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<byte[]> listAvailablePizzas() {
+        return toResponse(menuRepresentations.availablePizzas());
     }
 
     /**
-     * Recupera uma pizza pelo identificador.
+     * Recupera uma pizza pelo identificador, com o mesmo suporte a ETag da listagem.
      */
     @GetMapping(path = "/{id}", version = "1")
-    public ResponseEntity<PizzaResponse> getPizzaById(@PathVariable Long id) {
-        PizzaResponse response = pizzaService.getPizzaById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getPizzaById(@PathVariable Long id) {
+        SerializedBody body = menuRepresentations.pizza(id)
+                .orElseGet(() -> menuRepresentations.serialize(pizzaService.getPizzaById(id)));
+        return toResponse(body);
     }
 
     /**
@@ -79,4 +84,15 @@ public class PizzaController {
         List<PizzaResponse> responses = pizzaService.searchPizzasByName(name);
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * O processamento de {@link ResponseEntity} do Spring MVC compara a ETag com
+     * {@code If-None-Match} e responde 304 sem corpo quando coincidem.
+     */
+    private ResponseEntity<byte[]> toResponse(SerializedBody body) {
+        return ResponseEntity.ok()
+                .eTag(body.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.body());
+    }
 }
@@ -0,0 +1,70 @@
+package com.mendes.example.pizza.presentation;
+
+import com.mendes.example.pizza.application.PizzaCatalog;
+import com.mendes.example.pizza.application.dto.PizzaResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Representações JSON pré-serializadas do cardápio.
+ *
+ * Os bytes da lista de pizzas disponíveis e de cada pizza são gerados uma única vez por
+ * versão do {@link PizzaCatalog}; como o snapshot só muda após alterações feitas pelo
+ * {@code PizzaService}, as requisições de leitura apenas escrevem bytes prontos.
+ */
+@Component
+@RequiredArgsConstructor
+public class PizzaMenuRepresentations {
+
+    private final PizzaCatalog pizzaCatalog;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Rendered> rendered = new AtomicReference<>();
+
+    private record Rendered(long version, SerializedBody available, Map<Long, SerializedBody> byId) {
+    }
+
+    /**
+     * Lista de pizzas disponíveis serializada.
+     */
+    public SerializedBody availablePizzas() {
+        return current().available();
+    }
+
+    /**
+     * Pizza serializada, caso esteja no snapshot do cardápio.
+     */
+    public Optional<SerializedBody> pizza(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    /**
+     * Serializa um valor avulso com o mesmo {@link ObjectMapper} usado pelo Spring MVC.
+     */
+    public SerializedBody serialize(Object value) {
+        return SerializedBody.of(objectMapper.writeValueAsBytes(value));
+    }
+
+    private Rendered current() {
+        PizzaCatalog.Snapshot snapshot = pizzaCatalog.snapshot();
+        Rendered current = rendered.get();
+        if (current != null && current.version() == snapshot.version()) {
+            return current;
+        }
+        // Corridas apenas geram os mesmos bytes em duplicidade; a última versão vence
+        Map<Long, SerializedBody> byId = new HashMap<>();
+        for (PizzaResponse pizza : snapshot.byId().values()) {
+            byId.put(pizza.getId(), serialize(pizza));
+        }
+        Rendered fresh = new Rendered(snapshot.version(), serialize(snapshot.available()), Map.copyOf(byId));
+        rendered.accumulateAndGet(fresh, (prev, next) ->
+            prev != null && prev.version() > next.version() ? prev : next
+        );
+        return fresh;
+    }
+}
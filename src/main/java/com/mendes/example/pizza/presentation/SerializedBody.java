@@ -0,0 +1,29 @@
+package com.mendes.example.pizza.presentation;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Corpo de resposta JSON já serializado, com sua ETag forte.
+ *
+ * A ETag é derivada do conteúdo (SHA-256 truncado), então dois corpos idênticos
+ * sempre produzem a mesma ETag, inclusive entre nós diferentes.
+ */
+public record SerializedBody(byte[] body, String etag) {
+
+    private static final int ETAG_BYTES = 16;
+
+    /**
+     * Cria o corpo calculando a ETag a partir dos bytes.
+     */
+    public static SerializedBody of(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String hash = HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+            return new SerializedBody(body, "\"" + hash + "\"");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.mendes.example.report.application;
+
+import com.mendes.example.order.application.dto.OrderItemResponse;
+import com.mendes.example.order.application.event.OrderStatusChangedEvent;
+import com.mendes.example.report.application.dto.BestSellerResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranking aproximado das pizzas mais vendidas nas janelas deslizantes de {@link BestSellerWindow}.
+ *
+ * Alimentado pela criação de pedidos (após o commit), ponderado pela quantidade de cada item.
+ * Cada janela é um anel de buckets de tempo com um {@link SpaceSaving} de capacidade fixa
+ * ({@code reports.best-sellers.capacity}); buckets expirados são reaproveitados, então a memória
+ * não cresce com o volume de pedidos. A consulta soma os buckets da janela e ordena o resultado.
+ */
+@Component
+public class BestSellerTracker {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final Clock clock;
+    private final Map<BestSellerWindow, SlidingWindow> windows = new EnumMap<>(BestSellerWindow.class);
+
+    @Autowired
+    public BestSellerTracker(@Value("${reports.best-sellers.capacity:64}") int capacity) {
+        this(capacity, Clock.systemUTC());
+    }
+
+    BestSellerTracker(int capacity, Clock clock) {
+        this.clock = clock;
+        for (BestSellerWindow window : BestSellerWindow.values()) {
+            windows.put(window, new SlidingWindow(window, capacity));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (!event.isCreation() || event.order().getItems() == null) {
+            return;
+        }
+        for (OrderItemResponse item : event.order().getItems()) {
+            record(item.getPizzaId(), item.getPizzaName(), item.getQuantity());
+        }
+    }
+
+    /**
+     * Registra a venda de {@code quantity} unidades da pizza no instante atual.
+     */
+    public void record(long pizzaId, String pizzaName, long quantity) {
+        Instant now = clock.instant();
+        for (SlidingWindow window : windows.values()) {
+            window.offer(now, pizzaId, pizzaName, quantity);
+        }
+    }
+
+    /**
+     * As {@code limit} pizzas mais vendidas na janela, da mais para a menos vendida.
+     */
+    public List<BestSellerResponse> topSellers(BestSellerWindow window, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return windows.get(window).merge(clock.instant()).values().stream()
+            .sorted(Comparator.comparingLong(SpaceSaving.Estimate::count).reversed()
+                .thenComparingLong(SpaceSaving.Estimate::key))
+            .limit(limit)
+            .map(estimate -> BestSellerResponse.builder()
+                .pizzaId(estimate.key())
+                .pizzaName(estimate.label())
+                .quantity(estimate.count())
+                .maxError(estimate.error())
+                .build())
+            .toList();
+    }
+
+    /**
+     * Anel de buckets: o bucket {@code i} guarda o período {@code epoch} com {@code epoch % buckets == i}.
+     */
+    private static final class SlidingWindow {
+        private final long bucketSeconds;
+        private final SpaceSaving[] buckets;
+        private final long[] epochs;
+
+        private SlidingWindow(BestSellerWindow window, int capacity) {
+            this.bucketSeconds = window.getBucketUnit().getDuration().toSeconds();
+            this.buckets = new SpaceSaving[window.getBuckets()];
+            this.epochs = new long[window.getBuckets()];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new SpaceSaving(capacity);
+                epochs[i] = -1;
+            }
+        }
+
+        private void offer(Instant now, long key, String label, long weight) {
+            long epoch = now.getEpochSecond() / bucketSeconds;
+            int index = (int) (epoch % buckets.length);
+            SpaceSaving bucket = buckets[index];
+            synchronized (bucket) {
+                if (epochs[index] != epoch) {
+                    bucket.clear();
+                    epochs[index] = epoch;
+                }
+                bucket.offer(key, label, weight);
+            }
+        }
+
+        /**
+         * Soma as estimativas dos buckets ainda dentro da janela. Num bucket em que o item não é
+         * monitorado, sua contagem pode chegar ao {@link SpaceSaving#floor() piso} do bucket, que
+         * entra na estimativa e no erro, mantendo a garantia {@code count - error <= real <= count}.
+         */
+        private Map<Long, SpaceSaving.Estimate> merge(Instant now) {
+            long current = now.getEpochSecond() / bucketSeconds;
+            Map<Long, SpaceSaving.Estimate> merged = new HashMap<>();
+            long totalFloor = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                SpaceSaving bucket = buckets[i];
+                List<SpaceSaving.Estimate> estimates;
+                long floor;
+                synchronized (bucket) {
+                    if (epochs[i] <= current - buckets.length || epochs[i] > current) {
+                        continue;
+                    }
+                    estimates = bucket.estimates();
+                    floor = bucket.floor();
+                }
+                totalFloor += floor;
+                // Acumula só o excedente sobre o piso do bucket; a soma dos pisos é aplicada no fim
+                for (SpaceSaving.Estimate estimate : estimates) {
+                    SpaceSaving.Estimate excess = new SpaceSaving.Estimate(estimate.key(), estimate.label(),
+                        estimate.count() - floor, estimate.error() - floor);
+                    merged.merge(estimate.key(), excess, (a, b) -> new SpaceSaving.Estimate(
+                        a.key(), b.label(), a.count() + b.count(), a.error() + b.error()));
+                }
+            }
+            long floors = totalFloor;
+            merged.replaceAll((key, estimate) -> new SpaceSaving.Estimate(key, estimate.label(),
+                estimate.count() + floors, estimate.error() + floors));
+            return merged;
+        }
+    }
+}
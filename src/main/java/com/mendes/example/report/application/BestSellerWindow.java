@@ -0,0 +1,27 @@
+package com.mendes.example.report.application;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Janelas deslizantes do ranking de mais vendidas, cada uma dividida em buckets de tempo.
+ */
+public enum BestSellerWindow {
+    LAST_HOUR(ChronoUnit.MINUTES, 60),
+    LAST_DAY(ChronoUnit.HOURS, 24);
+
+    private final ChronoUnit bucketUnit;
+    private final int buckets;
+
+    BestSellerWindow(ChronoUnit bucketUnit, int buckets) {
+        this.bucketUnit = bucketUnit;
+        this.buckets = buckets;
+    }
+
+    ChronoUnit getBucketUnit() {
+        return bucketUnit;
+    }
+
+    int getBuckets() {
+        return buckets;
+    }
+}
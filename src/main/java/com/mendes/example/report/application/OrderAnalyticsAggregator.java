@@ -0,0 +1,77 @@
+package com.mendes.example.report.application;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Agrega blocos de pedidos em paralelo num {@link ForkJoinPool} próprio
+ * ({@code reports.analytics.parallelism}, padrão: núcleos disponíveis), separado do pool comum
+ * para que análises longas não disputem com parallel streams do restante da aplicação.
+ *
+ * Cada bloco é dividido ao meio até {@value #THRESHOLD} pedidos; as folhas acumulam em
+ * {@link OrderAnalyticsTotals} próprios, combinados na volta da recursão.
+ */
+@Component
+public class OrderAnalyticsAggregator {
+
+    static final int THRESHOLD = 4_096;
+
+    private final ForkJoinPool pool;
+
+    public OrderAnalyticsAggregator(@Value("${reports.analytics.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Agenda a agregação do bloco; o resultado é obtido com {@link ForkJoinTask#join()}.
+     */
+    ForkJoinTask<OrderAnalyticsTotals> submit(OrderChunk chunk, int cities) {
+        return pool.submit(new ChunkTask(chunk, cities, 0, chunk.orders));
+    }
+
+    OrderAnalyticsTotals aggregate(OrderChunk chunk, int cities) {
+        return pool.invoke(new ChunkTask(chunk, cities, 0, chunk.orders));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static final class ChunkTask extends RecursiveTask<OrderAnalyticsTotals> {
+        private final OrderChunk chunk;
+        private final int cities;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(OrderChunk chunk, int cities, int from, int to) {
+            this.chunk = chunk;
+            this.cities = cities;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected OrderAnalyticsTotals compute() {
+            if (to - from <= THRESHOLD) {
+                OrderAnalyticsTotals totals = new OrderAnalyticsTotals(cities);
+                totals.add(chunk, from, to);
+                return totals;
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(chunk, cities, from, middle);
+            left.fork();
+            OrderAnalyticsTotals right = new ChunkTask(chunk, cities, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.mendes.example.report.application;
+
+import com.mendes.example.order.infrastructure.ArchivedOrderRepository;
+import com.mendes.example.order.infrastructure.OrderAnalyticsRow;
+import com.mendes.example.order.infrastructure.OrderItemAnalyticsRow;
+import com.mendes.example.order.infrastructure.OrderItemRepository;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.pizza.application.PizzaService;
+import com.mendes.example.pizza.application.dto.PizzaResponse;
+import com.mendes.example.pizza.domain.PizzaSize;
+import com.mendes.example.report.application.dto.CityRevenueEntry;
+import com.mendes.example.report.application.dto.HourlyCancellationEntry;
+import com.mendes.example.report.application.dto.OrderAnalyticsResponse;
+import com.mendes.example.report.application.dto.SizeTicketEntry;
+import com.mendes.example.shared.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Análises de pedidos calculadas no servidor: receita por cidade, ticket médio por
+ * {@link PizzaSize} e taxa de cancelamento por hora do dia.
+ *
+ * Os pedidos do período são lidos em blocos de {@code reports.analytics.chunk-size} por keyset
+ * em {@code (created_at, id)}, como projeções (sem entidades no contexto de persistência), e
+ * convertidos em {@link OrderChunk}. Enquanto um bloco é agregado em paralelo pelo
+ * {@link OrderAnalyticsAggregator}, o próximo é lido do banco; no máximo dois blocos ficam
+ * em memória. As linhas já trazem os valores em centavos ({@link Money}) e os acumuladores
+ * usam {@code long}; {@link BigDecimal} só aparece na resposta.
+ *
+ * Pedidos finalizados há mais de {@code orders.archive.min-age} estão em {@code orders_archive}
+ * ({@link com.mendes.example.order.application.OrderArchiver}): os blocos do arquivo são lidos
+ * depois dos da tabela quente, pelo mesmo keyset, e entram na mesma agregação. A leitura usa
+ * {@code REPEATABLE READ}: as duas tabelas vêm do mesmo snapshot, então um pedido arquivado
+ * durante a análise não é contado duas vezes nem some.
+ */
+@Slf4j
+@Service
+public class OrderAnalyticsService {
+
+    private final List<AnalyticsSource> sources;
+    private final PizzaService pizzaService;
+    private final OrderAnalyticsAggregator aggregator;
+    private final int chunkSize;
+
+    public OrderAnalyticsService(
+        OrderRepository orderRepository,
+        OrderItemRepository orderItemRepository,
+        ArchivedOrderRepository archivedOrderRepository,
+        PizzaService pizzaService,
+        OrderAnalyticsAggregator aggregator,
+        @Value("${reports.analytics.chunk-size:10000}") int chunkSize
+    ) {
+        this.sources = List.of(
+            new HotOrders(orderRepository, orderItemRepository),
+            new ArchivedOrders(archivedOrderRepository)
+        );
+        this.pizzaService = pizzaService;
+        this.aggregator = aggregator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Resumo dos pedidos criados em {@code [start, end)}.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public OrderAnalyticsResponse analyze(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        Map<Long, Byte> pizzaSizes = new HashMap<>();
+        Map<String, Integer> cityIds = new HashMap<>();
+        List<String> cities = new ArrayList<>();
+        OrderAnalyticsTotals totals = new OrderAnalyticsTotals(0);
+        ForkJoinTask<OrderAnalyticsTotals> pending = null;
+        int chunks = 0;
+
+        for (AnalyticsSource source : sources) {
+            List<OrderAnalyticsRow> rows = source.firstChunk(start, end, Limit.of(chunkSize));
+            while (!rows.isEmpty()) {
+                OrderChunk chunk = toChunk(source, rows, pizzaSizes, cityIds, cities);
+                ForkJoinTask<OrderAnalyticsTotals> submitted = aggregator.submit(chunk, cities.size());
+                if (pending != null) {
+                    totals.merge(pending.join());
+                }
+                pending = submitted;
+                chunks++;
+
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+                OrderAnalyticsRow last = rows.getLast();
+                rows = source.chunkAfter(end, last.createdAt(), last.id(), Limit.of(chunkSize));
+            }
+        }
+        if (pending != null) {
+            totals.merge(pending.join());
+        }
+
+        log.debug("Order analytics from {} to {}: {} orders in {} chunks", start, end, totals.orders, chunks);
+        return toResponse(start, end, totals, cities);
+    }
+
+    private OrderChunk toChunk(
+        AnalyticsSource source,
+        List<OrderAnalyticsRow> rows,
+        Map<Long, Byte> pizzaSizes,
+        Map<String, Integer> cityIds,
+        List<String> cities
+    ) {
+        List<UUID> orderIds = new ArrayList<>(rows.size());
+        rows.forEach(row -> orderIds.add(row.id()));
+        Map<UUID, List<OrderItemAnalyticsRow>> itemsByOrder = new HashMap<>(rows.size() * 2);
+        for (OrderItemAnalyticsRow item : source.items(orderIds)) {
+            itemsByOrder.computeIfAbsent(item.orderId(), id -> new ArrayList<>(2)).add(item);
+            pizzaSizes.putIfAbsent(item.pizzaId(), null);
+        }
+        resolveSizes(pizzaSizes);
+
+        OrderChunk.Builder builder = new OrderChunk.Builder(rows.size());
+        for (OrderAnalyticsRow row : rows) {
+            int cityId = cityIds.computeIfAbsent(row.city(), city -> {
+                cities.add(city);
+                return cities.size() - 1;
+            });
+            builder.addOrder(cityId, row.status().ordinal(), row.createdAt().getHour(), row.totalAmount().minorUnits());
+            for (OrderItemAnalyticsRow item : itemsByOrder.getOrDefault(row.id(), List.of())) {
+                builder.addItem(pizzaSizes.get(item.pizzaId()), item.quantity(), item.totalPrice().minorUnits());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Resolve os tamanhos das pizzas ainda sem valor (cardápio em memória, com fallback ao banco).
+     * Pizzas removidas ficam com {@link OrderChunk#UNKNOWN_SIZE}.
+     */
+    private void resolveSizes(Map<Long, Byte> pizzaSizes) {
+        List<Long> unresolved = new ArrayList<>();
+        pizzaSizes.forEach((id, size) -> {
+            if (size == null) {
+                unresolved.add(id);
+            }
+        });
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        Map<Long, PizzaResponse> pizzas = pizzaService.findPizzasByIds(unresolved);
+        for (Long id : unresolved) {
+            PizzaResponse pizza = pizzas.get(id);
+            pizzaSizes.put(id, pizza != null && pizza.getSize() != null
+                ? (byte) pizza.getSize().ordinal()
+                : OrderChunk.UNKNOWN_SIZE);
+        }
+    }
+
+    private static OrderAnalyticsResponse toResponse(
+        LocalDateTime start,
+        LocalDateTime end,
+        OrderAnalyticsTotals totals,
+        List<String> cities
+    ) {
+        List<CityRevenueEntry> cityEntries = new ArrayList<>();
+        for (int city = 0; city < totals.cityOrders.length; city++) {
+            if (totals.cityOrders[city] > 0) {
+                cityEntries.add(CityRevenueEntry.builder()
+                    .city(cities.get(city))
+                    .orders(totals.cityOrders[city])
+                    .revenue(toAmount(totals.cityRevenueCents[city]))
+                    .averageTicket(average(totals.cityRevenueCents[city], totals.cityOrders[city]))
+                    .build());
+            }
+        }
+        cityEntries.sort(Comparator.comparing(CityRevenueEntry::getRevenue).reversed());
+
+        List<SizeTicketEntry> sizeEntries = new ArrayList<>();
+        for (PizzaSize size : PizzaSize.values()) {
+            int index = size.ordinal();
+            if (totals.sizeOrders[index] > 0) {
+                sizeEntries.add(SizeTicketEntry.builder()
+                    .size(size)
+                    .orders(totals.sizeOrders[index])
+                    .quantity(totals.sizeQuantity[index])
+                    .revenue(toAmount(totals.sizeRevenueCents[index]))
+                    .averageTicket(average(totals.sizeRevenueCents[index], totals.sizeOrders[index]))
+                    .build());
+            }
+        }
+
+        List<HourlyCancellationEntry> hourEntries = new ArrayList<>();
+        for (int hour = 0; hour < OrderAnalyticsTotals.HOURS; hour++) {
+            long orders = totals.hourOrders[hour];
+            if (orders > 0) {
+                hourEntries.add(HourlyCancellationEntry.builder()
+                    .hour(hour)
+                    .orders(orders)
+                    .cancelled(totals.hourCancelled[hour])
+                    .cancellationRate(BigDecimal.valueOf(totals.hourCancelled[hour])
+                        .divide(BigDecimal.valueOf(orders), 4, RoundingMode.HALF_UP))
+                    .build());
+            }
+        }
+
+        return OrderAnalyticsResponse.builder()
+            .startDate(start)
+            .endDate(end)
+            .orders(totals.orders)
+            .cancelledOrders(totals.cancelled)
+            .revenue(toAmount(totals.revenueCents))
+            .averageTicket(average(totals.revenueCents, totals.orders - totals.cancelled))
+            .cities(cityEntries)
+            .sizes(sizeEntries)
+            .hours(hourEntries)
+            .build();
+    }
+
+    private static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static BigDecimal average(long cents, long count) {
+        if (count == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return BigDecimal.valueOf(cents, 2).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Tabela de onde os blocos de pedidos e seus itens são lidos.
+     */
+    private interface AnalyticsSource {
+
+        List<OrderAnalyticsRow> firstChunk(LocalDateTime start, LocalDateTime end, Limit limit);
+
+        List<OrderAnalyticsRow> chunkAfter(LocalDateTime end, LocalDateTime createdAt, UUID id, Limit limit);
+
+        List<OrderItemAnalyticsRow> items(Collection<UUID> orderIds);
+    }
+
+    private record HotOrders(OrderRepository orders, OrderItemRepository items) implements AnalyticsSource {
+
+        @Override
+        public List<OrderAnalyticsRow> firstChunk(LocalDateTime start, LocalDateTime end, Limit limit) {
+            return orders.findFirstAnalyticsChunk(start, end, limit);
+        }
+
+        @Override
+        public List<OrderAnalyticsRow> chunkAfter(LocalDateTime end, LocalDateTime createdAt, UUID id, Limit limit) {
+            return orders.findAnalyticsChunkAfter(end, createdAt, id, limit);
+        }
+
+        @Override
+        public List<OrderItemAnalyticsRow> items(Collection<UUID> orderIds) {
+            return items.findAnalyticsRowsByOrderIdIn(orderIds);
+        }
+    }
+
+    private record ArchivedOrders(ArchivedOrderRepository archive) implements AnalyticsSource {
+
+        @Override
+        public List<OrderAnalyticsRow> firstChunk(LocalDateTime start, LocalDateTime end, Limit limit) {
+            return archive.findFirstAnalyticsChunk(start, end, limit);
+        }
+
+        @Override
+        public List<OrderAnalyticsRow> chunkAfter(LocalDateTime end, LocalDateTime createdAt, UUID id, Limit limit) {
+            return archive.findAnalyticsChunkAfter(end, createdAt, id, limit);
+        }
+
+        @Override
+        public List<OrderItemAnalyticsRow> items(Collection<UUID> orderIds) {
+            return archive.findAnalyticsRowsByOrderIdIn(orderIds);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.mendes.example.report.application;
+
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.pizza.domain.PizzaSize;
+
+import java.util.Arrays;
+
+/**
+ * Acumuladores das análises de pedidos, em contadores {@code long} (valores em centavos).
+ *
+ * - Por cidade (id do dicionário de cidades): pedidos e receita
+ * - Por {@link PizzaSize}: pedidos com ao menos um item do tamanho, unidades e receita dos itens
+ * - Por hora do dia da criação: pedidos e cancelamentos
+ *
+ * Pedidos cancelados entram apenas nos contadores por hora. Não é thread-safe: cada tarefa do
+ * fork-join acumula no próprio objeto e os resultados são combinados com {@link #merge}.
+ */
+final class OrderAnalyticsTotals {
+
+    static final int HOURS = 24;
+    static final int SIZES = PizzaSize.values().length;
+
+    private static final int CANCELLED = OrderStatus.CANCELLED.ordinal();
+
+    long orders;
+    long cancelled;
+    long revenueCents;
+    long[] cityOrders;
+    long[] cityRevenueCents;
+    final long[] sizeOrders = new long[SIZES];
+    final long[] sizeQuantity = new long[SIZES];
+    final long[] sizeRevenueCents = new long[SIZES];
+    final long[] hourOrders = new long[HOURS];
+    final long[] hourCancelled = new long[HOURS];
+
+    OrderAnalyticsTotals(int cities) {
+        this.cityOrders = new long[cities];
+        this.cityRevenueCents = new long[cities];
+    }
+
+    /**
+     * Soma os pedidos {@code [from, to)} do bloco.
+     */
+    void add(OrderChunk chunk, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int hour = chunk.hour[i];
+            orders++;
+            hourOrders[hour]++;
+            if (chunk.status[i] == CANCELLED) {
+                cancelled++;
+                hourCancelled[hour]++;
+                continue;
+            }
+
+            long cents = chunk.totalCents[i];
+            revenueCents += cents;
+            int city = chunk.city[i];
+            if (city >= cityOrders.length) {
+                growCities(city + 1);
+            }
+            cityOrders[city]++;
+            cityRevenueCents[city] += cents;
+
+            // Máscara dos tamanhos presentes no pedido: cada pedido conta uma vez por tamanho
+            int sizes = 0;
+            for (int item = chunk.firstItem[i]; item < chunk.firstItem[i + 1]; item++) {
+                int size = chunk.itemSize[item];
+                if (size == OrderChunk.UNKNOWN_SIZE) {
+                    continue;
+                }
+                sizes |= 1 << size;
+                sizeQuantity[size] += chunk.itemQuantity[item];
+                sizeRevenueCents[size] += chunk.itemCents[item];
+            }
+            for (int size = 0; sizes != 0; size++, sizes >>>= 1) {
+                sizeOrders[size] += sizes & 1;
+            }
+        }
+    }
+
+    OrderAnalyticsTotals merge(OrderAnalyticsTotals other) {
+        orders += other.orders;
+        cancelled += other.cancelled;
+        revenueCents += other.revenueCents;
+        if (other.cityOrders.length > cityOrders.length) {
+            growCities(other.cityOrders.length);
+        }
+        addAll(cityOrders, other.cityOrders);
+        addAll(cityRevenueCents, other.cityRevenueCents);
+        addAll(sizeOrders, other.sizeOrders);
+        addAll(sizeQuantity, other.sizeQuantity);
+        addAll(sizeRevenueCents, other.sizeRevenueCents);
+        addAll(hourOrders, other.hourOrders);
+        addAll(hourCancelled, other.hourCancelled);
+        return this;
+    }
+
+    private void growCities(int cities) {
+        cityOrders = Arrays.copyOf(cityOrders, cities);
+        cityRevenueCents = Arrays.copyOf(cityRevenueCents, cities);
+    }
+
+    private static void addAll(long[] target, long[] source) {
+        for (int i = 0; i < source.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.mendes.example.report.application;
+
+import java.util.Arrays;
+
+/**
+ * Bloco de pedidos em colunas de tipos primitivos, na forma consumida pelo
+ * {@link OrderAnalyticsAggregator}. Valores monetários em centavos.
+ *
+ * Os itens do pedido {@code i} ocupam as posições {@code [firstItem[i], firstItem[i + 1])}
+ * das colunas de item. Imutável depois de construído.
+ */
+final class OrderChunk {
+
+    /**
+     * Tamanho de pizza desconhecido (pizza removida do cardápio).
+     */
+    static final byte UNKNOWN_SIZE = -1;
+
+    final int orders;
+    final int[] city;
+    final byte[] status;
+    final byte[] hour;
+    final long[] totalCents;
+    final int[] firstItem;
+    final byte[] itemSize;
+    final int[] itemQuantity;
+    final long[] itemCents;
+
+    private OrderChunk(Builder builder) {
+        this.orders = builder.orders;
+        this.city = Arrays.copyOf(builder.city, orders);
+        this.status = Arrays.copyOf(builder.status, orders);
+        this.hour = Arrays.copyOf(builder.hour, orders);
+        this.totalCents = Arrays.copyOf(builder.totalCents, orders);
+        this.firstItem = Arrays.copyOf(builder.firstItem, orders + 1);
+        this.firstItem[orders] = builder.items;
+        this.itemSize = Arrays.copyOf(builder.itemSize, builder.items);
+        this.itemQuantity = Arrays.copyOf(builder.itemQuantity, builder.items);
+        this.itemCents = Arrays.copyOf(builder.itemCents, builder.items);
+    }
+
+    /**
+     * Acumula um bloco pedido a pedido; os itens de cada pedido vêm logo após o próprio pedido.
+     */
+    static final class Builder {
+        private int orders;
+        private int items;
+        private int[] city;
+        private byte[] status;
+        private byte[] hour;
+        private long[] totalCents;
+        private int[] firstItem;
+        private byte[] itemSize;
+        private int[] itemQuantity;
+        private long[] itemCents;
+
+        Builder(int expectedOrders) {
+            int capacity = Math.max(expectedOrders, 16);
+            city = new int[capacity];
+            status = new byte[capacity];
+            hour = new byte[capacity];
+            totalCents = new long[capacity];
+            firstItem = new int[capacity + 1];
+            itemSize = new byte[capacity * 2];
+            itemQuantity = new int[capacity * 2];
+            itemCents = new long[capacity * 2];
+        }
+
+        Builder addOrder(int cityId, int statusOrdinal, int hourOfDay, long cents) {
+            if (orders == city.length) {
+                int capacity = orders * 2;
+                city = Arrays.copyOf(city, capacity);
+                status = Arrays.copyOf(status, capacity);
+                hour = Arrays.copyOf(hour, capacity);
+                totalCents = Arrays.copyOf(totalCents, capacity);
+                firstItem = Arrays.copyOf(firstItem, capacity + 1);
+            }
+            city[orders] = cityId;
+            status[orders] = (byte) statusOrdinal;
+            hour[orders] = (byte) hourOfDay;
+            totalCents[orders] = cents;
+            firstItem[orders] = items;
+            orders++;
+            return this;
+        }
+
+        Builder addItem(byte size, int quantity, long cents) {
+            if (items == itemSize.length) {
+                int capacity = items * 2;
+                itemSize = Arrays.copyOf(itemSize, capacity);
+                itemQuantity = Arrays.copyOf(itemQuantity, capacity);
+                itemCents = Arrays.copyOf(itemCents, capacity);
+            }
+            itemSize[items] = size;
+            itemQuantity[items] = quantity;
+            itemCents[items] = cents;
+            items++;
+            return this;
+        }
+
+        int orders() {
+            return orders;
+        }
+
+        OrderChunk build() {
+            return new OrderChunk(this);
+        }
+    }
+}
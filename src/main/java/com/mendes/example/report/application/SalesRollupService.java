@@ -0,0 +1,262 @@
+package com.mendes.example.report.application;
+
+import com.mendes.example.order.application.dto.OrderItemResponse;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.application.event.OrderStatusChangedEvent;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.ArchivedOrderRepository;
+import com.mendes.example.order.infrastructure.OrderItemRepository;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.order.infrastructure.OrderSalesRow;
+import com.mendes.example.report.application.dto.SalesBackfillResponse;
+import com.mendes.example.report.application.dto.SalesReportEntry;
+import com.mendes.example.report.application.mapper.SalesRollupMapper;
+import com.mendes.example.report.domain.RollupGranularity;
+import com.mendes.example.report.domain.SalesRollup;
+import com.mendes.example.report.domain.SalesRollupId;
+import com.mendes.example.report.infrastructure.SalesRollupRepository;
+import com.mendes.example.shared.money.Money;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Serviço de relatórios de vendas sobre as tabelas de rollup.
+ *
+ * - Incremental: quando um pedido chega a DELIVERED ou CANCELLED, seus itens são somados aos
+ *   buckets de hora e dia da criação do pedido, na mesma transação da transição
+ * - Backfill: reconstrói os buckets de um período a partir dos pedidos existentes, inclusive
+ *   os arquivados, dia a dia e com os pedidos do dia bloqueados: transições concorrentes
+ *   esperam o backfill terminar e somam sobre os buckets reconstruídos, sem se perder nem
+ *   contar duas vezes
+ * - Consulta: lê apenas os buckets do período, sem percorrer pedidos
+ *
+ * Excluir um pedido não altera os rollups: eles registram o histórico de vendas.
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    private static final Set<OrderStatus> FINAL_STATUSES = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final SalesRollupMapper salesRollupMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate dayTransaction;
+
+    public SalesRollupService(
+        SalesRollupRepository salesRollupRepository,
+        OrderRepository orderRepository,
+        OrderItemRepository orderItemRepository,
+        ArchivedOrderRepository archivedOrderRepository,
+        SalesRollupMapper salesRollupMapper,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.salesRollupMapper = salesRollupMapper;
+        this.entityManager = entityManager;
+        this.dayTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Vendas por pizza e bucket no período {@code [start, end)}.
+     * O custo é proporcional à quantidade de buckets, não de pedidos.
+     */
+    @Transactional(readOnly = true)
+    public List<SalesReportEntry> getSalesReport(
+        RollupGranularity granularity,
+        LocalDateTime start,
+        LocalDateTime end,
+        Long pizzaId,
+        OrderStatus status
+    ) {
+        validateRange(start, end);
+        if (status != null && !FINAL_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Sales reports only cover DELIVERED and CANCELLED orders");
+        }
+        return salesRollupMapper.toEntryList(salesRollupRepository.findBuckets(granularity, start, end, pizzaId, status));
+    }
+
+    /**
+     * Reconstrói os buckets dos dias entre {@code startDate} e {@code endDate} (inclusive)
+     * a partir dos pedidos finalizados. Cada dia roda em uma transação.
+     */
+    public SalesBackfillResponse backfill(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        int days = 0;
+        int buckets = 0;
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            LocalDate current = day;
+            buckets += dayTransaction.execute(status -> backfillDay(current));
+            days++;
+        }
+        log.info("Sales rollups backfilled from {} to {}: {} buckets", startDate, endDate, buckets);
+        return SalesBackfillResponse.builder()
+            .startDate(startDate)
+            .endDate(endDate)
+            .days(days)
+            .buckets(buckets)
+            .build();
+    }
+
+    /**
+     * Soma o pedido aos rollups quando ele chega a um status final. Listener síncrono:
+     * roda na transação da transição, então rollup e pedido são confirmados juntos.
+     */
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        OrderResponse order = event.order();
+        if (event.isCreation() || !FINAL_STATUSES.contains(order.getStatus())) {
+            return;
+        }
+
+        // Ordem determinística de atualização dos buckets, evitando deadlocks entre transições
+        Map<Long, PizzaSales> byPizza = new TreeMap<>();
+        for (OrderItemResponse item : order.getItems()) {
+            byPizza.computeIfAbsent(item.getPizzaId(), id -> new PizzaSales(item.getPizzaName()))
+                .add(item.getQuantity(), Money.of(item.getTotalPrice()));
+        }
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDateTime bucketStart = granularity.bucketOf(order.getCreatedAt());
+            byPizza.forEach((pizzaId, sales) -> increment(
+                new SalesRollupId(granularity, bucketStart, pizzaId, order.getStatus()), sales));
+        }
+    }
+
+    /**
+     * Bucket novo é criado com um upsert na própria transação da transição (uma única conexão);
+     * criações concorrentes do mesmo bucket não falham e o incremento seguinte soma sobre ele.
+     */
+    private void increment(SalesRollupId id, PizzaSales sales) {
+        if (incrementExisting(id, sales) == 0) {
+            salesRollupRepository.createIfAbsent(id, sales.pizzaName);
+            incrementExisting(id, sales);
+        }
+    }
+
+    private int incrementExisting(SalesRollupId id, PizzaSales sales) {
+        return salesRollupRepository.increment(
+            id.getGranularity(), id.getBucketStart(), id.getPizzaId(), id.getStatus(),
+            1, sales.quantity, sales.revenue.toBigDecimal()
+        );
+    }
+
+    /**
+     * Os pedidos do dia são bloqueados antes de apagar os buckets: transições já em andamento
+     * são confirmadas antes (e entram na leitura), as seguintes esperam o commit do dia. Como a
+     * transição bloqueia o pedido no UPDATE condicional, antes de somar aos buckets, a ordem
+     * dos bloqueios é a mesma nos dois lados.
+     */
+    private int backfillDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        orderRepository.lockCreatedBetween(start, end);
+        salesRollupRepository.deleteBuckets(start, end);
+
+        // Pedidos antigos podem já ter sido movidos para o arquivo pelo OrderArchiver
+        Map<SalesRollupId, SalesRollup> buckets = new HashMap<>();
+        try (Stream<OrderSalesRow> sales = orderItemRepository.streamSalesByOrderCreatedAt(start, end, FINAL_STATUSES)) {
+            accumulate(buckets, sales);
+        }
+        try (Stream<OrderSalesRow> sales =
+                 archivedOrderRepository.streamSalesByOrderCreatedAt(start, end, FINAL_STATUSES)) {
+            accumulate(buckets, sales);
+        }
+
+        buckets.values().forEach(entityManager::persist);
+        return buckets.size();
+    }
+
+    /**
+     * Soma aos buckets os itens lidos, que chegam agrupados por pedido: como no incremento,
+     * cada pedido conta uma vez por pizza.
+     */
+    private void accumulate(Map<SalesRollupId, SalesRollup> buckets, Stream<OrderSalesRow> sales) {
+        Map<Long, PizzaSales> orderSales = new TreeMap<>();
+        OrderSalesRow[] current = new OrderSalesRow[1];
+        sales.forEach(row -> {
+            if (current[0] != null && !current[0].orderId().equals(row.orderId())) {
+                accumulate(buckets, current[0], orderSales);
+            }
+            current[0] = row;
+            orderSales.computeIfAbsent(row.pizzaId(), id -> new PizzaSales(row.pizzaName()))
+                .add(row.quantity(), row.totalPrice());
+        });
+        if (current[0] != null) {
+            accumulate(buckets, current[0], orderSales);
+        }
+    }
+
+    private void accumulate(Map<SalesRollupId, SalesRollup> buckets, OrderSalesRow order,
+                            Map<Long, PizzaSales> orderSales) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDateTime bucketStart = granularity.bucketOf(order.createdAt());
+            orderSales.forEach((pizzaId, sales) -> {
+                SalesRollupId id = new SalesRollupId(granularity, bucketStart, pizzaId, order.status());
+                SalesRollup bucket = buckets.computeIfAbsent(id, key -> emptyBucket(key, sales.pizzaName));
+                bucket.setOrderCount(bucket.getOrderCount() + 1);
+                bucket.setQuantity(bucket.getQuantity() + sales.quantity);
+                bucket.setRevenue(bucket.getRevenue().add(sales.revenue.toBigDecimal()));
+            });
+        }
+        orderSales.clear();
+    }
+
+    private static SalesRollup emptyBucket(SalesRollupId id, String pizzaName) {
+        return SalesRollup.builder()
+            .id(id)
+            .pizzaName(pizzaName)
+            .orderCount(0)
+            .quantity(0)
+            .revenue(BigDecimal.ZERO)
+            .build();
+    }
+
+    private void validateRange(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+    }
+
+    /**
+     * Vendas de uma pizza dentro de um pedido (soma das linhas com a mesma pizza).
+     */
+    private static final class PizzaSales {
+        private final String pizzaName;
+        private long quantity;
+        private Money revenue = Money.ZERO;
+
+        private PizzaSales(String pizzaName) {
+            this.pizzaName = pizzaName;
+        }
+
+        private void add(int quantity, Money totalPrice) {
+            this.quantity += quantity;
+            this.revenue = revenue.plus(totalPrice);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.mendes.example.report.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sketch Space-Saving (Metwally et al.) de itens mais frequentes com memória limitada.
+ *
+ * Guarda no máximo {@code capacity} contadores. Um item novo com o sketch cheio substitui o
+ * contador mínimo e herda seu valor como erro, de modo que, para cada item monitorado,
+ * a contagem real está em {@code [count - error, count]} e todo item com frequência maior
+ * que {@code total / capacity} está garantidamente monitorado.
+ *
+ * Não é thread-safe; o chamador sincroniza.
+ */
+final class SpaceSaving {
+
+    /**
+     * Contagem estimada de um item.
+     *
+     * @param count estimativa (limite superior da contagem real)
+     * @param error superestimação máxima
+     */
+    record Estimate(long key, String label, long count, long error) {
+    }
+
+    private static final class Counter {
+        private String label;
+        private long count;
+        private long error;
+
+        private Counter(String label, long count, long error) {
+            this.label = label;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    private final int capacity;
+    private final Map<Long, Counter> counters;
+
+    SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.counters = HashMap.newHashMap(capacity);
+    }
+
+    void offer(long key, String label, long weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += weight;
+            counter.label = label;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(label, weight, 0));
+            return;
+        }
+
+        // Capacidade pequena (dezenas de itens): a varredura linear é mais barata que manter uma fila ordenada
+        Map.Entry<Long, Counter> minimum = null;
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            if (minimum == null || entry.getValue().count < minimum.getValue().count) {
+                minimum = entry;
+            }
+        }
+        long floor = minimum.getValue().count;
+        counters.remove(minimum.getKey());
+        counters.put(key, new Counter(label, floor + weight, floor));
+    }
+
+    List<Estimate> estimates() {
+        List<Estimate> estimates = new ArrayList<>(counters.size());
+        counters.forEach((key, counter) -> estimates.add(new Estimate(key, counter.label, counter.count, counter.error)));
+        return estimates;
+    }
+
+    /**
+     * Limite superior da contagem de um item não monitorado: o menor contador com o sketch cheio,
+     * zero caso contrário.
+     */
+    long floor() {
+        if (counters.size() < capacity) {
+            return 0;
+        }
+        long floor = Long.MAX_VALUE;
+        for (Counter counter : counters.values()) {
+            floor = Math.min(floor, counter.count);
+        }
+        return floor;
+    }
+
+    void clear() {
+        counters.clear();
+    }
+}
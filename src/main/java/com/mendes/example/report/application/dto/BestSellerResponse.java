@@ -0,0 +1,21 @@
+package com.mendes.example.report.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pizza do ranking de mais vendidas. {@code quantity} é uma estimativa que pode superar a
+ * quantidade real em até {@code maxError} unidades.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestSellerResponse {
+    private Long pizzaId;
+    private String pizzaName;
+    private long quantity;
+    private long maxError;
+}
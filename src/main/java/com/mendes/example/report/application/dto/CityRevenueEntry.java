@@ -0,0 +1,22 @@
+package com.mendes.example.report.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Receita por cidade do cliente ({@code city} nula quando o cliente não informou a cidade).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CityRevenueEntry {
+    private String city;
+    private long orders;
+    private BigDecimal revenue;
+    private BigDecimal averageTicket;
+}
@@ -0,0 +1,22 @@
+package com.mendes.example.report.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Taxa de cancelamento por hora do dia (0 a 23) da criação do pedido.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HourlyCancellationEntry {
+    private int hour;
+    private long orders;
+    private long cancelled;
+    private BigDecimal cancellationRate;
+}
@@ -0,0 +1,30 @@
+package com.mendes.example.report.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Resumo das análises de pedidos criados em {@code [startDate, endDate)}.
+ * Receita e ticket médio desconsideram pedidos cancelados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderAnalyticsResponse {
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private long orders;
+    private long cancelledOrders;
+    private BigDecimal revenue;
+    private BigDecimal averageTicket;
+    private List<CityRevenueEntry> cities;
+    private List<SizeTicketEntry> sizes;
+    private List<HourlyCancellationEntry> hours;
+}
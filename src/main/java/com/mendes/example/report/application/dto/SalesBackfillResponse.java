@@ -0,0 +1,19 @@
+package com.mendes.example.report.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesBackfillResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int days;
+    private int buckets;
+}
@@ -0,0 +1,24 @@
+package com.mendes.example.report.application.dto;
+
+import com.mendes.example.order.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesReportEntry {
+    private LocalDateTime bucketStart;
+    private Long pizzaId;
+    private String pizzaName;
+    private OrderStatus status;
+    private long orderCount;
+    private long quantity;
+    private BigDecimal revenue;
+}
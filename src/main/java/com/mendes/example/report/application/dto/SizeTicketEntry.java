@@ -0,0 +1,25 @@
+package com.mendes.example.report.application.dto;
+
+import com.mendes.example.pizza.domain.PizzaSize;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Vendas por tamanho de pizza: pedidos com ao menos um item do tamanho, unidades, receita dos
+ * itens e ticket médio (receita dos itens do tamanho por pedido).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SizeTicketEntry {
+    private PizzaSize size;
+    private long orders;
+    private long quantity;
+    private BigDecimal revenue;
+    private BigDecimal averageTicket;
+}
@@ -0,0 +1,25 @@
+package com.mendes.example.report.application.mapper;
+
+import com.mendes.example.report.application.dto.SalesReportEntry;
+import com.mendes.example.report.domain.SalesRollup;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface SalesRollupMapper {
+
+    /**
+     * Converte SalesRollup entity para SalesReportEntry
+     */
+    @Mapping(source = "id.bucketStart", target = "bucketStart")
+    @Mapping(source = "id.pizzaId", target = "pizzaId")
+    @Mapping(source = "id.status", target = "status")
+    SalesReportEntry toEntry(SalesRollup rollup);
+
+    /**
+     * Converte lista de SalesRollup entities para lista de SalesReportEntry
+     */
+    List<SalesReportEntry> toEntryList(List<SalesRollup> rollups);
+}
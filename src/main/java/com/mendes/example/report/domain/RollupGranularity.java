@@ -0,0 +1,25 @@
+package com.mendes.example.report.domain;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tamanho dos buckets de tempo das tabelas de rollup.
+ */
+public enum RollupGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Início do bucket que contém o instante informado.
+     */
+    public LocalDateTime bucketOf(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,43 @@
+package com.mendes.example.report.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Vendas pré-agregadas por pizza e bucket de tempo (hora ou dia de criação do pedido),
+ * separadas pelo status final do pedido (DELIVERED ou CANCELLED).
+ *
+ * Mantida incrementalmente quando o pedido chega a um status final e reconstruível
+ * a partir dos pedidos existentes (backfill).
+ */
+@Entity
+@Table(name = "sales_rollup")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRollup {
+
+    @EmbeddedId
+    private SalesRollupId id;
+
+    @Column(name = "pizza_name", nullable = false, length = 100)
+    private String pizzaName;
+
+    /**
+     * Quantidade de pedidos que contêm a pizza.
+     */
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false)
+    private long quantity;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+}
@@ -0,0 +1,38 @@
+package com.mendes.example.report.domain;
+
+import com.mendes.example.order.domain.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Chave de um bucket de vendas: granularidade, início do bucket, pizza e status final do pedido.
+ * A ordem das colunas atende as consultas por período ({@code granularity, bucket_start}).
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRollupId implements Serializable {
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "pizza_id", nullable = false)
+    private Long pizzaId;
+
+    @Column(nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+}
@@ -0,0 +1,54 @@
+package com.mendes.example.report.infrastructure;
+
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.report.domain.RollupGranularity;
+import com.mendes.example.report.domain.SalesRollup;
+import com.mendes.example.report.domain.SalesRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollupId>, SalesRollupRepositoryCustom {
+
+    /**
+     * Soma os valores informados ao bucket, de forma atômica no banco.
+     *
+     * @return 1 se o bucket existe, 0 caso contrário
+     */
+    @Modifying
+    @Query("""
+            update SalesRollup r
+            set r.orderCount = r.orderCount + :orders,
+                r.quantity = r.quantity + :quantity,
+                r.revenue = r.revenue + :revenue
+            where r.id.granularity = :granularity
+              and r.id.bucketStart = :bucketStart
+              and r.id.pizzaId = :pizzaId
+              and r.id.status = :status""")
+    int increment(RollupGranularity granularity, LocalDateTime bucketStart, Long pizzaId, OrderStatus status,
+                  long orders, long quantity, BigDecimal revenue);
+
+    /**
+     * Buckets do período {@code [start, end)}, opcionalmente filtrados por pizza e status.
+     */
+    @Query("""
+            select r from SalesRollup r
+            where r.id.granularity = :granularity
+              and r.id.bucketStart >= :start and r.id.bucketStart < :end
+              and (:pizzaId is null or r.id.pizzaId = :pizzaId)
+              and (:status is null or r.id.status = :status)
+              and r.orderCount > 0
+            order by r.id.bucketStart asc, r.id.pizzaId asc, r.id.status asc""")
+    List<SalesRollup> findBuckets(RollupGranularity granularity, LocalDateTime start, LocalDateTime end,
+                                  Long pizzaId, OrderStatus status);
+
+    @Modifying
+    @Query("delete from SalesRollup r where r.id.bucketStart >= :start and r.id.bucketStart < :end")
+    int deleteBuckets(LocalDateTime start, LocalDateTime end);
+}
@@ -0,0 +1,12 @@
+package com.mendes.example.report.infrastructure;
+
+import com.mendes.example.report.domain.SalesRollupId;
+
+public interface SalesRollupRepositoryCustom {
+
+    /**
+     * Cria o bucket zerado, se ainda não existe, na transação corrente: um único upsert que não
+     * falha quando outra transição cria o mesmo bucket ao mesmo tempo.
+     */
+    void createIfAbsent(SalesRollupId id, String pizzaName);
+}
@@ -0,0 +1,51 @@
+package com.mendes.example.report.infrastructure;
+
+import com.mendes.example.report.domain.SalesRollupId;
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Upsert do bucket vazio no dialeto do banco: {@code ON CONFLICT DO NOTHING} no PostgreSQL,
+ * que espera a transição concorrente e segue sem erro; {@code MERGE} nos demais (H2).
+ */
+class SalesRollupRepositoryImpl implements SalesRollupRepositoryCustom {
+
+    private static final String ON_CONFLICT = """
+            insert into sales_rollup
+                (bucket_start, pizza_id, granularity, status, pizza_name, order_count, quantity, revenue)
+            values (:bucketStart, :pizzaId, :granularity, :status, :pizzaName, 0, 0, 0)
+            on conflict do nothing""";
+
+    private static final String MERGE = """
+            merge into sales_rollup r
+            using (select 1) s
+            on r.bucket_start = :bucketStart and r.pizza_id = :pizzaId
+               and r.granularity = :granularity and r.status = :status
+            when not matched then insert
+                (bucket_start, pizza_id, granularity, status, pizza_name, order_count, quantity, revenue)
+            values (:bucketStart, :pizzaId, :granularity, :status, :pizzaName, 0, 0, 0)""";
+
+    private final EntityManager entityManager;
+    private final String upsert;
+
+    SalesRollupRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        boolean postgres = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect() instanceof PostgreSQLDialect;
+        this.upsert = postgres ? ON_CONFLICT : MERGE;
+    }
+
+    @Override
+    public void createIfAbsent(SalesRollupId id, String pizzaName) {
+        entityManager.createNativeQuery(upsert)
+            .setParameter("bucketStart", id.getBucketStart())
+            .setParameter("pizzaId", id.getPizzaId())
+            .setParameter("granularity", id.getGranularity().name())
+            .setParameter("status", id.getStatus().name())
+            .setParameter("pizzaName", pizzaName)
+            .executeUpdate();
+    }
+}
@@ -0,0 +1,89 @@
+package com.mendes.example.report.presentation;
+
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.report.application.BestSellerTracker;
+import com.mendes.example.report.application.BestSellerWindow;
+import com.mendes.example.report.application.OrderAnalyticsService;
+import com.mendes.example.report.application.SalesRollupService;
+import com.mendes.example.report.application.dto.BestSellerResponse;
+import com.mendes.example.report.application.dto.OrderAnalyticsResponse;
+import com.mendes.example.report.application.dto.SalesBackfillResponse;
+import com.mendes.example.report.application.dto.SalesReportEntry;
+import com.mendes.example.report.domain.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Controller REST de relatórios de vendas, servidos a partir das tabelas de rollup.
+ */
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+
+    private final SalesRollupService salesRollupService;
+    private final BestSellerTracker bestSellerTracker;
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    /**
+     * Receita, quantidade de pedidos e de pizzas por pizza e bucket (hora ou dia) no
+     * período {@code [startDate, endDate)}, considerando a data de criação do pedido.
+     */
+    @GetMapping(path = "/sales", version = "1")
+    public ResponseEntity<List<SalesReportEntry>> getSalesReport(
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(required = false) Long pizzaId,
+            @RequestParam(required = false) OrderStatus status) {
+        LocalDateTime start = LocalDateTime.parse(startDate, DATE_FORMATTER);
+        LocalDateTime end = LocalDateTime.parse(endDate, DATE_FORMATTER);
+        List<SalesReportEntry> entries = salesRollupService.getSalesReport(granularity, start, end, pizzaId, status);
+        return ResponseEntity.ok(entries);
+    }
+
+    /**
+     * Reconstrói os rollups dos dias informados (inclusive) a partir dos pedidos existentes.
+     */
+    @PostMapping(path = "/sales/backfill", version = "1")
+    public ResponseEntity<SalesBackfillResponse> backfillSales(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        SalesBackfillResponse response = salesRollupService.backfill(startDate, endDate);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Ranking aproximado das pizzas mais vendidas na janela deslizante (última hora ou último dia),
+     * servido da memória.
+     */
+    @GetMapping(path = "/best-sellers", version = "1")
+    public ResponseEntity<List<BestSellerResponse>> getBestSellers(
+            @RequestParam(defaultValue = "LAST_HOUR") BestSellerWindow window,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<BestSellerResponse> responses = bestSellerTracker.topSellers(window, limit);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Receita por cidade, ticket médio por tamanho de pizza e taxa de cancelamento por hora
+     * dos pedidos criados em {@code [startDate, endDate)}, agregados em paralelo no servidor.
+     */
+    @GetMapping(path = "/analytics", version = "1")
+    public ResponseEntity<OrderAnalyticsResponse> getOrderAnalytics(
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        LocalDateTime start = LocalDateTime.parse(startDate, DATE_FORMATTER);
+        LocalDateTime end = LocalDateTime.parse(endDate, DATE_FORMATTER);
+        OrderAnalyticsResponse response = orderAnalyticsService.analyze(start, end);
+        return ResponseEntity.ok(response);
+    }
+}
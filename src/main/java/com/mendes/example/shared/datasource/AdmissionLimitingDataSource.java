@@ -0,0 +1,199 @@
+package com.mendes.example.shared.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita quantas conexões podem estar abertas ao mesmo tempo: cada {@link #getConnection()}
+ * reserva uma vaga de um semáforo justo, devolvida quando a conexão é fechada.
+ *
+ * Com threads virtuais não há mais um pool de threads limitando a concorrência, e milhares de
+ * requisições disputariam o pool de conexões de uma vez. Com o limite abaixo do tamanho do pool,
+ * as excedentes esperam na fila do semáforo (em ordem de chegada, sem prender a thread
+ * portadora) e desistem após {@code timeout} com {@link SQLTransientConnectionException}.
+ *
+ * Uma conexão pedida por uma thread que já tem outra aberta (transação {@code REQUIRES_NEW},
+ * listener após o commit) não disputa vaga: ela esperaria pelas vagas que a própria thread e
+ * as demais na mesma situação seguram. Essas conexões aninhadas vêm da folga entre o limite e
+ * o tamanho do pool, que deve cobri-las.
+ *
+ * Métricas: {@code datasource.admission.active} (vagas em uso),
+ * {@code datasource.admission.waiting} (threads na fila), {@code datasource.admission.rejected}
+ * (desistências por timeout) e {@code datasource.admission.nested} (conexões aninhadas).
+ */
+public class AdmissionLimitingDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final int maxConcurrent;
+    private final Duration timeout;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder nested = new LongAdder();
+    // Conexões admitidas ainda abertas, por thread
+    private final ThreadLocal<AtomicInteger> open = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public AdmissionLimitingDataSource(DataSource target, int maxConcurrent, Duration timeout) {
+        super(target);
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.timeout = timeout;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return admitted(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return admitted(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Vagas em uso no momento.
+     */
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.admission.active", this, AdmissionLimitingDataSource::active)
+            .description("Conexões admitidas pelo limite de concorrência JDBC")
+            .register(registry);
+        Gauge.builder("datasource.admission.waiting", permits, Semaphore::getQueueLength)
+            .description("Threads aguardando vaga no limite de concorrência JDBC")
+            .register(registry);
+        FunctionCounter.builder("datasource.admission.rejected", rejected, LongAdder::sum)
+            .description("Pedidos de conexão que esgotaram o tempo de espera por uma vaga")
+            .register(registry);
+        FunctionCounter.builder("datasource.admission.nested", nested, LongAdder::sum)
+            .description("Conexões obtidas sem vaga por threads que já tinham uma conexão aberta")
+            .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException(
+                    "JDBC admission limit of " + maxConcurrent + " connections reached, waited " + timeout
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a JDBC admission permit", e);
+        }
+    }
+
+    private Connection admitted(ConnectionSupplier supplier) throws SQLException {
+        AtomicInteger held = open.get();
+        boolean permit = held.get() == 0;
+        if (permit) {
+            acquire();
+        } else {
+            nested.increment();
+        }
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            if (permit) {
+                permits.release();
+            }
+            throw e;
+        }
+        held.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionProxy.class.getClassLoader(),
+            new Class<?>[]{ConnectionProxy.class},
+            new ReleasingInvocationHandler(connection, held, permit)
+        );
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * Devolve a vaga (se a conexão ocupou uma) no primeiro {@code close()}; demais chamadas vão
+     * direto para a conexão. {@code held} é o contador da thread que abriu a conexão, mesmo que
+     * ela seja fechada por outra.
+     */
+    private final class ReleasingInvocationHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicInteger held;
+        private final boolean permit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingInvocationHandler(Connection target, AtomicInteger held, boolean permit) {
+            this.target = target;
+            this.held = held;
+            this.permit = permit;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    if (released.compareAndSet(false, true)) {
+                        try {
+                            target.close();
+                        } finally {
+                            held.decrementAndGet();
+                            if (permit) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.mendes.example.shared.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Abre uma sessão {@link ReadYourWrites} por requisição.
+ *
+ * Respostas de requisições que gravaram trazem o header {@value ReadYourWrites#HEADER} com o
+ * instante do commit; reenviado pelo cliente, ele manda as leituras para o primário enquanto
+ * for mais recente que {@code maxLag} (atraso máximo esperado da réplica). Tokens inválidos
+ * são ignorados, inclusive os do futuro além de {@link #MAX_CLOCK_SKEW} (diferença de relógio
+ * entre instâncias): um token forjado muito à frente mandaria toda leitura para o primário.
+ */
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    static final Duration MAX_CLOCK_SKEW = Duration.ofSeconds(1);
+
+    private final Duration maxLag;
+
+    public ConsistencyTokenFilter(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        ReadYourWrites.open(
+            isRecent(request.getHeader(ReadYourWrites.HEADER)),
+            committedAt -> response.setHeader(ReadYourWrites.HEADER, Long.toString(committedAt))
+        );
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.close();
+        }
+    }
+
+    private boolean isRecent(String token) {
+        if (token == null) {
+            return false;
+        }
+        try {
+            long age = System.currentTimeMillis() - Long.parseLong(token.trim());
+            return age > -MAX_CLOCK_SKEW.toMillis() && age < maxLag.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.mendes.example.shared.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Sessão de consistência da requisição corrente (read-your-writes), aberta pelo
+ * {@link ConsistencyTokenFilter}.
+ *
+ * Um cliente que acabou de gravar envia de volta o token recebido; enquanto o token estiver
+ * dentro do atraso máximo da réplica, as transações somente leitura da requisição vão para o
+ * primário. Cada transação de escrita confirmada emite um novo token e manda para o primário
+ * as leituras seguintes da mesma requisição.
+ *
+ * Fora de uma requisição (agendamentos, threads assíncronas) não há sessão e vale o roteamento
+ * padrão do {@link ReplicaRoutingDataSource}.
+ */
+public final class ReadYourWrites {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private static final ThreadLocal<Session> SESSION = new ThreadLocal<>();
+
+    private static final class Session {
+        private boolean primaryRequired;
+        private final LongConsumer onCommit;
+
+        private Session(boolean primaryRequired, LongConsumer onCommit) {
+            this.primaryRequired = primaryRequired;
+            this.onCommit = onCommit;
+        }
+    }
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * @param primaryRequired se as leituras devem ir ao primário desde o início
+     * @param onCommit recebe o token (instante do commit, em epoch millis) de cada escrita
+     */
+    public static void open(boolean primaryRequired, LongConsumer onCommit) {
+        SESSION.set(new Session(primaryRequired, onCommit));
+    }
+
+    public static void close() {
+        SESSION.remove();
+    }
+
+    static boolean primaryRequired() {
+        Session session = SESSION.get();
+        return session != null && session.primaryRequired;
+    }
+
+    /**
+     * Chamado quando uma transação de escrita obtém conexão do primário.
+     */
+    static void writeTransactionStarted() {
+        Session session = SESSION.get();
+        if (session == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                session.primaryRequired = true;
+                session.onCommit.accept(System.currentTimeMillis());
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.mendes.example.shared.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Envia as transações {@code @Transactional(readOnly = true)} para o pool da réplica e todo o
+ * restante (escritas, acesso fora de transação) para o primário.
+ *
+ * A rota é decidida quando a conexão é obtida, por isso este DataSource deve ficar atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: a conexão só é
+ * pedida no primeiro statement, quando o flag de somente leitura da transação já está definido.
+ * Leituras de uma sessão {@link ReadYourWrites} com escrita recente vão para o primário.
+ *
+ * Métrica {@code datasource.routing} (tags {@code pool} e {@code reason}): conexões obtidas por
+ * pool e motivo ({@code read-write}, {@code read-only}, {@code read-your-writes}). As métricas de
+ * cada pool ({@code hikaricp.connections.*}) usam os nomes {@code primary} e {@code replica}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Counter readWrite;
+    private final Counter readOnly;
+    private final Counter readYourWrites;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.readWrite = counter(meterRegistry, "primary", "read-write");
+        this.readOnly = counter(meterRegistry, "replica", "read-only");
+        this.readYourWrites = counter(meterRegistry, "primary", "read-your-writes");
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.writeTransactionStarted();
+            }
+            readWrite.increment();
+            return Route.PRIMARY;
+        }
+        if (ReadYourWrites.primaryRequired()) {
+            readYourWrites.increment();
+            return Route.PRIMARY;
+        }
+        readOnly.increment();
+        return Route.REPLICA;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("datasource.routing")
+            .description("Conexões obtidas pelo DataSource de roteamento, por pool e motivo")
+            .tag("pool", pool)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
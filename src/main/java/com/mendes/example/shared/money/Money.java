@@ -0,0 +1,58 @@
+package com.mendes.example.shared.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetário imutável em centavos ({@code long}), na moeda única da aplicação.
+ *
+ * Regras de arredondamento:
+ * <ul>
+ *   <li>{@link #of(BigDecimal)} arredonda para centavos com {@link RoundingMode#HALF_UP}, o mesmo
+ *   que as colunas {@code numeric(38,2)} fazem ao gravar;</li>
+ *   <li>soma, subtração e multiplicação por quantidade são exatas; estouro de {@code long}
+ *   lança {@link ArithmeticException} em vez de dar a volta.</li>
+ * </ul>
+ *
+ * {@link BigDecimal} fica nas fronteiras: colunas JPA ({@link MoneyConverter}) e DTOs JSON
+ * ({@link MoneyMapper}).
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(int quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.mendes.example.shared.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Grava atributos {@link Money} nas colunas {@code numeric} como {@link BigDecimal} com duas
+ * casas. Aplicado automaticamente a todo atributo do tipo {@link Money}, inclusive nas
+ * projeções JPQL que os selecionam.
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
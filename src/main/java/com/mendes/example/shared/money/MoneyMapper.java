@@ -0,0 +1,21 @@
+package com.mendes.example.shared.money;
+
+import org.mapstruct.Mapper;
+
+import java.math.BigDecimal;
+
+/**
+ * Conversões de {@link Money} usadas pelos mappers MapStruct ({@code uses = MoneyMapper.class})
+ * para os campos {@link BigDecimal} dos DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface MoneyMapper {
+
+    default BigDecimal toBigDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    default Money toMoney(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
@@ -0,0 +1,49 @@
+package com.mendes.example.shared.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de paginação por keyset, composta pela chave de ordenação {@code (created_at, id)}.
+ *
+ * O cliente recebe apenas a forma codificada (Base64 URL-safe) e deve tratá-la como opaca;
+ * a próxima página é buscada com {@code WHERE (created_at, id) > (:createdAt, :id)}, de modo
+ * que o custo de cada página independe da profundidade da navegação.
+ */
+public record Cursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor em um token opaco para ser devolvido ao cliente.
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token recebido do cliente.
+     *
+     * @throws IllegalArgumentException caso o token seja inválido
+     */
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new Cursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
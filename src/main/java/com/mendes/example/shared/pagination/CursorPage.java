@@ -0,0 +1,58 @@
+package com.mendes.example.shared.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados paginados por keyset.
+ *
+ * {@code next} é o cursor opaco para buscar a página seguinte, ou {@code null} quando
+ * não há mais resultados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private String next;
+
+    /**
+     * Valida o tamanho de página solicitado e retorna o limite a ser usado na consulta,
+     * que busca um registro a mais para detectar a existência de uma próxima página.
+     *
+     * @throws IllegalArgumentException caso o tamanho esteja fora do intervalo permitido
+     */
+    public static int fetchLimit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                "Page size must be between 1 and " + MAX_SIZE + ". Requested: " + size
+            );
+        }
+        return size + 1;
+    }
+
+    /**
+     * Monta a página a partir das linhas buscadas com {@link #fetchLimit(int)}.
+     */
+    public static <E, T> CursorPage<T> of(
+        List<E> rows,
+        int size,
+        Function<E, Cursor> keyOf,
+        Function<List<E>, List<T>> mapper
+    ) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? keyOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(mapper.apply(page), next);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mendes.example.shared.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Registra as threads virtuais que ficaram presas à thread portadora ("pinned"), em geral por
+ * bloquear (I/O, lock, sleep) dentro de um bloco {@code synchronized} — no driver JDBC, no pool
+ * ou no código da aplicação. Enquanto presa, a portadora não atende nenhuma outra thread virtual.
+ *
+ * Escuta o evento JFR {@code jdk.VirtualThreadPinned} dos bloqueios acima de {@code threshold}
+ * e loga o topo da pilha de cada um. Para uma investigação pontual sem a aplicação no ar, o
+ * mesmo diagnóstico sai no stdout com {@code -Djdk.tracePinnedThreads=short}.
+ *
+ * Métrica {@code jvm.threads.virtual.pinned}: quantidade e duração dos bloqueios com a
+ * portadora presa.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Timer pinned;
+    private final RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+            .description("Bloqueios de threads virtuais com a thread portadora presa")
+            .register(meterRegistry);
+        this.stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        log.warn("Virtual thread #{} pinned its carrier for {} ms at{}",
+            event.getThread() == null ? "?" : event.getThread().getJavaThreadId(),
+            event.getDuration().toMillis(),
+            frames(event.getStackTrace()));
+    }
+
+    private static String frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return " <no stack trace>";
+        }
+        // Omite os frames do próprio park da thread virtual
+        return stackTrace.getFrames().stream()
+            .dropWhile(frame -> frame.getMethod().getType().getName().equals("java.lang.VirtualThread"))
+            .limit(LOGGED_FRAMES)
+            .map(VirtualThreadPinningMonitor::frame)
+            .collect(Collectors.joining());
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return "\n\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + "(line " + frame.getLineNumber() + ")";
+    }
+}
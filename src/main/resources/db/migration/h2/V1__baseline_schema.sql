@@ -0,0 +1,84 @@
+-- Schema inicial, equivalente ao gerado pelo Hibernate a partir das entidades
+
+create sequence outbox_message_seq start with 1 increment by 50;
+
+create table customer (
+    id uuid not null,
+    name varchar(150) not null,
+    email varchar(100) not null,
+    phone varchar(20) not null,
+    address varchar(200) not null,
+    zip_code varchar(10),
+    city varchar(100),
+    state varchar(50),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint pk_customer primary key (id),
+    constraint uk_customer_email unique (email)
+);
+
+create table pizza (
+    id bigint generated by default as identity,
+    name varchar(100) not null,
+    description varchar(500) not null,
+    price numeric(38,2) not null,
+    size enum ('EXTRA_LARGE','LARGE','MEDIUM','SMALL') not null,
+    available boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    constraint pk_pizza primary key (id)
+);
+
+create table orders (
+    id uuid not null,
+    customer_id uuid not null,
+    status enum ('CANCELLED','CONFIRMED','DELIVERED','IN_DELIVERY','PENDING','PREPARING','READY') not null,
+    total_amount numeric(38,2) not null,
+    notes varchar(500),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    constraint pk_orders primary key (id),
+    constraint fk_orders_customer foreign key (customer_id) references customer (id)
+);
+
+create table order_item (
+    id uuid not null,
+    order_id uuid not null,
+    pizza_id bigint not null,
+    pizza_name varchar(255) not null,
+    quantity integer not null,
+    unit_price numeric(38,2) not null,
+    total_price numeric(38,2) not null,
+    created_at timestamp(6) not null,
+    constraint pk_order_item primary key (id),
+    constraint fk_order_item_order foreign key (order_id) references orders (id)
+);
+
+create table outbox_message (
+    id bigint not null,
+    aggregate_type varchar(50) not null,
+    aggregate_id uuid not null,
+    event_type varchar(100) not null,
+    payload clob not null,
+    created_at timestamp(6) not null,
+    constraint pk_outbox_message primary key (id)
+);
+
+create table sales_rollup (
+    bucket_start timestamp(6) not null,
+    pizza_id bigint not null,
+    granularity enum ('DAY','HOUR') not null,
+    status enum ('CANCELLED','CONFIRMED','DELIVERED','IN_DELIVERY','PENDING','PREPARING','READY') not null,
+    pizza_name varchar(100) not null,
+    order_count bigint not null,
+    quantity bigint not null,
+    revenue numeric(19,2) not null,
+    constraint pk_sales_rollup primary key (bucket_start, pizza_id, granularity, status)
+);
+
+-- Paginação por keyset em (created_at, id)
+create index idx_customer_created_at_id on customer (created_at, id);
+create index idx_orders_created_at_id on orders (created_at, id);
+create index idx_orders_status_created_at_id on orders (status, created_at, id);
+create index idx_orders_customer_created_at_id on orders (customer_id, created_at, id);
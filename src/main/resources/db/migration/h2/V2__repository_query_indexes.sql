@@ -0,0 +1,8 @@
+-- Índices das consultas dos repositórios (verificados por RepositoryQueryPlanIntegrationTest)
+-- O H2 já indexa order_item.order_id pela chave estrangeira e não tem índices parciais
+
+-- OrderRepository.findByCustomerIdAndStatus
+create index idx_orders_customer_status on orders (customer_id, status);
+
+-- PizzaRepository.findByAvailableTrue
+create index idx_pizza_available on pizza (available, id);
@@ -0,0 +1,32 @@
+-- Arquivo dos pedidos finalizados (entregues/cancelados), movidos das tabelas quentes pelo
+-- OrderArchiver; mesmas colunas de orders/order_item, mais a data de arquivamento
+
+create table orders_archive (
+    id uuid not null,
+    customer_id uuid not null,
+    status enum ('CANCELLED','CONFIRMED','DELIVERED','IN_DELIVERY','PENDING','PREPARING','READY') not null,
+    total_amount numeric(38,2) not null,
+    notes varchar(500),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    archived_at timestamp(6) not null,
+    constraint pk_orders_archive primary key (id),
+    constraint fk_orders_archive_customer foreign key (customer_id) references customer (id)
+);
+
+create table order_item_archive (
+    id uuid not null,
+    order_id uuid not null,
+    pizza_id bigint not null,
+    pizza_name varchar(255) not null,
+    quantity integer not null,
+    unit_price numeric(38,2) not null,
+    total_price numeric(38,2) not null,
+    created_at timestamp(6) not null,
+    constraint pk_order_item_archive primary key (id),
+    constraint fk_order_item_archive_order foreign key (order_id) references orders_archive (id)
+);
+
+-- OrderService.getOrdersByCustomerId (fallback ao arquivo)
+create index idx_orders_archive_customer_created_at_id on orders_archive (customer_id, created_at, id);
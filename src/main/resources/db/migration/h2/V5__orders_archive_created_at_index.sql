@@ -0,0 +1,2 @@
+-- SalesRollupService.backfill: pedidos arquivados criados em cada dia
+create index idx_orders_archive_created_at_id on orders_archive (created_at, id);
@@ -0,0 +1,11 @@
+-- Índices das consultas dos repositórios (verificados por RepositoryQueryPlanIntegrationTest)
+
+-- OrderItemRepository.findByOrderId, carga em lote dos itens (@BatchSize) e análises por pedido;
+-- o PostgreSQL não cria índice para chaves estrangeiras
+create index idx_order_item_order_id on order_item (order_id);
+
+-- OrderRepository.findByCustomerIdAndStatus
+create index idx_orders_customer_status on orders (customer_id, status);
+
+-- PizzaRepository.findByAvailableTrue: índice parcial, só com as pizzas do cardápio
+create index idx_pizza_available on pizza (id) where available;
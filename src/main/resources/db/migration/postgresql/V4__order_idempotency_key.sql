@@ -0,0 +1,14 @@
+-- Chaves de idempotência do POST /orders: a resposta original é devolvida às retentativas,
+-- inclusive após um restart; a chave primária impede duas criações com a mesma chave
+
+create table order_idempotency_key (
+    idempotency_key varchar(100) not null,
+    request_hash varchar(64) not null,
+    order_id uuid not null,
+    response text not null,
+    created_at timestamp(6) not null,
+    constraint pk_order_idempotency_key primary key (idempotency_key)
+);
+
+-- Expurgo das chaves expiradas
+create index idx_order_idempotency_key_created_at on order_idempotency_key (created_at);
@@ -0,0 +1,9 @@
+-- Pedidos gravados antes da coluna version têm version nula, e o compare-and-set das transições
+-- (version = version + 1) manteria o nulo: as linhas existentes começam na versão 0
+update orders set version = 0 where version is null;
+alter table orders alter column version set default 0;
+alter table orders alter column version set not null;
+
+update orders_archive set version = 0 where version is null;
+alter table orders_archive alter column version set default 0;
+alter table orders_archive alter column version set not null;
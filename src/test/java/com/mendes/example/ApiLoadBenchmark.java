@@ -0,0 +1,215 @@
+package com.mendes.example;
+
+import com.mendes.example.support.load.EndpointLatencies;
+import com.mendes.example.support.load.EndpointLatencies.Summary;
+import com.mendes.example.support.load.LoadBaseline;
+import com.mendes.example.support.load.PostmanCollection;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de carga da API: sobe a aplicação com o perfil de teste (H2 em memória) numa porta
+ * aleatória e repete, com {@code load.clients} clientes simultâneos em laço fechado, uma mistura
+ * de cenários montados com as requisições da coleção Postman:
+ * <ul>
+ *   <li>navegação no cardápio e na lista de clientes;</li>
+ *   <li>consultas de pedidos por cliente, por status e gerais;</li>
+ *   <li>criação de pedidos;</li>
+ *   <li>ciclo de vida completo (criação, confirmação, preparo, pronto, entrega, entregue);</li>
+ *   <li>cancelamento logo após a criação;</li>
+ *   <li>os cenários de erro da coleção (400 e 404).</li>
+ * </ul>
+ *
+ * As consultas de pedidos usam a v2 (paginada): a v1 devolve todos os pedidos e ficaria mais
+ * lenta à medida que a própria carga cria pedidos.
+ *
+ * Após o aquecimento ({@code load.warmup}), mede durante {@code load.duration} e reporta vazão
+ * e latências p50/p99/p99.9 por endpoint. Os histogramas HDR e o resumo vão para
+ * {@code target/load}. O teste falha se houver respostas fora do status esperado ou se alguma
+ * métrica regredir mais que {@code load.tolerance} em relação ao baseline do ambiente,
+ * {@code load/baseline-<núcleos>cpu-<arquitetura>.properties} (outro arquivo via
+ * {@code -Dload.baseline=caminho}).
+ *
+ * Os números são absolutos, então só são comparados com os do mesmo ambiente. Sem baseline para
+ * o ambiente corrente, apenas o resumo é gravado; para passar a verificar regressões, copie o
+ * {@code target/load/summary.properties} de uma execução do commit base para o arquivo indicado.
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=ApiLoadBenchmark [-Dload.clients=16 -Dload.duration=PT30S -Dload.tolerance=0.25]}
+ */
+@Tag("benchmark")
+class ApiLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 16);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.25"));
+    private static final Path BASELINE = System.getProperty("load.baseline") != null
+            ? Path.of(System.getProperty("load.baseline"))
+            : LoadBaseline.fileFor(Path.of("src/test/resources/load"));
+    private static final Path COLLECTION = Path.of("pizza-order-api.postman_collection.json");
+    private static final Path OUTPUT = Path.of("target/load");
+
+    private static final String CREATE_ORDER = "Create Order (Success)";
+
+    /**
+     * Sequência de requisições da coleção executada por um cliente; {@code weight} é a
+     * frequência relativa na mistura.
+     */
+    private record Scenario(String name, int weight, List<String> requests) {
+    }
+
+    private static final List<Scenario> MIX = List.of(
+            new Scenario("menu", 35, List.of("Get All Pizzas")),
+            new Scenario("customers", 5, List.of("Get All Customers")),
+            new Scenario("order-queries", 20, List.of("Get Orders by Customer", "Get Orders by Status", "Get All Orders")),
+            new Scenario("order-creation", 15, List.of(CREATE_ORDER)),
+            new Scenario("lifecycle", 10, List.of(CREATE_ORDER, "1. Confirm Order", "2. Start Preparing",
+                    "3. Mark Ready", "4. Mark In Delivery", "5. Mark Delivered")),
+            new Scenario("cancellation", 10, List.of(CREATE_ORDER, "Cancel Order")),
+            new Scenario("errors", 5, List.of("Create Order - Null Items (400)", "Create Order - Invalid Pizza (404)")));
+
+    private static final List<String> PAGED = List.of("Get Orders by Customer", "Get Orders by Status", "Get All Orders");
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Test
+    void replayCollectionScenarios() throws Exception {
+        PostmanCollection collection = PostmanCollection.load(COLLECTION);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PizzaApplication.class)
+                .profiles("test")
+                // Argumentos, e não .properties(...): propriedades default perderiam para as do perfil de teste
+                .run(
+                        "--server.port=0",
+                        "--management.server.port=",
+                        "--logging.level.com.mendes.example=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api";
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<Long> pizzaIds = jdbcTemplate.queryForList("select id from pizza order by id limit 2", Long.class);
+            Map<String, String> variables = Map.of(
+                    "customerId", jdbcTemplate.queryForObject("select id from customer order by id limit 1", UUID.class).toString(),
+                    "pizzaId1", pizzaIds.get(0).toString(),
+                    "pizzaId2", pizzaIds.get(1).toString(),
+                    "orderId", "");
+
+            load(collection, baseUrl, variables, WARMUP);
+            EndpointLatencies latencies = load(collection, baseUrl, variables, DURATION);
+
+            Map<String, Summary> summaries = latencies.summarize(DURATION.toMillis() / 1000.0);
+            latencies.write(OUTPUT, summaries);
+            summaries.forEach((endpoint, summary) -> System.out.printf(
+                    "[load] %-36s count=%7d throughput=%8.1f req/s p50=%7.2fms p99=%7.2fms p99.9=%7.2fms max=%7.2fms errors=%d%n",
+                    endpoint, summary.count(), summary.throughput(), summary.p50(), summary.p99(),
+                    summary.p999(), summary.max(), summary.errors()));
+
+            assertThat(summaries.get("total").errors()).as("responses with an unexpected status").isZero();
+            if (System.getProperty("load.baseline") == null && !Files.exists(BASELINE)) {
+                System.out.printf("[load] no baseline for environment %s; copy %s to %s to check regressions%n",
+                        LoadBaseline.environment(), OUTPUT.resolve("summary.properties"), BASELINE);
+                return;
+            }
+            assertThat(LoadBaseline.load(BASELINE, TOLERANCE).regressions(summaries))
+                    .as("regressions against %s", BASELINE)
+                    .isEmpty();
+        }
+    }
+
+    private EndpointLatencies load(PostmanCollection collection, String baseUrl, Map<String, String> variables,
+                                   Duration duration) throws Exception {
+        EndpointLatencies latencies = new EndpointLatencies();
+        int totalWeight = MIX.stream().mapToInt(Scenario::weight).sum();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .executor(clients)
+                     .build()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                SplittableRandom random = new SplittableRandom(c);
+                futures.add(clients.submit(() -> {
+                    Map<String, String> clientVariables = new HashMap<>(variables);
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = pick(random.nextInt(totalWeight));
+                        for (String name : scenario.requests()) {
+                            if (!send(httpClient, collection.get(name), baseUrl, clientVariables, latencies)) {
+                                break;
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Envia a requisição e registra a latência; guarda o id do pedido criado para os passos
+     * seguintes. Retorna {@code false} se a resposta não tiver o status esperado, interrompendo
+     * o cenário.
+     */
+    private boolean send(HttpClient httpClient, PostmanCollection.Template template, String baseUrl,
+                         Map<String, String> variables, EndpointLatencies latencies) {
+        HttpRequest request = template.render(baseUrl, variables);
+        if (PAGED.contains(template.name())) {
+            request = HttpRequest.newBuilder(request, (name, value) -> true).header("X-Version", "2").build();
+        }
+        String endpoint = EndpointLatencies.slug(template.name());
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean expected = template.accepts(response.statusCode());
+            latencies.record(endpoint, System.nanoTime() - sent, expected);
+            if (expected && template.name().equals(CREATE_ORDER)) {
+                variables.put("orderId", objectMapper.readTree(response.body()).get("id").asString());
+            }
+            return expected;
+        } catch (Exception e) {
+            latencies.record(endpoint, System.nanoTime() - sent, false);
+            return false;
+        }
+    }
+
+    private static Scenario pick(int roll) {
+        for (Scenario scenario : MIX) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Roll outside the scenario weights");
+    }
+}
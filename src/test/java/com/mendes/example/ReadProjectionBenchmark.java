@@ -0,0 +1,191 @@
+package com.mendes.example;
+
+import com.mendes.example.customer.application.CustomerService;
+import com.mendes.example.customer.application.dto.CustomerResponse;
+import com.mendes.example.customer.application.mapper.CustomerMapper;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.OrderService;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.application.mapper.OrderMapper;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH das listagens completas de pedidos e clientes: entidades gerenciadas
+ * convertidas pelo MapStruct versus projeções por constructor expression, com 10 mil, 100 mil
+ * e 1 milhão de linhas no H2 em memória. O {@link GCProfiler} reporta a alocação por operação
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=ReadProjectionBenchmark}
+ * (resultados em {@code target/jmh/read-projection.json})
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ReadProjectionBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 2;
+    private static final int BATCH = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderRepository orderRepository;
+    private OrderMapper orderMapper;
+    private CustomerService customerService;
+    private CustomerRepository customerRepository;
+    private CustomerMapper customerMapper;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PizzaApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "logging.level.com.mendes.example=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        orderMapper = context.getBean(OrderMapper.class);
+        customerService = context.getBean(CustomerService.class);
+        customerRepository = context.getBean(CustomerRepository.class);
+        customerMapper = context.getBean(CustomerMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<OrderResponse> ordersEntities() {
+        return readOnly.execute(status -> orderRepository.findAll().stream().map(orderMapper::toResponse).toList());
+    }
+
+    @Benchmark
+    public List<OrderResponse> ordersProjection() {
+        return orderService.listAllOrders();
+    }
+
+    @Benchmark
+    public List<CustomerResponse> customersEntities() {
+        return readOnly.execute(status ->
+                customerRepository.findAll().stream().map(customerMapper::toResponse).toList());
+    }
+
+    @Benchmark
+    public List<CustomerResponse> customersProjection() {
+        return customerService.listAllCustomers();
+    }
+
+    /**
+     * {@code rows} clientes e {@code rows} pedidos com {@value #ITEMS_PER_ORDER} itens cada,
+     * além dos dados do data.sql.
+     */
+    private void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> customerIds = new ArrayList<>(rows);
+        List<Object[]> customers = new ArrayList<>(BATCH);
+        for (int c = 0; c < rows; c++) {
+            UUID id = UUID.randomUUID();
+            customerIds.add(id);
+            customers.add(new Object[]{id, "Customer " + c, "bench" + c + "@test.com", "11999999999",
+                    "Rua Teste, " + c, "City " + (c % 50), Timestamp.valueOf(now.minusSeconds(c))});
+            if (customers.size() == BATCH) {
+                insertCustomers(jdbcTemplate, customers);
+            }
+        }
+        insertCustomers(jdbcTemplate, customers);
+
+        List<Object[]> orders = new ArrayList<>(BATCH);
+        List<Object[]> items = new ArrayList<>(BATCH * ITEMS_PER_ORDER);
+        for (int o = 0; o < rows; o++) {
+            UUID orderId = UUID.randomUUID();
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(o));
+            orders.add(new Object[]{orderId, customerIds.get(o), "DELIVERED", BigDecimal.valueOf(95), createdAt, 0L});
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                items.add(new Object[]{UUID.randomUUID(), orderId, (long) i + 1, "Pizza " + i, 1,
+                        BigDecimal.valueOf(45 + 5 * i), BigDecimal.valueOf(45 + 5 * i), createdAt});
+            }
+            if (orders.size() == BATCH) {
+                insertOrders(jdbcTemplate, orders, items);
+            }
+        }
+        insertOrders(jdbcTemplate, orders, items);
+    }
+
+    private static void insertCustomers(JdbcTemplate jdbcTemplate, List<Object[]> customers) {
+        jdbcTemplate.batchUpdate("""
+                insert into customer (id, name, email, phone, address, city, created_at)
+                values (?, ?, ?, ?, ?, ?, ?)""", customers);
+        customers.clear();
+    }
+
+    private static void insertOrders(JdbcTemplate jdbcTemplate, List<Object[]> orders, List<Object[]> items) {
+        jdbcTemplate.batchUpdate("""
+                insert into orders (id, customer_id, status, total_amount, created_at, version)
+                values (?, ?, ?, ?, ?, ?)""", orders);
+        jdbcTemplate.batchUpdate("""
+                insert into order_item (id, order_id, pizza_id, pizza_name, quantity, unit_price, total_price, created_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?)""", items);
+        orders.clear();
+        items.clear();
+    }
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(Path.of("target/jmh"));
+        new Runner(new OptionsBuilder()
+                .include(ReadProjectionBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/read-projection.json")
+                .build()).run();
+    }
+}
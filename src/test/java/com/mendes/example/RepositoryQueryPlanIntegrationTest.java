@@ -0,0 +1,233 @@
+package com.mendes.example;
+
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.ArchivedOrderRepository;
+import com.mendes.example.order.infrastructure.OrderItemRepository;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.pizza.infrastructure.PizzaRepository;
+import com.mendes.example.support.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guarda de regressão dos índices: executa os métodos dos repositórios sobre uma massa de
+ * dados, roda EXPLAIN (H2) no SQL gerado por cada um e falha se algum plano percorrer
+ * sequencialmente uma tabela grande.
+ *
+ * Métodos sem filtro por natureza (como {@code findAll} e a busca de pizzas por trecho do nome)
+ * ficam de fora.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RepositoryQueryPlanIntegrationTest {
+
+    private static final int CUSTOMERS = 500;
+    private static final int ORDERS_PER_CUSTOMER = 20;
+    private static final int PIZZAS = 500;
+
+    private static final List<String> LARGE_TABLES = List.of(
+            "ORDERS", "ORDER_ITEM", "ORDERS_ARCHIVE", "ORDER_ITEM_ARCHIVE", "CUSTOMER", "PIZZA");
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan \\*/");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PizzaRepository pizzaRepository;
+
+    private final List<UUID> customerIds = new ArrayList<>();
+    private final List<UUID> orderIds = new ArrayList<>();
+    private LocalDateTime now;
+
+    @BeforeEach
+    void seed() {
+        now = LocalDateTime.now();
+        OrderStatus[] statuses = OrderStatus.values();
+
+        List<Object[]> pizzas = new ArrayList<>();
+        for (int i = 0; i < PIZZAS; i++) {
+            // Poucas pizzas disponíveis: o cardápio é uma fração do histórico
+            pizzas.add(new Object[]{"Plan " + i, "Pizza " + i, BigDecimal.valueOf(40), "MEDIUM", i % 20 == 0,
+                    Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into pizza (name, description, price, size, available, created_at)
+                values (?, ?, ?, ?, ?, ?)""", pizzas);
+
+        List<Object[]> customers = new ArrayList<>();
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (int c = 0; c < CUSTOMERS; c++) {
+            UUID customerId = UUID.randomUUID();
+            customerIds.add(customerId);
+            Timestamp customerCreatedAt = Timestamp.valueOf(now.minusMinutes(c));
+            customers.add(new Object[]{customerId, "Plan " + c, "plan" + c + "@test.com", "11999999999",
+                    "Rua Teste, " + c, customerCreatedAt});
+            for (int o = 0; o < ORDERS_PER_CUSTOMER; o++) {
+                UUID orderId = UUID.randomUUID();
+                orderIds.add(orderId);
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes((long) c * ORDERS_PER_CUSTOMER + o));
+                orders.add(new Object[]{orderId, customerId, statuses[o % statuses.length].name(),
+                        BigDecimal.valueOf(80), createdAt, 0L});
+                for (int i = 0; i < 2; i++) {
+                    items.add(new Object[]{UUID.randomUUID(), orderId, (long) i + 1, "Pizza " + i, 1,
+                            BigDecimal.valueOf(40), BigDecimal.valueOf(40), createdAt});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into customer (id, name, email, phone, address, created_at)
+                values (?, ?, ?, ?, ?, ?)""", customers);
+        jdbcTemplate.batchUpdate("""
+                insert into orders (id, customer_id, status, total_amount, created_at, version)
+                values (?, ?, ?, ?, ?, ?)""", orders);
+        jdbcTemplate.batchUpdate("""
+                insert into order_item (id, order_id, pizza_id, pizza_name, quantity, unit_price, total_price, created_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?)""", items);
+    }
+
+    @Test
+    void repositoryQueries_ShouldNotScanLargeTables() throws Exception {
+        UUID customerId = customerIds.get(CUSTOMERS / 2);
+        UUID orderId = orderIds.get(orderIds.size() / 2);
+        List<UUID> someOrders = orderIds.subList(0, 50);
+        LocalDateTime from = now.minusHours(2);
+        LocalDateTime to = now.minusHours(1);
+        Limit page = Limit.of(20);
+
+        Map<String, SqlCapture.Action> queries = new LinkedHashMap<>();
+        queries.put("OrderRepository.findWithItemsById", () -> orderRepository.findWithItemsById(orderId));
+        queries.put("OrderRepository.findWithItemsByIdIn", () -> orderRepository.findWithItemsByIdIn(someOrders));
+        queries.put("OrderRepository.findWithItemsByStatusIn",
+                () -> orderRepository.findWithItemsByStatusIn(List.of(OrderStatus.PENDING, OrderStatus.READY)));
+        queries.put("OrderRepository.findByCustomerId", () -> orderRepository.findByCustomerId(customerId));
+        queries.put("OrderRepository.findLinesByCustomerId", () -> orderRepository.findLinesByCustomerId(customerId));
+        queries.put("OrderRepository.findLinesByStatus",
+                () -> orderRepository.findLinesByStatus(OrderStatus.PREPARING));
+        queries.put("OrderRepository.findByCustomerIdAndStatus",
+                () -> orderRepository.findByCustomerIdAndStatus(customerId, OrderStatus.PENDING));
+        queries.put("OrderRepository.findLinesByCreatedAtBetween",
+                () -> orderRepository.findLinesByCreatedAtBetween(from, to));
+        queries.put("OrderRepository.findFirstPage", () -> orderRepository.findFirstPage(page));
+        queries.put("OrderRepository.findFirstVersionsUpdatedSince",
+                () -> orderRepository.findFirstVersionsUpdatedSince(from, page));
+        queries.put("OrderRepository.findVersionsUpdatedSinceAfter",
+                () -> orderRepository.findVersionsUpdatedSinceAfter(from, orderId, page));
+        queries.put("OrderRepository.findPageAfter", () -> orderRepository.findPageAfter(from, orderId, page));
+        queries.put("OrderRepository.findFirstPageByStatus",
+                () -> orderRepository.findFirstPageByStatus(OrderStatus.READY, page));
+        queries.put("OrderRepository.findPageByStatusAfter",
+                () -> orderRepository.findPageByStatusAfter(OrderStatus.READY, from, orderId, page));
+        queries.put("OrderRepository.findFirstPageByCustomerId",
+                () -> orderRepository.findFirstPageByCustomerId(customerId, page));
+        queries.put("OrderRepository.findPageByCustomerIdAfter",
+                () -> orderRepository.findPageByCustomerIdAfter(customerId, from, orderId, page));
+        queries.put("OrderRepository.findStatusById", () -> orderRepository.findStatusById(orderId));
+        queries.put("OrderRepository.findStatusesByIdIn", () -> orderRepository.findStatusesByIdIn(someOrders));
+        queries.put("OrderRepository.transition",
+                () -> orderRepository.transition(orderId, OrderStatus.PENDING, OrderStatus.CONFIRMED, now));
+        queries.put("OrderRepository.transitionAll",
+                () -> orderRepository.transitionAll(someOrders, OrderStatus.PENDING, OrderStatus.CONFIRMED, now));
+        queries.put("OrderRepository.findFirstAnalyticsChunk",
+                () -> orderRepository.findFirstAnalyticsChunk(from, to, page));
+        queries.put("OrderRepository.findAnalyticsChunkAfter",
+                () -> orderRepository.findAnalyticsChunkAfter(to, from, orderId, page));
+        queries.put("OrderRepository.lockArchivable", () -> orderRepository.lockArchivable(
+                List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED), from, page));
+        queries.put("OrderRepository.lockCreatedBetween", () -> orderRepository.lockCreatedBetween(from, to));
+        queries.put("OrderItemRepository.findRowsByOrderIdIn",
+                () -> orderItemRepository.findRowsByOrderIdIn(someOrders));
+        queries.put("OrderItemRepository.findByOrderId", () -> orderItemRepository.findByOrderId(orderId));
+        queries.put("OrderItemRepository.streamByOrderCreatedAtBetween",
+                () -> orderItemRepository.streamByOrderCreatedAtBetween(from, to).close());
+        queries.put("OrderItemRepository.streamSalesByOrderCreatedAt", () -> orderItemRepository
+                .streamSalesByOrderCreatedAt(from, to, List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED)).close());
+        queries.put("OrderItemRepository.findAnalyticsRowsByOrderIdIn",
+                () -> orderItemRepository.findAnalyticsRowsByOrderIdIn(someOrders));
+        queries.put("OrderItemRepository.deleteByOrderIdIn",
+                () -> orderItemRepository.deleteByOrderIdIn(someOrders));
+        queries.put("ArchivedOrderRepository.findWithItemsById",
+                () -> archivedOrderRepository.findWithItemsById(orderId));
+        queries.put("ArchivedOrderRepository.findByCustomerId",
+                () -> archivedOrderRepository.findByCustomerId(customerId));
+        queries.put("ArchivedOrderRepository.findFirstPageByCustomerId",
+                () -> archivedOrderRepository.findFirstPageByCustomerId(customerId, page));
+        queries.put("ArchivedOrderRepository.findPageByCustomerIdAfter",
+                () -> archivedOrderRepository.findPageByCustomerIdAfter(customerId, from, orderId, page));
+        queries.put("ArchivedOrderRepository.findItemRowsByOrderIdIn",
+                () -> archivedOrderRepository.findItemRowsByOrderIdIn(someOrders));
+        queries.put("ArchivedOrderRepository.findFirstAnalyticsChunk",
+                () -> archivedOrderRepository.findFirstAnalyticsChunk(from, to, page));
+        queries.put("ArchivedOrderRepository.findAnalyticsChunkAfter",
+                () -> archivedOrderRepository.findAnalyticsChunkAfter(to, from, orderId, page));
+        queries.put("ArchivedOrderRepository.findAnalyticsRowsByOrderIdIn",
+                () -> archivedOrderRepository.findAnalyticsRowsByOrderIdIn(someOrders));
+        queries.put("ArchivedOrderRepository.streamSalesByOrderCreatedAt", () -> archivedOrderRepository
+                .streamSalesByOrderCreatedAt(from, to, List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED)).close());
+        queries.put("ArchivedOrderRepository.copyOrders",
+                () -> archivedOrderRepository.copyOrders(someOrders, now));
+        queries.put("ArchivedOrderRepository.copyItems", () -> archivedOrderRepository.copyItems(someOrders));
+        queries.put("CustomerRepository.findByEmail", () -> customerRepository.findByEmail("plan7@test.com"));
+        queries.put("CustomerRepository.existsByEmail", () -> customerRepository.existsByEmail("plan7@test.com"));
+        queries.put("CustomerRepository.findExistingIds",
+                () -> customerRepository.findExistingIds(customerIds.subList(0, 50)));
+        queries.put("CustomerRepository.findFirstPage", () -> customerRepository.findFirstPage(page));
+        queries.put("CustomerRepository.findPageAfter",
+                () -> customerRepository.findPageAfter(from, customerId, page));
+        queries.put("PizzaRepository.findByAvailableTrue", () -> pizzaRepository.findByAvailableTrue());
+        queries.put("PizzaRepository.findRowsByIdIn", () -> pizzaRepository.findRowsByIdIn(List.of(1L, 2L, 3L)));
+
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, SqlCapture.Action> query : queries.entrySet()) {
+            List<String> statements = SqlCapture.capture(query.getValue());
+            assertThat(statements).as("SQL captured for %s", query.getKey()).isNotEmpty();
+            for (String sql : statements) {
+                // Preparado sem valores: o H2 planeja a consulta parametrizada sem executá-la
+                String plan = String.join("\n", jdbcTemplate.query(
+                        connection -> connection.prepareStatement("EXPLAIN " + sql),
+                        (row, rowNum) -> row.getString(1)));
+                Matcher scan = TABLE_SCAN.matcher(plan);
+                while (scan.find()) {
+                    if (LARGE_TABLES.contains(scan.group(1))) {
+                        violations.add(query.getKey() + " scans " + scan.group(1) + ":\n" + plan);
+                    }
+                }
+            }
+        }
+
+        assertThat(violations).as("Sequential scans of large tables").isEmpty();
+    }
+}
@@ -0,0 +1,170 @@
+package com.mendes.example;
+
+import com.mendes.example.customer.application.dto.CustomerResponse;
+import com.mendes.example.customer.application.mapper.CustomerMapper;
+import com.mendes.example.customer.application.mapper.CustomerMapperImpl;
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.application.mapper.OrderItemMapperImpl;
+import com.mendes.example.order.application.mapper.OrderMapper;
+import com.mendes.example.order.application.mapper.OrderMapperImpl;
+import com.mendes.example.order.domain.Order;
+import com.mendes.example.order.domain.OrderItem;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.pizza.application.dto.PizzaResponse;
+import com.mendes.example.pizza.application.mapper.PizzaMapper;
+import com.mendes.example.pizza.application.mapper.PizzaMapperImpl;
+import com.mendes.example.pizza.domain.Pizza;
+import com.mendes.example.pizza.domain.PizzaSize;
+import com.mendes.example.pizza.infrastructure.PizzaRow;
+import com.mendes.example.shared.money.Money;
+import com.mendes.example.shared.money.MoneyMapperImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH dos mappers gerados pelo MapStruct: pedido com 5 itens, pizza, cliente e a
+ * lista de 20 pizzas do catálogo.
+ *
+ * Os mappers vêm de um contexto Spring mínimo, só com as implementações geradas (o
+ * {@link OrderMapper} recebe os mappers de itens e de valores por injeção).
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=ResponseMappingBenchmark}
+ * (resultados em {@code target/jmh/response-mapping.json})
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private OrderMapper orderMapper;
+    private PizzaMapper pizzaMapper;
+    private CustomerMapper customerMapper;
+
+    private Order order;
+    private Pizza pizza;
+    private Customer customer;
+    private List<PizzaRow> catalog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+                OrderMapperImpl.class, OrderItemMapperImpl.class, MoneyMapperImpl.class,
+                PizzaMapperImpl.class, CustomerMapperImpl.class);
+        orderMapper = context.getBean(OrderMapper.class);
+        pizzaMapper = context.getBean(PizzaMapper.class);
+        customerMapper = context.getBean(CustomerMapper.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        customer = Customer.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark")
+                .email("mapping-benchmark@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .city("São Paulo")
+                .state("SP")
+                .createdAt(now)
+                .build();
+        order = Order.builder()
+                .id(UUID.randomUUID())
+                .customer(customer)
+                .status(OrderStatus.CONFIRMED)
+                .notes("Sem cebola")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        for (int i = 0; i < 5; i++) {
+            OrderItem item = OrderItem.builder()
+                    .id(UUID.randomUUID())
+                    .pizzaId((long) i + 1)
+                    .pizzaName("Pizza " + i)
+                    .quantity(i % 3 + 1)
+                    .unitPrice(Money.ofMinor(4500 + 100 * i))
+                    .createdAt(now)
+                    .build();
+            order.addItem(item);
+        }
+        pizza = Pizza.builder()
+                .id(1L)
+                .name("Margherita")
+                .description("Molho de tomate, mussarela e manjericão")
+                .price(new BigDecimal("45.00"))
+                .size(PizzaSize.LARGE)
+                .available(true)
+                .createdAt(now)
+                .build();
+        catalog = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            catalog.add(new PizzaRow(id, "Pizza " + id, "Descrição " + id, BigDecimal.valueOf(4000 + id * 100, 2),
+                    PizzaSize.values()[(int) id % PizzaSize.values().length], true, now, now));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse orderToResponse() {
+        return orderMapper.toResponse(order);
+    }
+
+    @Benchmark
+    public PizzaResponse pizzaToResponse() {
+        return pizzaMapper.toResponse(pizza);
+    }
+
+    @Benchmark
+    public List<PizzaResponse> catalogToResponseList() {
+        return pizzaMapper.toResponseList(catalog);
+    }
+
+    @Benchmark
+    public CustomerResponse customerToResponse() {
+        return customerMapper.toResponse(customer);
+    }
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(Path.of("target/jmh"));
+        new Runner(new OptionsBuilder()
+                .include(ResponseMappingBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/response-mapping.json")
+                .build()).run();
+    }
+}
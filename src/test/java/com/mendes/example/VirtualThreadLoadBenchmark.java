@@ -0,0 +1,155 @@
+package com.mendes.example;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de carga HTTP comparando o modo de threads de plataforma (pool do Tomcat) com o de
+ * threads virtuais ({@code spring.threads.virtual.enabled=true}, com o limite de admissão JDBC).
+ *
+ * Para cada modo sobe a aplicação numa porta aleatória e dispara {@code load.requests}
+ * requisições de {@code load.clients} clientes simultâneos, alternando entre endpoints que
+ * consultam o banco ({@code GET /customers/{id}} e a página de pedidos do cliente). Reporta
+ * vazão, latências (p50, p99, máx.), respostas com erro e, no modo virtual, as esperas por vaga
+ * JDBC e os pinnings registrados.
+ *
+ * O H2 em memória não tem latência de rede, o que subestima o ganho do modo virtual; para
+ * medir contra o PostgreSQL, passe {@code -Dspring.datasource.url=...} e
+ * {@code -Dspring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect}.
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=VirtualThreadLoadBenchmark [-Dload.clients=400 -Dload.requests=40000]}
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 400);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 40_000);
+    private static final int WARMUP_REQUESTS = REQUESTS / 5;
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        long platformErrors = run(false);
+        long virtualErrors = run(true);
+
+        assertThat(platformErrors).isZero();
+        assertThat(virtualErrors).isZero();
+    }
+
+    private long run(boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PizzaApplication.class)
+                .profiles("test")
+                // Argumentos, e não .properties(...): propriedades default perderiam para as do perfil de teste
+                .run(
+                        "--server.port=0",
+                        "--management.server.port=",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--logging.level.com.mendes.example=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            UUID customerId = context.getBean(JdbcTemplate.class)
+                    .queryForObject("select id from customer order by id limit 1", UUID.class);
+            List<HttpRequest> targets = List.of(
+                    request("http://localhost:" + port + "/api/customers/" + customerId, "1"),
+                    request("http://localhost:" + port + "/api/orders/customer/" + customerId + "?size=20", "2"));
+
+            load(targets, WARMUP_REQUESTS);
+            Result result = load(targets, REQUESTS);
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            System.out.printf(
+                    "[load] mode=%s clients=%d requests=%d elapsed=%.2fs throughput=%.0f req/s "
+                            + "p50=%.2fms p99=%.2fms max=%.2fms errors=%d admission-rejected=%.0f pinned=%d%n",
+                    virtual ? "virtual" : "platform", CLIENTS, REQUESTS, result.seconds(),
+                    REQUESTS / result.seconds(), result.percentile(50), result.percentile(99),
+                    result.percentile(100), result.errors(),
+                    Search.in(meterRegistry).name("datasource.admission.rejected").functionCounters().stream()
+                            .mapToDouble(counter -> counter.count()).sum(),
+                    Search.in(meterRegistry).name("jvm.threads.virtual.pinned").timers().stream()
+                            .mapToLong(timer -> timer.count()).sum());
+            return result.errors();
+        }
+    }
+
+    private static HttpRequest request(String uri, String version) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("X-Version", version)
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    private static Result load(List<HttpRequest> targets, int requests) throws Exception {
+        AtomicInteger remaining = new AtomicInteger(requests);
+        AtomicLong errors = new AtomicLong();
+        long[] latencies = new long[requests];
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .executor(clients)
+                     .build()) {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    int n;
+                    while ((n = remaining.decrementAndGet()) >= 0) {
+                        HttpRequest request = targets.get(n % targets.size());
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[n] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return new Result((System.nanoTime() - start) / 1_000_000_000.0, latencies, errors.get());
+        }
+    }
+
+    private record Result(double seconds, long[] latencies, long errors) {
+
+        Result {
+            Arrays.sort(latencies);
+        }
+
+        double percentile(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.mendes.example;
+
+import com.mendes.example.customer.application.CustomerService;
+import com.mendes.example.shared.datasource.AdmissionLimitingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes Integrados do modo de threads virtuais: executores da auto-configuração, limite de
+ * admissão JDBC e diagnóstico de threads virtuais presas à portadora.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "datasource.admission.max-concurrent=3",
+        "threads.virtual.pinning.threshold=10ms"
+})
+@ActiveProfiles("test")
+class VirtualThreadModeIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testExecutors_ShouldRunTasksOnVirtualThreads() throws Exception {
+        assertThat(taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS))
+                .isTrue();
+
+        CompletableFuture<Boolean> scheduled = new CompletableFuture<>();
+        taskScheduler.schedule(() -> scheduled.complete(Thread.currentThread().isVirtual()), Instant.now());
+        assertThat(scheduled.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testDataSource_ShouldBeAdmissionLimited() {
+        assertThat(dataSource).isInstanceOf(AdmissionLimitingDataSource.class);
+
+        assertThat(customerService.listAllCustomers()).isNotEmpty();
+        assertThat(meterRegistry.get("datasource.admission.active").gauge().value()).isZero();
+        assertThat(meterRegistry.get("datasource.admission.rejected").functionCounter().count()).isZero();
+    }
+
+    @Test
+    void testPinningMonitor_ShouldRecordBlockingInsideSynchronized() throws Exception {
+        Object monitor = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (monitor) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        // Eventos JFR chegam ao stream em lotes, cerca de uma vez por segundo
+        Timer pinned = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pinned.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(pinned.count()).isPositive();
+    }
+}
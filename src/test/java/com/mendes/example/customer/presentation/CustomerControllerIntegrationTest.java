@@ -0,0 +1,94 @@
+package com.mendes.example.customer.presentation;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes Integrados da Slice de Clientes - paginação por cursor (versão 2).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CustomerControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testListCustomersPage_FollowsCursorAcrossCreatedAtTies() throws Exception {
+        // Arrange - 5 clientes com o mesmo created_at: o cursor desempata pelo id
+        List<String> customerIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Customer customer = customerRepository.save(Customer.builder()
+                    .name("Cliente " + i)
+                    .email("cliente." + UUID.randomUUID() + "@test.com")
+                    .phone("11999999999")
+                    .address("Rua Teste, " + i)
+                    .zipCode("01234-567")
+                    .city("São Paulo")
+                    .state("SP")
+                    .build());
+            customerIds.add(customer.getId().toString());
+        }
+        entityManager.createQuery("update Customer c set c.createdAt = :createdAt where c.id in :ids")
+                .setParameter("createdAt", LocalDateTime.of(2024, 1, 1, 12, 0))
+                .setParameter("ids", customerIds.stream().map(UUID::fromString).toList())
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act - percorre as páginas de 2 até o cursor se esgotar
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/customers")
+                    .header("X-Version", "2")
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(lessThanOrEqualTo(2)))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("items").forEach(item -> listed.add(item.get("id").asString()));
+            cursor = page.hasNonNull("next") ? page.get("next").asString() : null;
+        } while (cursor != null);
+
+        // Assert - todos os clientes, cada um exatamente uma vez
+        assertThat(listed).doesNotHaveDuplicates()
+                .hasSize((int) customerRepository.count())
+                .containsAll(customerIds);
+    }
+}
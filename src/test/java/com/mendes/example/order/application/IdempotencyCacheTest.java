@@ -0,0 +1,63 @@
+package com.mendes.example.order.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do cache de respostas por chave de idempotência: expiração e limite de entradas.
+ */
+class IdempotencyCacheTest {
+
+    private static final long TTL = 1_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final IdempotencyCache<String> cache = new IdempotencyCache<>(3, TTL, clock::get);
+
+    @Test
+    void testGet_ShouldExpireEntriesAfterTtl() {
+        cache.put("a", "order-a");
+        clock.addAndGet(TTL - 1);
+        assertThat(cache.get("a")).isEqualTo("order-a");
+
+        clock.addAndGet(1);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testPut_WithRemainingTtl_ShouldExpireEarlier() {
+        cache.put("a", "order-a", TTL / 4);
+        cache.put("b", "order-b", TTL * 2);
+        cache.put("c", "order-c", 0);
+
+        assertThat(cache.get("c")).isNull();
+        clock.addAndGet(TTL / 4);
+        assertThat(cache.get("a")).isNull();
+
+        // Limitado ao TTL do cache
+        clock.addAndGet(TTL);
+        assertThat(cache.get("b")).isNull();
+    }
+
+    @Test
+    void testPut_ShouldEvictExpiredAndOldestEntries() {
+        cache.put("a", "order-a");
+        clock.addAndGet(TTL / 2);
+        cache.put("b", "order-b");
+        cache.put("c", "order-c");
+        cache.put("d", "order-d");
+
+        // Acima da capacidade sai a entrada mais antiga
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(3);
+
+        // As expiradas saem na próxima gravação, mesmo sem serem lidas
+        clock.addAndGet(TTL);
+        cache.put("e", "order-e");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("e")).isEqualTo("order-e");
+    }
+}
@@ -0,0 +1,113 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.pizza.infrastructure.PizzaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes Integrados do índice em memória do quadro da cozinha.
+ *
+ * Não é {@code @Transactional}: o índice é atualizado após o commit das alterações.
+ */
+@SpringBootTest(properties = "orders.board.enabled=true")
+@ActiveProfiles("test")
+class KitchenBoardIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private KitchenBoard kitchenBoard;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PizzaRepository pizzaRepository;
+
+    private Customer customer;
+    private final List<UUID> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Board Test")
+                .email("board@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderIds.forEach(orderService::deleteOrder);
+        customerRepository.delete(customer);
+        kitchenBoard.reconcile();
+    }
+
+    @Test
+    void testBoard_FollowsLifecycleInCreationOrder() {
+        UUID first = createOrder();
+        UUID second = createOrder();
+
+        assertThat(idsOf(orderService.getOrdersByStatus(OrderStatus.PENDING))).containsExactly(first, second);
+
+        orderService.confirmOrder(first);
+        assertThat(idsOf(orderService.getOrdersByStatus(OrderStatus.PENDING))).containsExactly(second);
+        assertThat(idsOf(orderService.getOrdersByStatus(OrderStatus.CONFIRMED))).containsExactly(first);
+
+        orderService.cancelOrder(first);
+        assertThat(idsOf(orderService.getOrdersByStatus(OrderStatus.CONFIRMED))).isEmpty();
+        assertThat(idsOf(orderService.getOrdersByStatus(OrderStatus.CANCELLED))).contains(first);
+    }
+
+    @Test
+    void testReconcile_RemovesOrdersFinishedOutsideTheService() {
+        UUID orderId = createOrder();
+
+        // Alteração feita diretamente no banco (ex.: outro nó), sem evento
+        orderRepository.findById(orderId).ifPresent(order -> {
+            order.setStatus(OrderStatus.CANCELLED);
+            orderRepository.save(order);
+        });
+        assertThat(idsOf(kitchenBoard.list(OrderStatus.PENDING))).contains(orderId);
+
+        kitchenBoard.reconcile();
+
+        assertThat(idsOf(kitchenBoard.list(OrderStatus.PENDING))).doesNotContain(orderId);
+    }
+
+    private UUID createOrder() {
+        Long pizzaId = pizzaRepository.findAll().get(0).getId();
+        OrderResponse order = orderService.createOrder(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(pizzaId).quantity(1).build()))
+                .build());
+        orderIds.add(order.getId());
+        return order.getId();
+    }
+
+    private static List<UUID> idsOf(List<OrderResponse> orders) {
+        return orders.stream().map(OrderResponse::getId).toList();
+    }
+}
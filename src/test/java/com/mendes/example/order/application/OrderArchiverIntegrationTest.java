@@ -0,0 +1,228 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.ArchivedOrderRepository;
+import com.mendes.example.order.infrastructure.OrderItemRepository;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.report.application.OrderAnalyticsService;
+import com.mendes.example.report.application.SalesRollupService;
+import com.mendes.example.report.application.dto.OrderAnalyticsResponse;
+import com.mendes.example.report.application.dto.SalesReportEntry;
+import com.mendes.example.report.domain.RollupGranularity;
+import com.mendes.example.shared.pagination.CursorPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testes Integrados do arquivamento de pedidos finalizados.
+ *
+ * Não é {@code @Transactional}: o arquivador abre uma transação própria por bloco.
+ */
+@SpringBootTest(properties = {
+        "orders.archive.enabled=true",
+        "orders.archive.interval=PT1H",
+        "orders.archive.min-age=P30D",
+        "orders.archive.chunk-size=2"
+})
+@ActiveProfiles("test")
+class OrderArchiverIntegrationTest {
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderAnalyticsService orderAnalyticsService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Customer customer;
+    private LocalDateTime backdatedAt;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Archive Test")
+                .email("archive@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+        backdatedAt = LocalDateTime.now().minusDays(45);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("""
+                delete from order_item_archive
+                where order_id in (select id from orders_archive where customer_id = ?)""", customer.getId());
+        jdbcTemplate.update("delete from orders_archive where customer_id = ?", customer.getId());
+        jdbcTemplate.update("delete from sales_rollup where bucket_start < ?",
+                Timestamp.valueOf(LocalDate.now().minusDays(30).atStartOfDay()));
+        orderRepository.deleteAll(orderRepository.findByCustomerId(customer.getId()));
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    void testArchive_ShouldMoveOldTerminalOrdersOnly() {
+        OrderResponse delivered = deliver(createOrder());
+        OrderResponse cancelled = orderService.cancelOrder(createOrder().getId());
+        OrderResponse oldCancelled = orderService.cancelOrder(createOrder().getId());
+        OrderResponse pending = createOrder();
+        OrderResponse recentDelivered = deliver(createOrder());
+        backdate(delivered, cancelled, oldCancelled, pending);
+
+        assertThat(orderArchiver.archive()).isEqualTo(3);
+
+        List<UUID> archivedIds = List.of(delivered.getId(), cancelled.getId(), oldCancelled.getId());
+        assertThat(orderRepository.findAllById(archivedIds)).isEmpty();
+        assertThat(orderItemRepository.findByOrderId(delivered.getId())).isEmpty();
+        assertThat(archivedOrderRepository.findAllById(archivedIds)).hasSize(3);
+        assertThat(orderRepository.findById(pending.getId())).isPresent();
+        assertThat(orderRepository.findById(recentDelivered.getId())).isPresent();
+
+        assertThat(orderArchiver.archive()).isZero();
+    }
+
+    @Test
+    void testGetOrders_ShouldFallBackToArchive() {
+        OrderResponse delivered = deliver(createOrder());
+        OrderResponse pending = createOrder();
+        backdate(delivered);
+        orderArchiver.archive();
+
+        OrderResponse archived = orderService.getOrderById(delivered.getId());
+        assertThat(archived.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(archived.getCustomerId()).isEqualTo(customer.getId());
+        assertThat(archived.getTotalAmount()).isEqualByComparingTo(delivered.getTotalAmount());
+        assertThat(archived.getItems()).hasSize(1);
+        assertThat(archived.getItems().getFirst().getPizzaName())
+                .isEqualTo(delivered.getItems().getFirst().getPizzaName());
+
+        assertThat(orderService.getOrdersByCustomerId(customer.getId()))
+                .extracting(OrderResponse::getId)
+                .containsExactly(pending.getId(), delivered.getId());
+    }
+
+    @Test
+    void testGetOrdersPage_ShouldMergeArchive() {
+        OrderResponse delivered = deliver(createOrder());
+        OrderResponse oldPending = createOrder();
+        OrderResponse cancelled = orderService.cancelOrder(createOrder().getId());
+        OrderResponse pending = createOrder();
+        backdate(delivered, oldPending, cancelled);
+        assertThat(orderArchiver.archive()).isEqualTo(2);
+
+        // Páginas de 2: arquivado, quente antigo | arquivado, quente recente
+        List<OrderResponse> orders = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<OrderResponse> page = orderService.getOrdersPageByCustomerId(customer.getId(), cursor, 2);
+            orders.addAll(page.getItems());
+            cursor = page.getNext();
+        } while (cursor != null);
+
+        assertThat(orders)
+                .extracting(OrderResponse::getId, OrderResponse::getStatus)
+                .containsExactly(
+                        tuple(delivered.getId(), OrderStatus.DELIVERED),
+                        tuple(oldPending.getId(), OrderStatus.PENDING),
+                        tuple(cancelled.getId(), OrderStatus.CANCELLED),
+                        tuple(pending.getId(), OrderStatus.PENDING));
+        assertThat(orders).allSatisfy(order -> assertThat(order.getItems()).hasSize(1));
+    }
+
+    @Test
+    void testBackfill_ShouldKeepArchivedSales() {
+        OrderResponse delivered = deliver(createOrder());
+        backdate(delivered);
+        orderArchiver.archive();
+
+        LocalDate day = backdatedAt.toLocalDate();
+        salesRollupService.backfill(day, day);
+
+        assertThat(salesRollupService.getSalesReport(RollupGranularity.DAY, day.atStartOfDay(),
+                day.plusDays(1).atStartOfDay(), 1L, OrderStatus.DELIVERED))
+                .extracting(SalesReportEntry::getOrderCount, SalesReportEntry::getQuantity)
+                .containsExactly(tuple(1L, 2L));
+    }
+
+    @Test
+    void testAnalytics_ShouldIncludeArchivedOrders() {
+        OrderResponse delivered = deliver(createOrder());
+        OrderResponse cancelled = orderService.cancelOrder(createOrder().getId());
+        OrderResponse pending = createOrder();
+        backdate(delivered, cancelled, pending);
+        assertThat(orderArchiver.archive()).isEqualTo(2);
+
+        OrderAnalyticsResponse analytics = orderAnalyticsService.analyze(
+                backdatedAt.minusHours(1), backdatedAt.plusHours(1));
+
+        assertThat(analytics.getOrders()).isEqualTo(3);
+        assertThat(analytics.getCancelledOrders()).isEqualTo(1);
+        assertThat(analytics.getRevenue())
+                .isEqualByComparingTo(delivered.getTotalAmount().add(pending.getTotalAmount()));
+    }
+
+    private OrderResponse createOrder() {
+        return orderService.createOrder(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(1L).quantity(2).build()))
+                .build());
+    }
+
+    private OrderResponse deliver(OrderResponse order) {
+        orderService.confirmOrder(order.getId());
+        orderService.startPreparing(order.getId());
+        orderService.markAsReady(order.getId());
+        orderService.markAsInDelivery(order.getId());
+        return orderService.markAsDelivered(order.getId());
+    }
+
+    /**
+     * Recua a criação dos pedidos para antes do corte, um minuto entre eles, na ordem informada.
+     */
+    private void backdate(OrderResponse... orders) {
+        for (int i = 0; i < orders.length; i++) {
+            jdbcTemplate.update("update orders set created_at = ? where id = ?",
+                    Timestamp.valueOf(backdatedAt.plusMinutes(i)), orders[i].getId());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.dto.BatchOrderResponse;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.journal.JournalRecord;
+import com.mendes.example.order.infrastructure.journal.SegmentedJournal;
+import com.mendes.example.pizza.infrastructure.PizzaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testes Integrados do journal de transições: gravação durável antes da resposta e
+ * reconciliação das transições confirmadas no banco que não chegaram ao journal.
+ *
+ * Não é {@code @Transactional}: o journal é gravado após o commit.
+ */
+@SpringBootTest(properties = {
+        "orders.journal.enabled=true",
+        "orders.journal.directory=target/journal-test/${random.uuid}",
+        "orders.journal.fsync-interval=200ms",
+        "orders.journal.reconcile-page-size=2"
+})
+@ActiveProfiles("test")
+class OrderJournalIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SegmentedJournal orderJournal;
+
+    @Autowired
+    private OrderJournalReconciler reconciler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PizzaRepository pizzaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testTransitions_AreJournaledAndReconciledAfterLoss() {
+        UUID orderId = createOrder();
+        orderService.confirmOrder(orderId);
+
+        assertThat(journaled(orderId))
+                .extracting(JournalRecord::fromStatus, JournalRecord::toStatus, JournalRecord::version)
+                .containsExactly(
+                        tuple(null, OrderStatus.PENDING, 0L),
+                        tuple(OrderStatus.PENDING, OrderStatus.CONFIRMED, 1L));
+
+        // Transição confirmada no banco cujo registro se perdeu (queda antes do fsync)
+        jdbcTemplate.update("update orders set status = 'PREPARING', version = version + 1, updated_at = ? where id = ?",
+                Timestamp.valueOf(LocalDateTime.now()), orderId);
+
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+        assertThat(journaled(orderId))
+                .extracting(JournalRecord::fromStatus, JournalRecord::toStatus, JournalRecord::version)
+                .endsWith(tuple(OrderStatus.CONFIRMED, OrderStatus.PREPARING, 2L));
+
+        assertThat(reconciler.reconcile()).isZero();
+        assertThat(journaled(orderId)).hasSize(3);
+    }
+
+    @Test
+    void testLegacyRowWithoutVersion_StartsAtZeroAndTransitions() {
+        // Linha gravada sem a coluna version (anterior ao lock otimista): o default da coluna vale 0
+        UUID orderId = UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                insert into orders (id, customer_id, status, total_amount, created_at, updated_at)
+                values (?, ?, 'PENDING', 10.00, ?, ?)""", orderId, createCustomer().getId(), now, now);
+
+        assertThat(reconciler.reconcile()).isEqualTo(1);
+        orderService.confirmOrder(orderId);
+
+        assertThat(journaled(orderId))
+                .extracting(JournalRecord::toStatus, JournalRecord::version)
+                .containsExactly(tuple(OrderStatus.PENDING, 0L), tuple(OrderStatus.CONFIRMED, 1L));
+    }
+
+    @Test
+    void testBatch_WaitsForOneFsyncPerTransaction() {
+        CreateOrderRequest request = orderRequest(createCustomer());
+        List<CreateOrderRequest> requests = Collections.nCopies(10, request);
+
+        // Uma espera por pedido somaria ~10 intervalos de fsync (~2 s); o lote espera um só
+        long start = System.nanoTime();
+        BatchOrderResponse response = orderService.createOrders(requests);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(response.getCreated()).isEqualTo(10);
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+        assertThat(response.getResults())
+                .allSatisfy(result -> assertThat(journaled(result.getOrder().getId())).hasSize(1));
+    }
+
+    private UUID createOrder() {
+        return orderService.createOrder(orderRequest(createCustomer())).getId();
+    }
+
+    private Customer createCustomer() {
+        return customerRepository.save(Customer.builder()
+                .name("Journal Test")
+                .email("journal-" + UUID.randomUUID() + "@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+    }
+
+    private CreateOrderRequest orderRequest(Customer customer) {
+        return CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder()
+                        .pizzaId(pizzaRepository.findAll().getFirst().getId())
+                        .quantity(1)
+                        .build()))
+                .build();
+    }
+
+    private List<JournalRecord> journaled(UUID orderId) {
+        List<JournalRecord> records = new ArrayList<>();
+        orderJournal.replay(0, record -> {
+            if (record.orderId().equals(orderId)) {
+                records.add(record);
+            }
+        });
+        return records;
+    }
+}
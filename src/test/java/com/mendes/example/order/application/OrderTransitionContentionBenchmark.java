@@ -0,0 +1,144 @@
+package com.mendes.example.order.application;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.domain.Order;
+import com.mendes.example.order.domain.OrderItem;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.shared.exception.InvalidOperationException;
+import com.mendes.example.shared.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de contenção das transições de status (compare-and-set).
+ *
+ * Várias threads simulam terminais da cozinha disputando os mesmos pedidos: cada uma
+ * tenta percorrer o ciclo de vida completo de todos os pedidos, em ordem embaralhada.
+ * Cada transição deve vencer exatamente uma vez; as demais tentativas recebem 409.
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=OrderTransitionContentionBenchmark}
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderTransitionContentionBenchmark {
+
+    private static final int ORDERS = 200;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Customer customer;
+    private List<UUID> orderIds;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Benchmark")
+                .email("contention-benchmark@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = Order.builder().customer(customer).build();
+            order.addItem(OrderItem.builder()
+                    .pizzaId(1L)
+                    .pizzaName("Margherita")
+                    .quantity(1)
+                    .unitPrice(Money.ofMinor(4500))
+                    .build());
+            orders.add(order);
+        }
+        orderIds = orderRepository.saveAll(orders).stream().map(Order::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllById(orderIds);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    void concurrentLifecycleTransitions() throws Exception {
+        List<Consumer<UUID>> lifecycle = List.of(
+                orderService::confirmOrder,
+                orderService::startPreparing,
+                orderService::markAsReady,
+                orderService::markAsInDelivery,
+                orderService::markAsDelivered);
+
+        AtomicLong applied = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(orderIds);
+                    Collections.shuffle(ids);
+                    for (UUID id : ids) {
+                        for (Consumer<UUID> step : lifecycle) {
+                            try {
+                                step.accept(id);
+                                applied.incrementAndGet();
+                            } catch (InvalidOperationException e) {
+                                rejected.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long attempts = applied.get() + rejected.get();
+
+        System.out.printf(
+                "[contention] threads=%d orders=%d attempts=%d applied=%d rejected=%d "
+                        + "elapsed=%.2fs throughput=%.0f attempts/s, %.0f transitions/s%n",
+                THREADS, ORDERS, attempts, applied.get(), rejected.get(),
+                seconds, attempts / seconds, applied.get() / seconds);
+
+        // Cada transição de cada pedido vence exatamente uma vez
+        assertThat(applied.get()).isEqualTo((long) ORDERS * lifecycle.size());
+        assertThat(orderRepository.findAllById(orderIds))
+                .allSatisfy(order -> {
+                    assertThat(order.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+                    assertThat(order.getVersion()).isEqualTo(lifecycle.size());
+                });
+    }
+}
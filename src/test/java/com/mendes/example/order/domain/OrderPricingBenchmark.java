@@ -0,0 +1,105 @@
+package com.mendes.example.order.domain;
+
+import com.mendes.example.shared.money.Money;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do cálculo de preços do pedido: montagem com {@link Order#addItem} (que
+ * recalcula o total a cada item), {@link Order#calculateTotalAmount} e
+ * {@link OrderItem#calculateTotalPrice}, com pedidos de 1, 10 e 100 itens.
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=OrderPricingBenchmark}
+ * (resultados em {@code target/jmh/order-pricing.json})
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderPricingBenchmark {
+
+    private static final Money[] PRICES = {
+            Money.ofMinor(4500), Money.ofMinor(5290), Money.ofMinor(3850), Money.ofMinor(6175)
+    };
+    private static final String[] NAMES = {"Margherita", "Calabresa", "Mussarela", "Portuguesa"};
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private Order order;
+    private OrderItem item;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        order = buildOrder();
+        item = item(3);
+    }
+
+    @Benchmark
+    public Order addItems() {
+        return buildOrder();
+    }
+
+    @Benchmark
+    public Money calculateTotalAmount() {
+        order.calculateTotalAmount();
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public Money calculateTotalPrice() {
+        item.calculateTotalPrice();
+        return item.getTotalPrice();
+    }
+
+    private Order buildOrder() {
+        Order built = Order.builder().build();
+        for (int i = 0; i < items; i++) {
+            built.addItem(item(i));
+        }
+        return built;
+    }
+
+    private static OrderItem item(int i) {
+        return OrderItem.builder()
+                .pizzaId((long) i % PRICES.length + 1)
+                .pizzaName(NAMES[i % NAMES.length])
+                .quantity(i % 3 + 1)
+                .unitPrice(PRICES[i % PRICES.length])
+                .build();
+    }
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(Path.of("target/jmh"));
+        new Runner(new OptionsBuilder()
+                .include(OrderPricingBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/order-pricing.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.mendes.example.order.infrastructure.journal;
+
+import com.mendes.example.order.domain.OrderStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark JMH da vazão de append do journal de transições.
+ *
+ * - {@code append}: uma thread, sem esperar o fsync
+ * - {@code appendContended}: quatro threads disputando o segmento ativo
+ * - {@code appendDurable}: quatro threads aguardando o fsync em grupo de cada registro
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=JournalAppendBenchmark}
+ * (resultados em {@code target/jmh/journal-append.json})
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class JournalAppendBenchmark {
+
+    private static final int SEGMENT_RECORDS = 1 << 20;
+
+    private Path directory;
+    private SegmentedJournal journal;
+    private final UUID orderId = UUID.randomUUID();
+    private final Instant timestamp = Instant.now();
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        journal = new SegmentedJournal(directory, SEGMENT_RECORDS, Duration.ofMillis(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long append() {
+        return journal.append(orderId, OrderStatus.PENDING, OrderStatus.CONFIRMED, 1, timestamp);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long appendContended() {
+        return journal.append(orderId, OrderStatus.PENDING, OrderStatus.CONFIRMED, 1, timestamp);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long appendDurable() throws InterruptedException {
+        long sequence = journal.append(orderId, OrderStatus.PENDING, OrderStatus.CONFIRMED, 1, timestamp);
+        journal.awaitDurable(sequence);
+        return sequence;
+    }
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(Path.of("target/jmh"));
+        new Runner(new OptionsBuilder()
+                .include(JournalAppendBenchmark.class.getName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/journal-append.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,187 @@
+package com.mendes.example.order.infrastructure.journal;
+
+import com.mendes.example.order.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testes do journal segmentado de transições: rollover, replay, recuperação e compactação.
+ */
+class SegmentedJournalTest {
+
+    private static final int SEGMENT_RECORDS = 4;
+    private static final Duration FSYNC_INTERVAL = Duration.ofMillis(5);
+
+    private static final List<OrderStatus> LIFECYCLE = List.of(
+            OrderStatus.PENDING,
+            OrderStatus.CONFIRMED,
+            OrderStatus.PREPARING,
+            OrderStatus.READY,
+            OrderStatus.IN_DELIVERY,
+            OrderStatus.DELIVERED);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppend_ShouldRollSegmentsAndReplayFromSequence() throws Exception {
+        UUID orderId = UUID.randomUUID();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            long last = appendLifecycle(journal, orderId, now);
+            journal.awaitDurable(last);
+
+            assertThat(segmentFiles()).hasSize(2);
+            assertThat(replay(journal, 0)).extracting(JournalRecord::toStatus).containsExactlyElementsOf(LIFECYCLE);
+            assertThat(replay(journal, 4)).extracting(JournalRecord::sequence).containsExactly(4L, 5L);
+
+            JournalRecord created = replay(journal, 0).getFirst();
+            assertThat(created.orderId()).isEqualTo(orderId);
+            assertThat(created.fromStatus()).isNull();
+            assertThat(created.timestamp()).isEqualTo(now);
+        }
+    }
+
+    @Test
+    void testReopen_ShouldRecoverRecordsAndContinueSequence() throws Exception {
+        UUID orderId = UUID.randomUUID();
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            appendLifecycle(journal, orderId, Instant.now());
+        }
+
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            assertThat(journal.nextSequence()).isEqualTo(LIFECYCLE.size());
+            long sequence = journal.append(orderId, OrderStatus.DELIVERED, OrderStatus.CANCELLED, 6, Instant.now());
+
+            assertThat(sequence).isEqualTo(LIFECYCLE.size());
+            assertThat(replay(journal, 0)).hasSize(LIFECYCLE.size() + 1);
+        }
+    }
+
+    @Test
+    void testCompact_ShouldKeepHistoryAndDropOnlyDuplicates() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Instant now = Instant.now();
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            appendLifecycle(journal, first, now);
+            // Versões 3 e 5 gravadas de novo (ex.: reconciliação após uma queda)
+            journal.append(first, OrderStatus.PREPARING, OrderStatus.READY, 3, now);
+            journal.append(first, OrderStatus.IN_DELIVERY, OrderStatus.DELIVERED, 5, now);
+            appendLifecycle(journal, second, now);
+
+            // 14 registros: segmentos selados [0-3], [4-7] e [8-11], ativo [12-13]
+            int discarded = journal.compact(12);
+
+            assertThat(discarded).isEqualTo(2);
+            assertThat(replay(journal, 0))
+                    .extracting(JournalRecord::orderId, JournalRecord::toStatus)
+                    .containsExactly(
+                            tuple(first, OrderStatus.PENDING),
+                            tuple(first, OrderStatus.CONFIRMED),
+                            tuple(first, OrderStatus.PREPARING),
+                            tuple(first, OrderStatus.READY),
+                            tuple(first, OrderStatus.IN_DELIVERY),
+                            tuple(first, OrderStatus.DELIVERED),
+                            tuple(second, OrderStatus.PENDING),
+                            tuple(second, OrderStatus.CONFIRMED),
+                            tuple(second, OrderStatus.PREPARING),
+                            tuple(second, OrderStatus.READY),
+                            tuple(second, OrderStatus.IN_DELIVERY),
+                            tuple(second, OrderStatus.DELIVERED));
+        }
+
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            assertThat(replay(journal, 0)).hasSize(12);
+            assertThat(journal.nextSequence()).isEqualTo(14);
+        }
+    }
+
+    @Test
+    void testCompact_ShouldDropRecordsOlderThanRetention() throws Exception {
+        UUID old = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+        Instant now = Instant.now();
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            appendLifecycle(journal, old, now.minus(Duration.ofDays(40)));
+            appendLifecycle(journal, recent, now);
+
+            // 12 registros: segmentos selados [0-3] e [4-7], ativo [8-11] (cheio, ainda ativo)
+            int discarded = journal.compact(journal.nextSequence(), now.minus(Duration.ofDays(30)));
+
+            assertThat(discarded).isEqualTo(LIFECYCLE.size());
+            assertThat(replay(journal, 0)).extracting(JournalRecord::orderId).containsOnly(recent).hasSize(6);
+            assertThat(journal.compact(journal.nextSequence(), now.minus(Duration.ofDays(30)))).isZero();
+        }
+
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            assertThat(replay(journal, 0)).hasSize(6);
+            assertThat(journal.nextSequence()).isEqualTo(12);
+        }
+    }
+
+    @Test
+    void testReplaySince_ShouldReadOnlyRecentRecords() throws Exception {
+        UUID old = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+        Instant now = Instant.now();
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            appendLifecycle(journal, old, now.minus(Duration.ofHours(1)));
+            appendLifecycle(journal, recent, now);
+
+            List<JournalRecord> records = new ArrayList<>();
+            journal.replaySince(now.minus(Duration.ofMinutes(10)), records::add);
+
+            assertThat(records).extracting(JournalRecord::orderId).containsOnly(recent).hasSize(6);
+            assertThat(journal.lastRecord()).map(JournalRecord::orderId).contains(recent);
+        }
+    }
+
+    @Test
+    void testAwaitDurable_ShouldReturnAfterGroupFsync() throws Exception {
+        try (SegmentedJournal journal = new SegmentedJournal(directory, SEGMENT_RECORDS, FSYNC_INTERVAL)) {
+            long sequence = journal.append(UUID.randomUUID(), null, OrderStatus.PENDING, 0, Instant.now());
+
+            assertThat(journal.awaitDurable(sequence, Duration.ofSeconds(5))).isTrue();
+            assertThat(journal.awaitDurable(sequence + 1, Duration.ofMillis(50))).isFalse();
+        }
+    }
+
+    private long appendLifecycle(SegmentedJournal journal, UUID orderId, Instant timestamp) {
+        long sequence = -1;
+        OrderStatus previous = null;
+        for (int i = 0; i < LIFECYCLE.size(); i++) {
+            OrderStatus status = LIFECYCLE.get(i);
+            sequence = journal.append(orderId, previous, status, i, timestamp);
+            previous = status;
+        }
+        return sequence;
+    }
+
+    private List<JournalRecord> replay(SegmentedJournal journal, long fromSequence) {
+        List<JournalRecord> records = new ArrayList<>();
+        journal.replay(fromSequence, records::add);
+        return records;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
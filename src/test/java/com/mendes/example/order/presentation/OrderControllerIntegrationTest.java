@@ -2,6 +2,7 @@ package com.mendes.example.order.presentation;
 
 import com.mendes.example.customer.domain.Customer;
 import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.dto.BulkTransitionRequest;
 import com.mendes.example.order.application.dto.CreateOrderRequest;
 import com.mendes.example.order.application.dto.OrderItemRequest;
 import com.mendes.example.order.domain.OrderStatus;
@@ -9,6 +10,7 @@ import com.mendes.example.order.infrastructure.OrderRepository;
 import com.mendes.example.pizza.domain.Pizza;
 import com.mendes.example.pizza.domain.PizzaSize;
 import com.mendes.example.pizza.infrastructure.PizzaRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +19,9 @@ import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
 import java.math.BigDecimal;
@@ -26,7 +30,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,6 +75,9 @@ class OrderControllerIntegrationTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Customer customer;
     private Pizza pizza1;
     private Pizza pizza2;
@@ -151,6 +160,70 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.notes").value("Sem cebola na primeira pizza"));
     }
 
+    @Test
+    void testCreateOrder_WithIdempotencyKey_RetryReturnsOriginalOrder() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        String requestJson = objectMapper.writeValueAsString(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(pizza1.getId()).quantity(1).build()))
+                .build());
+
+        String first = mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String orderId = objectMapper.readTree(first).get("id").asString();
+
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(orderId));
+
+        assertThat(orderRepository.findByCustomerId(customer.getId())).hasSize(1);
+    }
+
+    @Test
+    void testCreateOrder_WithReusedIdempotencyKey_ShouldFail() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderRequest.CreateOrderRequestBuilder request = CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(pizza1.getId()).quantity(1).build()));
+
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request.build())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request.notes("Outra").build())))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testCreateOrder_WithNullPizzaId_ShouldReturnBadRequest() throws Exception {
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(
+                        OrderItemRequest.builder().pizzaId(pizza1.getId()).quantity(1).build(),
+                        OrderItemRequest.builder().quantity(1).build()))
+                .build();
+
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", containsString("pizza id is required")));
+
+        assertThat(orderRepository.findByCustomerId(customer.getId())).isEmpty();
+    }
+
     @Test
     void testGetAllOrders_Success() throws Exception {
         // Já temos dados de setUp
@@ -249,6 +322,37 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value(OrderStatus.DELIVERED.toString()));
     }
 
+    @Test
+    void testConfirmOrder_Twice_ShouldFail() throws Exception {
+        // Arrange - Criar e confirmar pedido
+        CreateOrderRequest createRequest = CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder()
+                        .pizzaId(pizza1.getId())
+                        .quantity(1)
+                        .build()))
+                .build();
+
+        mockMvc.perform(post("/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated());
+
+        UUID orderId = orderRepository.findAll().get(0).getId();
+
+        mockMvc.perform(put("/orders/{id}/confirm", orderId))
+                .andExpect(status().isOk());
+
+        // Act & Assert - ADR-008: transição não permitida a partir de CONFIRMED (RFC 9457: 409)
+        mockMvc.perform(put("/orders/{id}/confirm", orderId))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Invalid Operation"))
+                .andExpect(jsonPath("$.detail", containsString("Current status: CONFIRMED")));
+
+        mockMvc.perform(put("/orders/{id}/confirm", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testGetOrdersByCustomerId_Success() throws Exception {
         // Arrange - Criar pedido
@@ -312,6 +416,189 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].status").value(OrderStatus.CONFIRMED.toString()));
     }
 
+    @Test
+    void testListOrdersPage_FollowsCursorUntilExhausted() throws Exception {
+        // Arrange - Criar 3 pedidos
+        CreateOrderRequest createRequest = CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder()
+                        .pizzaId(pizza1.getId())
+                        .quantity(1)
+                        .build()))
+                .build();
+        String createJson = objectMapper.writeValueAsString(createRequest);
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(createJson))
+                    .andExpect(status().isCreated());
+        }
+
+        // Act & Assert - ADR-009: versão 2 retorna página com cursor opaco
+        String firstPage = mockMvc.perform(get("/orders")
+                        .header("X-Version", "2")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        String next = objectMapper.readTree(firstPage).get("next").asString();
+
+        mockMvc.perform(get("/orders")
+                        .header("X-Version", "2")
+                        .param("size", "2")
+                        .param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void testListOrdersPage_WithInvalidCursor_ShouldFail() throws Exception {
+        mockMvc.perform(get("/orders")
+                        .header("X-Version", "2")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Request"));
+    }
+
+    @Test
+    void testListOrdersPageByStatus_FollowsCursorAcrossCreatedAtTies() throws Exception {
+        // Arrange - 5 pedidos com o mesmo created_at; um deles confirmado sai do filtro
+        List<UUID> orderIds = createOrdersWithSameCreatedAt(customer, 5);
+        mockMvc.perform(put("/orders/{id}/confirm", orderIds.get(2)))
+                .andExpect(status().isOk());
+        entityManager.clear();
+
+        // Act
+        List<String> pending = walkPages("/orders/status/{status}", OrderStatus.PENDING);
+
+        // Assert - cada pedido pendente aparece exatamente uma vez
+        assertThat(pending).containsExactlyInAnyOrder(
+                orderIds.get(0).toString(), orderIds.get(1).toString(),
+                orderIds.get(3).toString(), orderIds.get(4).toString());
+    }
+
+    @Test
+    void testListOrdersPageByCustomer_FollowsCursorAcrossCreatedAtTies() throws Exception {
+        // Arrange - pedidos de outro cliente no mesmo instante não entram na página
+        Customer other = customerRepository.save(Customer.builder()
+                .name("Maria Souza")
+                .email("maria.souza@test.com")
+                .phone("11988888888")
+                .address("Rua Teste, 456")
+                .zipCode("01234-567")
+                .city("São Paulo")
+                .state("SP")
+                .build());
+        List<UUID> orderIds = createOrdersWithSameCreatedAt(customer, 5);
+        createOrdersWithSameCreatedAt(other, 2);
+
+        // Act
+        List<String> customerOrders = walkPages("/orders/customer/{customerId}", customer.getId());
+
+        // Assert
+        assertThat(customerOrders).containsExactlyInAnyOrderElementsOf(
+                orderIds.stream().map(UUID::toString).toList());
+    }
+
+    @Test
+    void testCreateOrdersBatch_ReportsPerOrderResults() throws Exception {
+        // Arrange - dois pedidos válidos, um com pizza inexistente e um sem itens
+        List<CreateOrderRequest> batch = List.of(
+                CreateOrderRequest.builder()
+                        .customerId(customer.getId())
+                        .items(List.of(OrderItemRequest.builder().pizzaId(pizza1.getId()).quantity(2).build()))
+                        .build(),
+                CreateOrderRequest.builder()
+                        .customerId(customer.getId())
+                        .items(List.of(OrderItemRequest.builder().pizzaId(999L).quantity(1).build()))
+                        .build(),
+                CreateOrderRequest.builder()
+                        .customerId(customer.getId())
+                        .items(new ArrayList<>())
+                        .build(),
+                CreateOrderRequest.builder()
+                        .customerId(customer.getId())
+                        .items(List.of(OrderItemRequest.builder().pizzaId(pizza2.getId()).quantity(1).build()))
+                        .build());
+
+        // Act & Assert
+        mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].order.totalAmount").value(90.00))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].error", containsString("Pizza not found")))
+                .andExpect(jsonPath("$.results[2].error", containsString("Order must have at least one item")))
+                .andExpect(jsonPath("$.results[3].order.status").value(OrderStatus.PENDING.toString()));
+    }
+
+    @Test
+    void testCreateOrdersBatch_ReportsNullEntries() throws Exception {
+        // Arrange - elemento null no lote e item null dentro de um pedido
+        String batch = """
+                [null,
+                 {"customerId": "%1$s", "items": [{"pizzaId": %2$d, "quantity": 1}]},
+                 {"customerId": "%1$s", "items": [null]}]""".formatted(customer.getId(), pizza1.getId());
+
+        // Act & Assert
+        mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].error").value("Order is required"))
+                .andExpect(jsonPath("$.results[1].success").value(true))
+                .andExpect(jsonPath("$.results[2].error").value("Item is required"));
+    }
+
+    @Test
+    void testTransitionOrders_AppliesEligibleAndReportsOthers() throws Exception {
+        // Arrange - três pedidos PENDING, um deles já confirmado
+        CreateOrderRequest createRequest = CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(pizza1.getId()).quantity(1).build()))
+                .build();
+        List<CreateOrderRequest> batch = List.of(createRequest, createRequest, createRequest);
+        mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk());
+
+        List<UUID> orderIds = orderRepository.findAll().stream().map(o -> o.getId()).toList();
+        mockMvc.perform(put("/orders/{id}/confirm", orderIds.get(2)))
+                .andExpect(status().isOk());
+
+        List<UUID> requested = new ArrayList<>(orderIds);
+        UUID unknownId = UUID.randomUUID();
+        requested.add(unknownId);
+        BulkTransitionRequest request = BulkTransitionRequest.builder()
+                .targetStatus(OrderStatus.CONFIRMED)
+                .orderIds(requested)
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(put("/orders/transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].status").value(OrderStatus.CONFIRMED.toString()))
+                .andExpect(jsonPath("$.results[2].success").value(false))
+                .andExpect(jsonPath("$.results[2].error", containsString("Only pending orders can be confirmed")))
+                .andExpect(jsonPath("$.results[3].orderId").value(unknownId.toString()))
+                .andExpect(jsonPath("$.results[3].error", containsString("Order not found")));
+    }
+
     @Test
     void testCancelOrder_Success() throws Exception {
         // Arrange - Criar pedido
@@ -385,5 +672,59 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.title").value("Resource Not Found"))
                 .andExpect(jsonPath("$.detail", containsString("Pizza not found")));
     }
-}
 
+    /**
+     * Cria pedidos do cliente e iguala o created_at de todos, forçando o desempate do
+     * cursor pelo id.
+     */
+    private List<UUID> createOrdersWithSameCreatedAt(Customer owner, int count) throws Exception {
+        String createJson = objectMapper.writeValueAsString(CreateOrderRequest.builder()
+                .customerId(owner.getId())
+                .items(List.of(OrderItemRequest.builder()
+                        .pizzaId(pizza1.getId())
+                        .quantity(1)
+                        .build()))
+                .build());
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String created = mockMvc.perform(post("/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createJson))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            orderIds.add(UUID.fromString(objectMapper.readTree(created).get("id").asString()));
+        }
+
+        entityManager.createQuery("update Order o set o.createdAt = :createdAt where o.id in :ids")
+                .setParameter("createdAt", LocalDateTime.of(2024, 1, 1, 12, 0))
+                .setParameter("ids", orderIds)
+                .executeUpdate();
+        entityManager.clear();
+        return orderIds;
+    }
+
+    /**
+     * Percorre a versão 2 do endpoint em páginas de 2 até o cursor se esgotar, devolvendo os
+     * ids na ordem recebida.
+     */
+    private List<String> walkPages(String path, Object... uriVariables) throws Exception {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(path, uriVariables)
+                    .header("X-Version", "2")
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(lessThanOrEqualTo(2)))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("items").forEach(item -> ids.add(item.get("id").asString()));
+            cursor = page.hasNonNull("next") ? page.get("next").asString() : null;
+        } while (cursor != null);
+        return ids;
+    }
+}
@@ -0,0 +1,148 @@
+package com.mendes.example.order.presentation;
+
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.application.event.OrderStatusChangedEvent;
+import com.mendes.example.order.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes Integrados do stream SSE de status de pedidos.
+ *
+ * Os eventos são publicados fora de transação ({@code fallbackExecution}), então chegam
+ * imediatamente ao buffer de replay.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderEventStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testStreamOrderEvents_ShouldReplayFilteredEventsAfterLastEventId() throws Exception {
+        UUID customerId = UUID.randomUUID();
+        UUID otherCustomerId = UUID.randomUUID();
+        UUID orderId = UUID.randomUUID();
+
+        String baseline = subscribe("/orders/events?customerId=" + customerId, null, "");
+        assertThat(baseline).isEmpty();
+
+        publish(orderId, customerId, null, OrderStatus.PENDING);
+        publish(UUID.randomUUID(), otherCustomerId, null, OrderStatus.PENDING);
+        publish(orderId, customerId, OrderStatus.PENDING, OrderStatus.CONFIRMED);
+
+        String replay = subscribe("/orders/events?customerId=" + customerId, 0L, "CONFIRMED");
+
+        assertThat(replay).contains("event:order-status");
+        assertThat(replay).contains(orderId.toString());
+        assertThat(replay).doesNotContain(otherCustomerId.toString());
+        assertThat(replay.indexOf("\"status\":\"PENDING\"")).isLessThan(replay.indexOf("\"status\":\"CONFIRMED\""));
+    }
+
+    @Test
+    void testStreamOrderEvents_ConcurrentSubscribersShouldReceiveIdenticalFrames() throws Exception {
+        UUID customerId = UUID.randomUUID();
+        String path = "/orders/events?customerId=" + customerId;
+        List<MvcResult> subscribers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            subscribers.add(open(path, null));
+        }
+
+        int events = 20;
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            UUID orderId = UUID.randomUUID();
+            orderIds.add(orderId);
+            publish(orderId, customerId, null, OrderStatus.PENDING);
+        }
+
+        Pattern frame = Pattern.compile("id:(\\d+)\nevent:order-status\ndata:(\\{[^\n]*})\n\n");
+        for (MvcResult subscriber : subscribers) {
+            String content = await(subscriber, orderIds.getLast().toString());
+            Matcher matcher = frame.matcher(content);
+            List<UUID> received = new ArrayList<>();
+            long previousId = 0;
+            int end = 0;
+            while (matcher.find() && matcher.start() == end) {
+                long id = Long.parseLong(matcher.group(1));
+                assertThat(id).isGreaterThan(previousId);
+                previousId = id;
+                received.add(UUID.fromString(objectMapper.readTree(matcher.group(2)).get("orderId").asString()));
+                end = matcher.end();
+            }
+            assertThat(end).as("every byte belongs to a well-formed frame: %s", content).isEqualTo(content.length());
+            assertThat(received).containsExactlyElementsOf(orderIds);
+        }
+    }
+
+    @Test
+    void testStreamOrderEvents_LastEventIdAheadOfSequenceShouldResync() throws Exception {
+        String content = subscribe("/orders/events?customerId=" + UUID.randomUUID(), Long.MAX_VALUE / 2, "event:resync");
+
+        assertThat(content).startsWith("event:resync\nid:");
+    }
+
+    private void publish(UUID orderId, UUID customerId, OrderStatus previous, OrderStatus current) {
+        OrderResponse order = OrderResponse.builder()
+                .id(orderId)
+                .customerId(customerId)
+                .status(current)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order, 0, previous));
+    }
+
+    private String subscribe(String path, Long lastEventId, String expected) throws Exception {
+        return await(open(path, lastEventId), expected);
+    }
+
+    private MvcResult open(String path, Long lastEventId) throws Exception {
+        var builder = get(path).accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String await(MvcResult result, String expected) throws Exception {
+        // O envio acontece em uma virtual thread; aguarda o conteúdo esperado chegar
+        long deadline = System.currentTimeMillis() + 2_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
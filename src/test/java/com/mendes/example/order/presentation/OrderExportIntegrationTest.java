@@ -0,0 +1,127 @@
+package com.mendes.example.order.presentation;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.domain.Order;
+import com.mendes.example.order.domain.OrderItem;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.shared.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes Integrados da exportação em streaming de pedidos.
+ *
+ * Não é {@code @Transactional}: o corpo da resposta é escrito em outra thread, com
+ * transação própria, então os dados precisam estar confirmados no banco.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderExportIntegrationTest {
+
+    private static final int ORDER_COUNT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Customer customer;
+    private List<UUID> orderIds;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Export Test")
+                .email("export@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder().customer(customer).build();
+            order.addItem(OrderItem.builder()
+                    .pizzaId(1L)
+                    .pizzaName("Margherita")
+                    .quantity(1)
+                    .unitPrice(Money.ofMinor(4500))
+                    .build());
+            order.addItem(OrderItem.builder()
+                    .pizzaId(2L)
+                    .pizzaName("Pepperoni, grande")
+                    .quantity(2)
+                    .unitPrice(Money.ofMinor(5000))
+                    .build());
+            orders.add(order);
+        }
+        orderIds = orderRepository.saveAll(orders).stream().map(Order::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllById(orderIds);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    void testExportOrders_Ndjson_OneOrderPerLine() throws Exception {
+        String body = export("NDJSON", "application/x-ndjson");
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(ORDER_COUNT);
+        assertThat(lines).allSatisfy(line -> assertThat(line)
+                .contains("\"customerId\":\"" + customer.getId() + "\"")
+                .contains("\"totalAmount\":145"));
+        assertThat(orderIds).allSatisfy(id -> assertThat(body).contains(id.toString()));
+    }
+
+    @Test
+    void testExportOrders_Csv_OneLinePerItem() throws Exception {
+        String body = export("CSV", "text/csv;charset=UTF-8");
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines.get(0)).startsWith("orderId,customerId,status");
+        assertThat(lines).hasSize(1 + ORDER_COUNT * 2);
+        assertThat(body).contains("\"Pepperoni, grande\"");
+    }
+
+    private String export(String format, String contentType) throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        MvcResult result = mockMvc.perform(get("/orders/export")
+                        .param("startDate", now.minusDays(1).toString())
+                        .param("endDate", now.plusDays(1).toString())
+                        .param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(contentType))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,230 @@
+package com.mendes.example.order.presentation;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.domain.Order;
+import com.mendes.example.order.domain.OrderItem;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.outbox.application.OutboxService;
+import com.mendes.example.pizza.application.PizzaCatalog;
+import com.mendes.example.pizza.domain.Pizza;
+import com.mendes.example.pizza.infrastructure.PizzaRepository;
+import com.mendes.example.shared.money.Money;
+import com.mendes.example.support.SqlStatementBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orçamento de SQL dos endpoints de listagem de pedidos.
+ *
+ * Cada listagem deve carregar pedidos e itens em um número fixo de statements,
+ * independente da quantidade de pedidos retornados (regressão de N+1).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class OrderQueryBudgetIntegrationTest {
+
+    private static final int ORDER_COUNT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PizzaRepository pizzaRepository;
+
+    @Autowired
+    private PizzaCatalog pizzaCatalog;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    private Customer customer;
+    private SqlStatementBudget budget;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+
+        customer = customerRepository.save(Customer.builder()
+                .name("Budget Test")
+                .email("budget@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder().customer(customer).build();
+            order.addItem(OrderItem.builder()
+                    .pizzaId(1L)
+                    .pizzaName("Margherita")
+                    .quantity(1)
+                    .unitPrice(Money.ofMinor(4500))
+                    .build());
+            order.addItem(OrderItem.builder()
+                    .pizzaId(2L)
+                    .pizzaName("Pepperoni")
+                    .quantity(2)
+                    .unitPrice(Money.ofMinor(5000))
+                    .build());
+            orderRepository.save(order);
+        }
+
+        // Aquece a sequência do outbox, alocada em blocos: o orçamento mede o custo por requisição
+        outboxService.append("Budget", UUID.randomUUID(), "Warmup", Map.of());
+
+        budget = new SqlStatementBudget(entityManager);
+    }
+
+    @Test
+    void listAllOrders_StaysWithinBudget() throws Exception {
+        budget.assertAtMost(1, "GET /orders", () ->
+                mockMvc.perform(get("/orders"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(ORDER_COUNT))
+                        .andExpect(jsonPath("$[0].items.length()").value(2)));
+    }
+
+    @Test
+    void getOrdersByStatus_StaysWithinBudget() throws Exception {
+        budget.assertAtMost(1, "GET /orders/status/{status}", () ->
+                mockMvc.perform(get("/orders/status/{status}", OrderStatus.PENDING))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(ORDER_COUNT)));
+    }
+
+    @Test
+    void getOrdersByDateRange_StaysWithinBudget() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        budget.assertAtMost(1, "GET /orders/search/date-range", () ->
+                mockMvc.perform(get("/orders/search/date-range")
+                                .param("startDate", now.minusDays(1).toString())
+                                .param("endDate", now.plusDays(1).toString()))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(ORDER_COUNT)));
+    }
+
+    @Test
+    void listOrdersPage_StaysWithinBudget() throws Exception {
+        // Uma consulta para a página e uma para os itens em lote
+        budget.assertAtMost(2, "GET /orders (v2)", () ->
+                mockMvc.perform(get("/orders").header("X-Version", "2"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.items.length()").value(ORDER_COUNT)));
+    }
+
+    @Test
+    void createOrder_StaysWithinBudgetRegardlessOfLineCount() throws Exception {
+        // Pizzas do data-h2.sql já confirmadas no banco e portanto presentes no snapshot do cardápio
+        List<Pizza> menu = pizzaRepository.findAll();
+        pizzaCatalog.snapshot();
+
+        List<OrderItemRequest> items = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Pizza pizza = menu.get(i % menu.size());
+            items.add(OrderItemRequest.builder().pizzaId(pizza.getId()).quantity(1).build());
+        }
+        String requestJson = objectMapper.writeValueAsString(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(items)
+                .build());
+
+        // Existência do cliente, INSERT do pedido, INSERT em lote dos itens e INSERT no outbox;
+        // preços vêm do cardápio em memória
+        budget.assertAtMost(4, "POST /orders", () -> {
+            mockMvc.perform(post("/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.items.length()").value(ORDER_COUNT));
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    void createOrder_RetryWithIdempotencyKey_RunsNoSql() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        String requestJson = objectMapper.writeValueAsString(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(1L).quantity(1).build()))
+                .build());
+        mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isCreated());
+
+        // A retentativa é respondida pelo cache de chaves: sem consultas nem INSERTs
+        budget.assertAtMost(0, "POST /orders (retry)", () -> {
+            mockMvc.perform(post("/orders")
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(status().isCreated());
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    void createOrdersBatch_StaysWithinBudgetRegardlessOfOrderCount() throws Exception {
+        List<Pizza> menu = pizzaRepository.findAll();
+        pizzaCatalog.snapshot();
+
+        List<CreateOrderRequest> batch = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            batch.add(CreateOrderRequest.builder()
+                    .customerId(customer.getId())
+                    .items(List.of(
+                            OrderItemRequest.builder().pizzaId(menu.get(i % menu.size()).getId()).quantity(1).build(),
+                            OrderItemRequest.builder().pizzaId(menu.get(0).getId()).quantity(2).build()))
+                    .build());
+        }
+        String requestJson = objectMapper.writeValueAsString(batch);
+
+        // Clientes em um SELECT, INSERT em lote dos pedidos, dos itens e das mensagens do outbox
+        budget.assertAtMost(4, "POST /orders/batch", () -> {
+            mockMvc.perform(post("/orders/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestJson))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created").value(ORDER_COUNT));
+            entityManager.flush();
+        });
+    }
+}
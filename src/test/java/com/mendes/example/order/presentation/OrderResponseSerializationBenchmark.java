@@ -0,0 +1,117 @@
+package com.mendes.example.order.presentation;
+
+import com.mendes.example.order.application.dto.OrderItemResponse;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.domain.OrderStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da serialização JSON de {@link OrderResponse} com o Jackson: um pedido com
+ * 5 itens (GET /orders/{id}) e uma página de 50 pedidos (GET /orders).
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=OrderResponseSerializationBenchmark}
+ * (resultados em {@code target/jmh/order-response-json.json})
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderResponseSerializationBenchmark {
+
+    private static final int ITEMS = 5;
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private OrderResponse order;
+    private List<OrderResponse> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        order = order(LocalDateTime.now());
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(order(LocalDateTime.now().minusMinutes(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] singleOrder() {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] orderPage() {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private static OrderResponse order(LocalDateTime createdAt) {
+        List<OrderItemResponse> items = new ArrayList<>(ITEMS);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < ITEMS; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(4500 + 100 * i, 2);
+            BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(i % 3 + 1));
+            total = total.add(totalPrice);
+            items.add(OrderItemResponse.builder()
+                    .id(UUID.randomUUID())
+                    .pizzaId((long) i + 1)
+                    .pizzaName("Pizza " + i)
+                    .quantity(i % 3 + 1)
+                    .unitPrice(unitPrice)
+                    .totalPrice(totalPrice)
+                    .createdAt(createdAt)
+                    .build());
+        }
+        return OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .status(OrderStatus.CONFIRMED)
+                .totalAmount(total)
+                .notes("Sem cebola")
+                .items(items)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(Path.of("target/jmh"));
+        new Runner(new OptionsBuilder()
+                .include(OrderResponseSerializationBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/order-response-json.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.mendes.example.outbox.application;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.OrderService;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.outbox.infrastructure.InMemoryOutboxSink;
+import com.mendes.example.outbox.infrastructure.OutboxRepository;
+import com.mendes.example.shared.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes Integrados do transactional outbox de pedidos.
+ *
+ * Não é {@code @Transactional}: as mensagens só ficam visíveis para o relay após o commit.
+ */
+@SpringBootTest(properties = {"outbox.relay.enabled=true", "outbox.relay.interval=PT1H"})
+@ActiveProfiles("test")
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.drain();
+        customer = customerRepository.save(Customer.builder()
+                .name("Outbox Test")
+                .email("outbox@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll(orderRepository.findByCustomerId(customer.getId()));
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    void testDrain_ShouldRelayOrderLifecycleInOrder() {
+        OrderResponse order = orderService.createOrder(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(1L).quantity(1).build()))
+                .build());
+        orderService.confirmOrder(order.getId());
+
+        assertThat(outboxRelay.drain()).isEqualTo(2);
+
+        List<OutboxEvent> relayed = sink.events().stream()
+                .filter(event -> event.aggregateId().equals(order.getId()))
+                .toList();
+        assertThat(relayed).extracting(OutboxEvent::eventType)
+                .containsExactly("OrderCreated", "OrderStatusChanged");
+        assertThat(relayed.get(1).payload()).contains("\"previousStatus\":\"PENDING\"");
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void testCreateOrder_WhenRolledBack_ShouldNotWriteOutbox() {
+        assertThatThrownBy(() -> orderService.createOrder(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(
+                        OrderItemRequest.builder().pizzaId(1L).quantity(1).build(),
+                        OrderItemRequest.builder().pizzaId(999_999L).quantity(1).build()))
+                .build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+}
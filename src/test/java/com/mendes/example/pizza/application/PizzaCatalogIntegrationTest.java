@@ -0,0 +1,169 @@
+package com.mendes.example.pizza.application;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.OrderService;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.pizza.application.dto.CreatePizzaRequest;
+import com.mendes.example.pizza.application.dto.PizzaResponse;
+import com.mendes.example.pizza.application.dto.UpdatePizzaRequest;
+import com.mendes.example.pizza.domain.PizzaSize;
+import com.mendes.example.shared.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes Integrados do snapshot do cardápio.
+ *
+ * Não é {@code @Transactional}: o snapshot é trocado após o commit das alterações do cardápio.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PizzaCatalogIntegrationTest {
+
+    @Autowired
+    private PizzaService pizzaService;
+
+    @Autowired
+    private PizzaCatalog pizzaCatalog;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Customer customer;
+    private final List<UUID> orderIds = new ArrayList<>();
+    private Long pizzaId;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Catalog Test")
+                .email("catalog@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderIds.forEach(orderService::deleteOrder);
+        customerRepository.delete(customer);
+        if (pizzaId != null && pizzaCatalog.snapshot().byId().containsKey(pizzaId)) {
+            pizzaService.deletePizza(pizzaId);
+        }
+    }
+
+    @Test
+    void testChanges_SwapSnapshotSeenByMenuAndOrders() {
+        long version = pizzaCatalog.snapshot().version();
+
+        PizzaResponse created = pizzaService.createPizza(CreatePizzaRequest.builder()
+                .name("Calabresa Catálogo")
+                .description("Calabresa e cebola")
+                .price(new BigDecimal("42.00"))
+                .size(PizzaSize.MEDIUM)
+                .build());
+        pizzaId = created.getId();
+
+        assertThat(pizzaCatalog.snapshot().version()).isGreaterThan(version);
+        assertThat(pizzaService.listAvailablePizzas())
+                .filteredOn(pizza -> pizza.getId().equals(pizzaId))
+                .singleElement()
+                .satisfies(pizza -> assertThat(pizza.getPrice()).isEqualByComparingTo("42.00"));
+        assertThat(createOrder().getTotalAmount()).isEqualByComparingTo("84.00");
+
+        version = pizzaCatalog.snapshot().version();
+        pizzaService.updatePizza(pizzaId, UpdatePizzaRequest.builder()
+                .name("Calabresa Catálogo")
+                .description("Calabresa e cebola")
+                .price(new BigDecimal("47.50"))
+                .size(PizzaSize.MEDIUM)
+                .build());
+
+        assertThat(pizzaCatalog.snapshot().version()).isGreaterThan(version);
+        assertThat(pizzaService.listAvailablePizzas())
+                .filteredOn(pizza -> pizza.getId().equals(pizzaId))
+                .singleElement()
+                .satisfies(pizza -> assertThat(pizza.getPrice()).isEqualByComparingTo("47.50"));
+        assertThat(createOrder().getTotalAmount()).isEqualByComparingTo("95.00");
+
+        pizzaService.deletePizza(pizzaId);
+
+        assertThat(pizzaService.listAvailablePizzas()).extracting(PizzaResponse::getId).doesNotContain(pizzaId);
+        assertThat(pizzaCatalog.snapshot().byId()).doesNotContainKey(pizzaId);
+        assertThatThrownBy(this::createOrder).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testLookupsAndRebuilds_AreRecorded() {
+        Long existing = pizzaCatalog.listAvailable().getFirst().getId();
+        double hits = lookups("hit");
+        double misses = lookups("miss");
+        double rebuilds = meterRegistry.counter("pizza.catalog.rebuilds").count();
+
+        assertThat(pizzaCatalog.findById(existing)).isPresent();
+        assertThat(pizzaCatalog.findById(-1L)).isEmpty();
+        assertThat(pizzaCatalog.findAllById(List.of(existing, -2L, -3L))).containsOnlyKeys(existing);
+
+        assertThat(lookups("hit")).isEqualTo(hits + 2);
+        assertThat(lookups("miss")).isEqualTo(misses + 3);
+
+        pizzaCatalog.rebuild();
+
+        assertThat(meterRegistry.counter("pizza.catalog.rebuilds").count()).isEqualTo(rebuilds + 1);
+        assertThat(meterRegistry.get("pizza.catalog.size").gauge().value())
+                .isEqualTo(pizzaCatalog.snapshot().byId().size());
+    }
+
+    @Test
+    void testSnapshotReads_DoNotOpenTransactions() {
+        Long existing = pizzaCatalog.listAvailable().getFirst().getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long transactions = statistics.getTransactionCount();
+
+        assertThat(pizzaService.listAvailablePizzas()).isNotEmpty();
+        assertThat(pizzaService.getPizzaById(existing).getId()).isEqualTo(existing);
+
+        assertThat(statistics.getTransactionCount()).isEqualTo(transactions);
+    }
+
+    private OrderResponse createOrder() {
+        OrderResponse order = orderService.createOrder(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(pizzaId).quantity(2).build()))
+                .build());
+        orderIds.add(order.getId());
+        return order;
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.counter("pizza.catalog.lookups", "result", result).count();
+    }
+}
@@ -0,0 +1,98 @@
+package com.mendes.example.pizza.presentation;
+
+import com.mendes.example.pizza.application.dto.CreatePizzaRequest;
+import com.mendes.example.pizza.application.dto.UpdatePizzaRequest;
+import com.mendes.example.pizza.domain.PizzaSize;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes Integrados da Slice de Pizzas - representações pré-serializadas e ETag.
+ *
+ * Não é {@code @Transactional}: o snapshot do cardápio só é reconstruído após o commit
+ * das alterações, então cada teste remove as pizzas que cria.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PizzaControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testListAvailablePizzas_WithMatchingETag_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/pizzas"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.length()").isNotEmpty())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/pizzas").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testUpdatePizza_ChangesETagOfMenuAndPizza() throws Exception {
+        CreatePizzaRequest createRequest = CreatePizzaRequest.builder()
+                .name("Calabresa")
+                .description("Calabresa fatiada e cebola")
+                .price(BigDecimal.valueOf(42.00))
+                .size(PizzaSize.MEDIUM)
+                .build();
+        String created = mockMvc.perform(post("/pizzas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long pizzaId = objectMapper.readTree(created).get("id").asLong();
+
+        try {
+            String menuETag = mockMvc.perform(get("/pizzas"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            String pizzaETag = mockMvc.perform(get("/pizzas/{id}", pizzaId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("Calabresa"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            UpdatePizzaRequest updateRequest = UpdatePizzaRequest.builder()
+                    .name("Calabresa Especial")
+                    .description("Calabresa fatiada, cebola e azeitona")
+                    .price(BigDecimal.valueOf(46.00))
+                    .size(PizzaSize.MEDIUM)
+                    .build();
+            mockMvc.perform(put("/pizzas/{id}", pizzaId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(updateRequest)))
+                    .andExpect(status().isOk());
+
+            String newMenuETag = mockMvc.perform(get("/pizzas").header(HttpHeaders.IF_NONE_MATCH, menuETag))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(get("/pizzas/{id}", pizzaId).header(HttpHeaders.IF_NONE_MATCH, pizzaETag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("Calabresa Especial"));
+
+            assertThat(newMenuETag).isNotEqualTo(menuETag);
+        } finally {
+            mockMvc.perform(delete("/pizzas/{id}", pizzaId)).andExpect(status().isNoContent());
+        }
+    }
+}
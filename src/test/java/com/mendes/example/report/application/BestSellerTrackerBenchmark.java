@@ -0,0 +1,86 @@
+package com.mendes.example.report.application;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark JMH do ranking de mais vendidas: registro de vendas (uma e quatro threads)
+ * e consulta do top 10 na janela de um dia.
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=BestSellerTrackerBenchmark}
+ * (resultados em {@code target/jmh/best-sellers.json})
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class BestSellerTrackerBenchmark {
+
+    private BestSellerTracker tracker;
+    private long[] sales;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tracker = new BestSellerTracker(64, Clock.systemUTC());
+        sales = BestSellerTrackerTest.zipfSample(new Random(7));
+        for (long pizzaId : sales) {
+            tracker.record(pizzaId, "Pizza", 1);
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        tracker.record(next(), "Pizza", 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        tracker.record(next(), "Pizza", 1);
+    }
+
+    @Benchmark
+    public Object topSellersLastDay() {
+        return tracker.topSellers(BestSellerWindow.LAST_DAY, 10);
+    }
+
+    private long next() {
+        return sales[(cursor.getAndIncrement() & Integer.MAX_VALUE) % sales.length];
+    }
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(Path.of("target/jmh"));
+        new Runner(new OptionsBuilder()
+                .include(BestSellerTrackerBenchmark.class.getName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/best-sellers.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,133 @@
+package com.mendes.example.report.application;
+
+import com.mendes.example.report.application.dto.BestSellerResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do ranking aproximado de mais vendidas: precisão contra a contagem exata e
+ * expiração das janelas deslizantes.
+ */
+class BestSellerTrackerTest {
+
+    private static final int CAPACITY = 32;
+    private static final int PIZZAS = 500;
+    private static final int SALES = 100_000;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T12:00:00Z"));
+
+    @Test
+    void testTopSellers_ShouldMatchExactCountsWithinErrorBounds() {
+        BestSellerTracker tracker = new BestSellerTracker(CAPACITY, clock);
+        Map<Long, Long> exact = new HashMap<>();
+        long[] zipf = zipfSample(new Random(42));
+
+        // Vendas espalhadas pelos 50 minutos anteriores, em buckets distintos da janela
+        for (int i = 0; i < SALES; i++) {
+            if (i % 2_000 == 0) {
+                clock.advance(Duration.ofMinutes(1));
+            }
+            long pizzaId = zipf[i];
+            tracker.record(pizzaId, "Pizza " + pizzaId, 1);
+            exact.merge(pizzaId, 1L, Long::sum);
+        }
+
+        List<BestSellerResponse> top = tracker.topSellers(BestSellerWindow.LAST_HOUR, 15);
+        List<Long> exactTop = exact.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        // As mais vendidas saem na ordem exata; nas posições com contagens próximas a ordem pode
+        // trocar dentro do erro, mas nenhuma das 10 reais fica fora das 15 primeiras estimadas
+        assertThat(top.subList(0, 5)).extracting(BestSellerResponse::getPizzaId)
+                .containsExactlyElementsOf(exactTop.subList(0, 5));
+        assertThat(top).extracting(BestSellerResponse::getPizzaId).containsAll(exactTop);
+        assertThat(top).allSatisfy(seller -> {
+            long real = exact.get(seller.getPizzaId());
+            assertThat(real).isBetween(seller.getQuantity() - seller.getMaxError(), seller.getQuantity());
+        });
+    }
+
+    @Test
+    void testTopSellers_ShouldExpireBucketsOutsideWindow() {
+        BestSellerTracker tracker = new BestSellerTracker(CAPACITY, clock);
+        tracker.record(1L, "Margherita", 3);
+        clock.advance(Duration.ofMinutes(30));
+        tracker.record(2L, "Pepperoni", 2);
+
+        assertThat(tracker.topSellers(BestSellerWindow.LAST_HOUR, 5))
+                .extracting(BestSellerResponse::getPizzaName)
+                .containsExactly("Margherita", "Pepperoni");
+
+        clock.advance(Duration.ofMinutes(31));
+        assertThat(tracker.topSellers(BestSellerWindow.LAST_HOUR, 5))
+                .extracting(BestSellerResponse::getPizzaName)
+                .containsExactly("Pepperoni");
+        assertThat(tracker.topSellers(BestSellerWindow.LAST_DAY, 5))
+                .extracting(BestSellerResponse::getQuantity)
+                .containsExactly(3L, 2L);
+    }
+
+    /**
+     * Amostra com distribuição de Zipf (s = 1.1) sobre {@value #PIZZAS} pizzas, embaralhando os ids.
+     */
+    static long[] zipfSample(Random random) {
+        double[] cumulative = new double[PIZZAS];
+        double sum = 0;
+        for (int rank = 1; rank <= PIZZAS; rank++) {
+            sum += 1 / Math.pow(rank, 1.1);
+            cumulative[rank - 1] = sum;
+        }
+        long[] ids = random.longs(PIZZAS, 1, Long.MAX_VALUE).toArray();
+        long[] sample = new long[SALES];
+        for (int i = 0; i < SALES; i++) {
+            double target = random.nextDouble() * sum;
+            int rank = 0;
+            while (cumulative[rank] < target) {
+                rank++;
+            }
+            sample[i] = ids[rank];
+        }
+        return sample;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.mendes.example.report.application;
+
+import com.mendes.example.order.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da agregação paralela de pedidos: o resultado do fork-join deve ser idêntico
+ * ao da varredura sequencial.
+ */
+class OrderAnalyticsAggregatorTest {
+
+    static final int CITIES = 50;
+
+    @Test
+    void testAggregate_ShouldMatchSequentialTotals() {
+        OrderChunk chunk = syntheticChunk(new Random(11), 100_000);
+        OrderAnalyticsTotals sequential = new OrderAnalyticsTotals(CITIES);
+        sequential.add(chunk, 0, chunk.orders);
+
+        OrderAnalyticsAggregator aggregator = new OrderAnalyticsAggregator(4);
+        try {
+            OrderAnalyticsTotals parallel = aggregator.aggregate(chunk, CITIES);
+
+            assertThat(parallel).usingRecursiveComparison().isEqualTo(sequential);
+            assertThat(parallel.orders).isEqualTo(100_000);
+        } finally {
+            aggregator.shutdown();
+        }
+    }
+
+    @Test
+    void testAggregate_ShouldCountEachSizeOncePerOrderAndSkipCancelledRevenue() {
+        OrderChunk chunk = new OrderChunk.Builder(2)
+                .addOrder(0, OrderStatus.DELIVERED.ordinal(), 19, 9_000)
+                .addItem((byte) 1, 1, 4_000)
+                .addItem((byte) 1, 1, 5_000)
+                .addOrder(0, OrderStatus.CANCELLED.ordinal(), 19, 3_000)
+                .addItem((byte) 1, 1, 3_000)
+                .build();
+
+        OrderAnalyticsAggregator aggregator = new OrderAnalyticsAggregator(2);
+        try {
+            OrderAnalyticsTotals totals = aggregator.aggregate(chunk, 1);
+
+            assertThat(totals.revenueCents).isEqualTo(9_000);
+            assertThat(totals.cityRevenueCents[0]).isEqualTo(9_000);
+            assertThat(totals.sizeOrders[1]).isEqualTo(1);
+            assertThat(totals.sizeQuantity[1]).isEqualTo(2);
+            assertThat(totals.hourOrders[19]).isEqualTo(2);
+            assertThat(totals.hourCancelled[19]).isEqualTo(1);
+        } finally {
+            aggregator.shutdown();
+        }
+    }
+
+    /**
+     * Bloco sintético: {@value #CITIES} cidades, 1 a 4 itens por pedido, ~10% cancelados.
+     */
+    static OrderChunk syntheticChunk(Random random, int orders) {
+        OrderStatus[] statuses = OrderStatus.values();
+        OrderChunk.Builder builder = new OrderChunk.Builder(orders);
+        for (int i = 0; i < orders; i++) {
+            OrderStatus status = random.nextInt(10) == 0
+                    ? OrderStatus.CANCELLED
+                    : statuses[random.nextInt(statuses.length)];
+            int items = 1 + random.nextInt(4);
+            long[] cents = new long[items];
+            long total = 0;
+            for (int item = 0; item < items; item++) {
+                cents[item] = 2_500 + random.nextInt(7_500);
+                total += cents[item];
+            }
+            builder.addOrder(random.nextInt(CITIES), status.ordinal(), random.nextInt(24), total);
+            for (int item = 0; item < items; item++) {
+                builder.addItem((byte) random.nextInt(OrderAnalyticsTotals.SIZES), 1 + random.nextInt(3), cents[item]);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.mendes.example.report.application;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da agregação de pedidos: escalabilidade do fork-join por número de núcleos
+ * sobre blocos sintéticos de 1 e 4 milhões de pedidos.
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=OrderAnalyticsBenchmark}
+ * (resultados em {@code target/jmh/order-analytics.json})
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OrderAnalyticsBenchmark {
+
+    @Param({"1000000", "4000000"})
+    private int orders;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private OrderChunk chunk;
+    private OrderAnalyticsAggregator aggregator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        chunk = OrderAnalyticsAggregatorTest.syntheticChunk(new Random(3), orders);
+        aggregator = new OrderAnalyticsAggregator(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        aggregator.shutdown();
+    }
+
+    @Benchmark
+    public OrderAnalyticsTotals aggregate() {
+        return aggregator.aggregate(chunk, OrderAnalyticsAggregatorTest.CITIES);
+    }
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(Path.of("target/jmh"));
+        new Runner(new OptionsBuilder()
+                .include(OrderAnalyticsBenchmark.class.getName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/order-analytics.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,167 @@
+package com.mendes.example.report.application;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.OrderService;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.pizza.application.PizzaService;
+import com.mendes.example.pizza.application.dto.CreatePizzaRequest;
+import com.mendes.example.pizza.domain.PizzaSize;
+import com.mendes.example.report.domain.RollupGranularity;
+import com.mendes.example.report.domain.SalesRollup;
+import com.mendes.example.report.infrastructure.SalesRollupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testes Integrados dos rollups de vendas com transações reais: incremento na transação da
+ * transição e backfill concorrente com transições.
+ *
+ * Não é {@code @Transactional}: cada transição e cada dia do backfill confirmam por conta própria.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SalesRollupServiceIntegrationTest {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PizzaService pizzaService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Customer customer;
+    private Long pizzaId;
+    private final List<UUID> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Rollup Test")
+                .email("rollup@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build());
+        pizzaId = pizzaService.createPizza(CreatePizzaRequest.builder()
+                .name("Rollup Special")
+                .description("Pizza exclusiva dos testes de rollup")
+                .price(new BigDecimal("30.00"))
+                .size(PizzaSize.MEDIUM)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderIds.forEach(orderService::deleteOrder);
+        salesRollupRepository.deleteAll(salesRollupRepository.findAll().stream()
+                .filter(bucket -> bucket.getId().getPizzaId().equals(pizzaId))
+                .toList());
+        customerRepository.delete(customer);
+        pizzaService.deletePizza(pizzaId);
+    }
+
+    @Test
+    void testIncrement_CreatesBucketInTransitionTransaction() {
+        deliver(createOrder(2));
+        deliver(createOrder(1));
+
+        assertThat(buckets(OrderStatus.DELIVERED))
+                .extracting(SalesRollup::getOrderCount, SalesRollup::getQuantity)
+                .containsExactly(tuple(2L, 3L));
+    }
+
+    @Test
+    void testTransitionDuringBackfill_WaitsAndIsCountedOnce() throws Exception {
+        orderService.cancelOrder(createOrder(1));
+        UUID inDelivery = createOrder(2);
+        orderService.confirmOrder(inDelivery);
+        orderService.startPreparing(inDelivery);
+        orderService.markAsReady(inDelivery);
+        orderService.markAsInDelivery(inDelivery);
+
+        // Backfill do dia mantido aberto (sem commit) até a transição concorrente começar
+        CountDownLatch backfilled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> backfill = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            salesRollupService.backfill(LocalDate.now(), LocalDate.now());
+            backfilled.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(backfilled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<?> delivery = CompletableFuture.runAsync(() -> orderService.markAsDelivered(inDelivery));
+        assertThatThrownBy(() -> delivery.get(300, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        backfill.get(5, TimeUnit.SECONDS);
+        delivery.get(5, TimeUnit.SECONDS);
+
+        // O cancelado vem do backfill; o entregue é somado pela transição após o commit do backfill
+        assertThat(buckets(OrderStatus.CANCELLED))
+                .extracting(SalesRollup::getOrderCount, SalesRollup::getQuantity)
+                .containsExactly(tuple(1L, 1L));
+        assertThat(buckets(OrderStatus.DELIVERED))
+                .extracting(SalesRollup::getOrderCount, SalesRollup::getQuantity)
+                .containsExactly(tuple(1L, 2L));
+    }
+
+    private UUID createOrder(int quantity) {
+        UUID orderId = orderService.createOrder(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(List.of(OrderItemRequest.builder().pizzaId(pizzaId).quantity(quantity).build()))
+                .build()).getId();
+        orderIds.add(orderId);
+        return orderId;
+    }
+
+    private void deliver(UUID orderId) {
+        orderService.confirmOrder(orderId);
+        orderService.startPreparing(orderId);
+        orderService.markAsReady(orderId);
+        orderService.markAsInDelivery(orderId);
+        orderService.markAsDelivered(orderId);
+    }
+
+    private List<SalesRollup> buckets(OrderStatus status) {
+        return salesRollupRepository.findBuckets(RollupGranularity.DAY, LocalDate.now().atStartOfDay(),
+                LocalDate.now().plusDays(1).atStartOfDay(), pizzaId, status);
+    }
+}
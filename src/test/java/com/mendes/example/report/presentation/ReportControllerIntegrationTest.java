@@ -0,0 +1,225 @@
+package com.mendes.example.report.presentation;
+
+import com.mendes.example.customer.domain.Customer;
+import com.mendes.example.customer.infrastructure.CustomerRepository;
+import com.mendes.example.order.application.OrderService;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.order.application.dto.OrderResponse;
+import com.mendes.example.order.domain.Order;
+import com.mendes.example.order.domain.OrderItem;
+import com.mendes.example.order.domain.OrderStatus;
+import com.mendes.example.order.infrastructure.OrderRepository;
+import com.mendes.example.pizza.domain.Pizza;
+import com.mendes.example.pizza.domain.PizzaSize;
+import com.mendes.example.pizza.infrastructure.PizzaRepository;
+import com.mendes.example.report.application.BestSellerTracker;
+import com.mendes.example.shared.money.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes Integrados dos relatórios de vendas (rollups incrementais, backfill, ranking de mais
+ * vendidas e análises de pedidos).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ReportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PizzaRepository pizzaRepository;
+
+    @Autowired
+    private BestSellerTracker bestSellerTracker;
+
+    private Customer customer;
+    private Pizza pizza;
+    private String today;
+    private String tomorrow;
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("Report Test")
+                .email("report@test.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .city("Report City")
+                .build());
+        pizza = pizzaRepository.save(Pizza.builder()
+                .name("Report Special")
+                .description("Pizza exclusiva dos testes de relatório")
+                .price(BigDecimal.valueOf(40.00))
+                .size(PizzaSize.MEDIUM)
+                .available(true)
+                .build());
+        today = LocalDate.now().atStartOfDay().toString();
+        tomorrow = LocalDate.now().plusDays(1).atStartOfDay().toString();
+    }
+
+    @Test
+    void testGetSalesReport_ShouldAggregateFinishedOrders() throws Exception {
+        OrderResponse delivered = createOrder(2, 1);
+        orderService.confirmOrder(delivered.getId());
+        orderService.startPreparing(delivered.getId());
+        orderService.markAsReady(delivered.getId());
+        orderService.markAsInDelivery(delivered.getId());
+        orderService.markAsDelivered(delivered.getId());
+
+        OrderResponse cancelled = createOrder(1);
+        orderService.cancelOrder(cancelled.getId());
+
+        // Pedido ainda em aberto não entra no relatório
+        createOrder(5);
+
+        mockMvc.perform(get("/reports/sales")
+                        .param("granularity", "DAY")
+                        .param("startDate", today)
+                        .param("endDate", tomorrow)
+                        .param("pizzaId", pizza.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("CANCELLED"))
+                .andExpect(jsonPath("$[0].revenue").value(40.00))
+                .andExpect(jsonPath("$[1].status").value("DELIVERED"))
+                .andExpect(jsonPath("$[1].orderCount").value(1))
+                .andExpect(jsonPath("$[1].quantity").value(3))
+                .andExpect(jsonPath("$[1].revenue").value(120.00))
+                .andExpect(jsonPath("$[1].pizzaName").value("Report Special"));
+
+        mockMvc.perform(get("/reports/sales")
+                        .param("granularity", "HOUR")
+                        .param("startDate", today)
+                        .param("endDate", tomorrow)
+                        .param("pizzaId", pizza.getId().toString())
+                        .param("status", "DELIVERED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].quantity").value(3));
+    }
+
+    @Test
+    void testBackfillSales_ShouldRebuildFromExistingOrders() throws Exception {
+        // Pedido finalizado gravado direto no repositório, sem passar pelos rollups incrementais
+        Order order = Order.builder().customer(customer).build();
+        order.addItem(OrderItem.builder()
+                .pizzaId(pizza.getId())
+                .pizzaName(pizza.getName())
+                .quantity(4)
+                .unitPrice(Money.of(pizza.getPrice()))
+                .build());
+        orderRepository.saveAndFlush(order).setStatus(OrderStatus.DELIVERED);
+
+        mockMvc.perform(post("/reports/sales/backfill")
+                        .param("startDate", LocalDate.now().toString())
+                        .param("endDate", LocalDate.now().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days").value(1));
+
+        mockMvc.perform(get("/reports/sales")
+                        .param("startDate", today)
+                        .param("endDate", tomorrow)
+                        .param("pizzaId", pizza.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].quantity").value(4))
+                .andExpect(jsonPath("$[0].revenue").value(160.00));
+    }
+
+    @Test
+    void testGetSalesReport_WithInvalidRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/reports/sales")
+                        .param("startDate", tomorrow)
+                        .param("endDate", today))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetBestSellers_ShouldRankRecordedSales() throws Exception {
+        // O tracker é compartilhado pelo contexto: quantidades altas garantem o topo do ranking
+        bestSellerTracker.record(pizza.getId(), pizza.getName(), 1_000_000);
+        bestSellerTracker.record(-1L, "Runner-up", 500_000);
+
+        mockMvc.perform(get("/reports/best-sellers")
+                        .param("window", "LAST_DAY")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].pizzaId").value(pizza.getId()))
+                .andExpect(jsonPath("$[0].pizzaName").value("Report Special"))
+                .andExpect(jsonPath("$[1].pizzaName").value("Runner-up"));
+    }
+
+    @Test
+    void testGetBestSellers_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/reports/best-sellers").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetOrderAnalytics_ShouldSummarizeByCitySizeAndHour() throws Exception {
+        createOrder(2, 1);
+        createOrder(1);
+        OrderResponse cancelled = createOrder(4);
+        orderService.cancelOrder(cancelled.getId());
+
+        mockMvc.perform(get("/reports/analytics")
+                        .param("startDate", today)
+                        .param("endDate", tomorrow))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cities[?(@.city == 'Report City')].orders").value(2))
+                .andExpect(jsonPath("$.cities[?(@.city == 'Report City')].revenue").value(160.00))
+                .andExpect(jsonPath("$.cities[?(@.city == 'Report City')].averageTicket").value(80.00))
+                .andExpect(jsonPath("$.sizes[?(@.size == 'MEDIUM')]").isNotEmpty())
+                .andExpect(jsonPath("$.hours").isNotEmpty());
+    }
+
+    @Test
+    void testGetOrderAnalytics_WithInvalidRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/reports/analytics")
+                        .param("startDate", tomorrow)
+                        .param("endDate", today))
+                .andExpect(status().isBadRequest());
+    }
+
+    private OrderResponse createOrder(int... quantities) {
+        return orderService.createOrder(CreateOrderRequest.builder()
+                .customerId(customer.getId())
+                .items(Arrays.stream(quantities)
+                        .mapToObj(quantity -> OrderItemRequest.builder()
+                                .pizzaId(pizza.getId())
+                                .quantity(quantity)
+                                .build())
+                        .toList())
+                .build());
+    }
+}
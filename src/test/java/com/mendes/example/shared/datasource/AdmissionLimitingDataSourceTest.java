@@ -0,0 +1,94 @@
+package com.mendes.example.shared.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes do limite de admissão JDBC: espera com timeout, devolução da vaga no close e conexões
+ * aninhadas da mesma thread.
+ */
+class AdmissionLimitingDataSourceTest {
+
+    private AdmissionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:admission-" + UUID.randomUUID());
+        dataSource = new AdmissionLimitingDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void testGetConnection_LimitReached_ShouldTimeOutUntilAConnectionIsClosed() throws Exception {
+        Connection first = openInOtherThread();
+        Connection second = openInOtherThread();
+        assertThat(dataSource.active()).isEqualTo(2);
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("admission limit of 2");
+
+        first.close();
+        try (Connection third = dataSource.getConnection()) {
+            assertThat(third.isValid(1)).isTrue();
+        }
+        second.close();
+        assertThat(dataSource.active()).isZero();
+    }
+
+    @Test
+    void testGetConnection_NestedInSameThread_ShouldNotWaitForPermit() throws Exception {
+        Connection outer = dataSource.getConnection();
+        Connection other = openInOtherThread();
+        assertThat(dataSource.active()).isEqualTo(2);
+
+        // Limite atingido: a thread que já tem conexão obtém a segunda sem vaga
+        try (Connection nested = dataSource.getConnection()) {
+            assertThat(nested.isValid(1)).isTrue();
+            assertThat(dataSource.active()).isEqualTo(2);
+        }
+        outer.close();
+        other.close();
+        assertThat(dataSource.active()).isZero();
+
+        // Sem conexões abertas, a thread volta a ocupar vaga
+        try (Connection next = dataSource.getConnection()) {
+            assertThat(dataSource.active()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testClose_CalledTwice_ShouldReleaseOnePermit() throws Exception {
+        Connection connection = dataSource.getConnection();
+        Connection other = openInOtherThread();
+        connection.close();
+        connection.close();
+
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(dataSource.active()).isEqualTo(1);
+        other.close();
+    }
+
+    // Uma thread nova por conexão: cada uma ocupa a própria vaga, sem contar como aninhada
+    private Connection openInOtherThread() throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }, Thread::startVirtualThread).get(1, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,215 @@
+package com.mendes.example.shared.datasource;
+
+import com.mendes.example.customer.application.dto.CreateCustomerRequest;
+import com.mendes.example.order.application.dto.CreateOrderRequest;
+import com.mendes.example.order.application.dto.OrderItemRequest;
+import com.mendes.example.pizza.application.PizzaCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes Integrados do roteamento para a réplica de leitura, com dois bancos H2 independentes.
+ *
+ * A "réplica" recebe o schema pelo Flyway mas não replica nada do primário: o que cada leitura
+ * enxerga mostra para qual banco ela foi. Não é {@code @Transactional}: a transação do teste
+ * prenderia todas as leituras ao primário.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.url=jdbc:h2:mem:replica-${random.uuid}",
+        "datasource.replica.max-lag=PT1M"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    @TestConfiguration
+    static class ReplicaSchema {
+
+        // Réplica local sem replicação física: aplica as migrações antes do primeiro uso
+        @Bean
+        static BeanPostProcessor replicaMigration() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("replicaDataSource".equals(beanName)) {
+                        Flyway.configure()
+                                .dataSource((DataSource) bean)
+                                .locations("classpath:db/migration/h2")
+                                .load()
+                                .migrate();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PizzaCatalog pizzaCatalog;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private UUID replicaOnlyId;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        replicaOnlyId = UUID.randomUUID();
+        replica.update("""
+                insert into customer (id, name, email, phone, address, created_at)
+                values (?, 'Replica Only', 'replica-only@test.com', '11999999999', 'Rua Réplica, 1', ?)""",
+                replicaOnlyId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        replica.update("delete from customer where id = ?", replicaOnlyId);
+        primary.update("""
+                delete from order_idempotency_key
+                where order_id in (select o.id from orders o join customer c on c.id = o.customer_id
+                                   where c.email = 'routing@test.com')""");
+        primary.update("""
+                delete from order_item
+                where order_id in (select o.id from orders o join customer c on c.id = o.customer_id
+                                   where c.email = 'routing@test.com')""");
+        primary.update("delete from orders where customer_id in (select id from customer where email = 'routing@test.com')");
+        primary.update("delete from customer where email = 'routing@test.com'");
+    }
+
+    @Test
+    void testReadOnlyTransaction_ShouldReadFromReplica() throws Exception {
+        double before = routed("replica", "read-only");
+
+        mockMvc.perform(get("/customers/{id}", replicaOnlyId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Replica Only"));
+
+        assertThat(routed("replica", "read-only")).isGreaterThan(before);
+        assertThat(primary.queryForObject("select count(*) from customer where id = ?", Long.class, replicaOnlyId))
+                .isZero();
+    }
+
+    @Test
+    void testConsistencyToken_ShouldReadYourWritesFromPrimary() throws Exception {
+        MockHttpServletResponse created = mockMvc.perform(post("/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateCustomerRequest.builder()
+                                .name("Routing Test")
+                                .email("routing@test.com")
+                                .phone("11999999999")
+                                .address("Rua Teste, 123")
+                                .build())))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(ReadYourWrites.HEADER))
+                .andReturn().getResponse();
+        String token = created.getHeader(ReadYourWrites.HEADER);
+        String createdId = objectMapper.readTree(created.getContentAsString()).get("id").asString();
+
+        // Sem token a leitura vai para a réplica, que ainda não tem o cliente
+        mockMvc.perform(get("/customers/{id}", createdId))
+                .andExpect(status().isNotFound());
+
+        double before = routed("primary", "read-your-writes");
+        mockMvc.perform(get("/customers/{id}", createdId).header(ReadYourWrites.HEADER, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Routing Test"));
+        assertThat(routed("primary", "read-your-writes")).isGreaterThan(before);
+
+        // Token mais antigo que o atraso máximo da réplica volta a ler da réplica
+        String expired = Long.toString(System.currentTimeMillis() - 120_000);
+        mockMvc.perform(get("/customers/{id}", createdId).header(ReadYourWrites.HEADER, expired))
+                .andExpect(status().isNotFound());
+
+        // Token do futuro é inválido: não prende as leituras no primário
+        String future = Long.toString(Long.MAX_VALUE);
+        mockMvc.perform(get("/customers/{id}", createdId).header(ReadYourWrites.HEADER, future))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testReadThenWriteInOneRequest_ShouldWriteToPrimary() throws Exception {
+        // O cardápio é lido da réplica: copia as pizzas do primário para o pedido ser aceito
+        replica.update("delete from pizza");
+        primary.query("select id, name, description, price, size, available, created_at from pizza", row -> {
+            replica.update("""
+                    insert into pizza (id, name, description, price, size, available, created_at)
+                    values (?, ?, ?, ?, ?, ?, ?)""",
+                    row.getLong(1), row.getString(2), row.getString(3), row.getBigDecimal(4),
+                    row.getString(5), row.getBoolean(6), row.getTimestamp(7));
+        });
+        pizzaCatalog.rebuild();
+        UUID customerId = UUID.randomUUID();
+        primary.update("""
+                insert into customer (id, name, email, phone, address, created_at)
+                values (?, 'Routing Test', 'routing@test.com', '11999999999', 'Rua Teste, 123', ?)""",
+                customerId, Timestamp.valueOf(LocalDateTime.now()));
+
+        // Com Idempotency-Key a requisição lê a chave (somente leitura) antes de gravar o pedido
+        MockHttpServletResponse created = mockMvc.perform(post("/orders")
+                        .header("Idempotency-Key", UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateOrderRequest.builder()
+                                .customerId(customerId)
+                                .items(List.of(OrderItemRequest.builder().pizzaId(1L).quantity(1).build()))
+                                .build())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        String orderId = objectMapper.readTree(created.getContentAsString()).get("id").asString();
+
+        assertThat(primary.queryForObject("select count(*) from orders where id = ?", Long.class, orderId))
+                .isOne();
+        assertThat(replica.queryForObject("select count(*) from orders where id = ?", Long.class, orderId))
+                .isZero();
+    }
+
+    private double routed(String pool, String reason) {
+        return meterRegistry.counter("datasource.routing", "pool", pool, "reason", reason).count();
+    }
+}
@@ -0,0 +1,101 @@
+package com.mendes.example.shared.exception;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da montagem das respostas RFC 9457 ({@link ProblemDetail}) pelo
+ * {@link GlobalExceptionHandler}, para cada tipo de exceção tratado.
+ *
+ * O logger do handler fica desligado: mede-se a construção da resposta, não o appender.
+ *
+ * Uso: {@code ./mvnw test -Pbenchmark -Dtest=GlobalExceptionHandlerBenchmark}
+ * (resultados em {@code target/jmh/problem-detail.json})
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private WebRequest request;
+    private IllegalArgumentException invalidRequest;
+    private ResourceNotFoundException notFound;
+    private InvalidOperationException conflict;
+    private RuntimeException unexpected;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+
+        UUID orderId = UUID.randomUUID();
+        request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/orders/" + orderId + "/confirm"));
+        invalidRequest = new IllegalArgumentException("Quantity must be positive");
+        notFound = new ResourceNotFoundException("Order not found with id: " + orderId);
+        conflict = new InvalidOperationException("Order cannot be confirmed in status DELIVERED");
+        unexpected = new IllegalStateException("Connection reset");
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetail> invalidRequest() {
+        return handler.handleIllegalArgumentException(invalidRequest, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetail> notFound() {
+        return handler.handleResourceNotFoundException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetail> conflict() {
+        return handler.handleInvalidOperationException(conflict, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetail> unexpected() {
+        return handler.handleGeneralException(unexpected, request);
+    }
+
+    @Test
+    void run() throws Exception {
+        Files.createDirectories(Path.of("target/jmh"));
+        new Runner(new OptionsBuilder()
+                .include(GlobalExceptionHandlerBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh/problem-detail.json")
+                .build()).run();
+    }
+}
@@ -0,0 +1,38 @@
+package com.mendes.example.shared.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes do valor monetário em centavos: arredondamento na conversão, aritmética exata e
+ * estouro.
+ */
+class MoneyTest {
+
+    @Test
+    void testOf_ShouldRoundHalfUpToCents() {
+        assertThat(Money.of(new BigDecimal("45.9")).minorUnits()).isEqualTo(4590);
+        assertThat(Money.of(new BigDecimal("10.005")).minorUnits()).isEqualTo(1001);
+        assertThat(Money.of(new BigDecimal("10.004")).minorUnits()).isEqualTo(1000);
+        assertThat(Money.of(new BigDecimal("-10.005")).minorUnits()).isEqualTo(-1001);
+        assertThat(Money.of(new BigDecimal("45.00")).toBigDecimal()).isEqualTo(new BigDecimal("45.00"));
+    }
+
+    @Test
+    void testArithmetic_ShouldBeExactAndFailOnOverflow() {
+        Money price = Money.ofMinor(5290);
+
+        assertThat(price.times(3)).isEqualTo(Money.ofMinor(15870));
+        assertThat(price.plus(Money.ofMinor(10)).minus(price)).isEqualTo(Money.ofMinor(10));
+        assertThat(price.times(3).toString()).isEqualTo("158.70");
+
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE / 2 + 1).times(2))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
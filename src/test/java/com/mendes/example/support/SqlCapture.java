@@ -0,0 +1,48 @@
+package com.mendes.example.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link StatementInspector} que registra o SQL gerado pelo Hibernate na thread corrente.
+ *
+ * Registrado no perfil de teste ({@code hibernate.session_factory.statement_inspector});
+ * fora de {@link #capture} não registra nada.
+ */
+public class SqlCapture implements StatementInspector {
+
+    /**
+     * Ação observada; permite lançar exceções checadas.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * Executa a ação e retorna os statements SQL preparados por ela, em ordem.
+     */
+    public static List<String> capture(Action action) throws Exception {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
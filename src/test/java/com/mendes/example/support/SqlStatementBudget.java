@@ -0,0 +1,51 @@
+package com.mendes.example.support;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guarda de regressão de quantidade de SQL baseada em Hibernate {@link Statistics}.
+ *
+ * Requer {@code hibernate.generate_statistics=true} (habilitado no perfil de teste).
+ * Antes de medir, o contexto de persistência é descarregado e limpo para que as consultas
+ * do endpoint não sejam atendidas por entidades já gerenciadas pelo próprio teste.
+ */
+public class SqlStatementBudget {
+
+    /**
+     * Ação medida; permite lançar as exceções checadas de {@code MockMvc.perform}.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public SqlStatementBudget(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    /**
+     * Executa a ação e falha caso ela prepare mais statements SQL do que o orçamento.
+     */
+    public void assertAtMost(long budget, String description, Action action) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+
+        long executed = statistics.getPrepareStatementCount();
+        assertThat(executed)
+                .as("SQL statements executed by %s (budget %d)", description, budget)
+                .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,104 @@
+package com.mendes.example.support.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências por endpoint em histogramas HDR (1 µs a 1 min, 3 dígitos significativos), com a
+ * contagem de respostas fora do status esperado.
+ *
+ * Os endpoints são identificados por um slug do nome da requisição na coleção Postman
+ * ("1. Confirm Order" vira {@code 1-confirm-order}), usado também no baseline.
+ */
+public class EndpointLatencies {
+
+    private static final long LOWEST = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long HIGHEST = TimeUnit.MINUTES.toNanos(1);
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    /**
+     * Resultado de um endpoint; latências em milissegundos, vazão em requisições por segundo.
+     */
+    public record Summary(long count, long errors, double throughput,
+                          double p50, double p99, double p999, double max) {
+    }
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public static String slug(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+    }
+
+    public void record(String endpoint, long nanos, boolean expected) {
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(LOWEST, HIGHEST, 3))
+                .recordValue(Math.min(Math.max(nanos, LOWEST), HIGHEST));
+        if (!expected) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Resumo por endpoint, em ordem alfabética, mais a linha {@code total} com todos somados.
+     */
+    public Map<String, Summary> summarize(double seconds) {
+        Map<String, Summary> summaries = new TreeMap<>();
+        Histogram total = new Histogram(LOWEST, HIGHEST, 3);
+        long totalErrors = 0;
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            long endpointErrors = errorCount(entry.getKey());
+            summaries.put(entry.getKey(), summary(entry.getValue(), endpointErrors, seconds));
+            total.add(entry.getValue());
+            totalErrors += endpointErrors;
+        }
+        summaries.put("total", summary(total, totalErrors, seconds));
+        return summaries;
+    }
+
+    /**
+     * Grava a distribuição de percentis de cada endpoint ({@code <slug>.hgrm}, em ms, legível
+     * pelo HdrHistogram plotter) e o resumo em {@code summary.properties}, no mesmo formato do
+     * baseline.
+     */
+    public void write(Path directory, Map<String, Summary> summaries) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, NANOS_PER_MS);
+            }
+        }
+        StringBuilder properties = new StringBuilder("# Resultado do teste de carga no ambiente " + LoadBaseline.environment()
+                + " (copie para load/baseline-" + LoadBaseline.environment() + ".properties para atualizar o baseline)\n");
+        summaries.forEach((endpoint, summary) -> properties.append(String.format(Locale.ROOT,
+                "%1$s.throughput=%2$.1f%n%1$s.p50.ms=%3$.2f%n%1$s.p99.ms=%4$.2f%n%1$s.p999.ms=%5$.2f%n",
+                endpoint, summary.throughput(), summary.p50(), summary.p99(), summary.p999())));
+        Files.writeString(directory.resolve("summary.properties"), properties);
+    }
+
+    private long errorCount(String endpoint) {
+        LongAdder count = errors.get(endpoint);
+        return count == null ? 0 : count.sum();
+    }
+
+    private static Summary summary(Histogram histogram, long errors, double seconds) {
+        return new Summary(
+                histogram.getTotalCount(),
+                errors,
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MS,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MS,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MS,
+                histogram.getMaxValue() / NANOS_PER_MS);
+    }
+}
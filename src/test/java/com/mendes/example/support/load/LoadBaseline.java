@@ -0,0 +1,102 @@
+package com.mendes.example.support.load;
+
+import com.mendes.example.support.load.EndpointLatencies.Summary;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Baseline do teste de carga: vazão mínima e latências máximas por endpoint, no formato do
+ * {@code summary.properties} gravado por {@link EndpointLatencies}.
+ *
+ * Uma métrica regride quando a vazão cai, ou o percentil sobe, mais do que a tolerância em
+ * relação ao baseline. Endpoints e métricas ausentes do arquivo não são verificados, nem
+ * percentis com menos de {@value #TAIL_SAMPLES} amostras acima deles (p99 exige 1.000
+ * requisições, p99.9 exige 10.000): com menos que isso o valor é praticamente o máximo e varia
+ * demais entre execuções.
+ *
+ * Vazão e latências absolutas dependem do hardware, então cada ambiente tem o próprio baseline
+ * ({@code baseline-<ambiente>.properties}, ver {@link #environment()}): o resultado de uma máquina
+ * nunca é comparado com o de outra.
+ */
+public class LoadBaseline {
+
+    private static final int TAIL_SAMPLES = 10;
+
+    private final Properties values;
+    private final double tolerance;
+
+    private LoadBaseline(Properties values, double tolerance) {
+        this.values = values;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Identificação do ambiente de medição: núcleos disponíveis para a JVM e arquitetura
+     * (ex.: {@code 1cpu-amd64}).
+     */
+    public static String environment() {
+        return Runtime.getRuntime().availableProcessors() + "cpu-" + System.getProperty("os.arch");
+    }
+
+    /**
+     * Baseline do ambiente corrente dentro de {@code directory}.
+     */
+    public static Path fileFor(Path directory) {
+        return directory.resolve("baseline-" + environment() + ".properties");
+    }
+
+    /**
+     * @param tolerance variação aceita, como fração do baseline ({@code 0.25} = 25%)
+     */
+    public static LoadBaseline load(Path file, double tolerance) throws IOException {
+        Properties values = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            values.load(reader);
+        }
+        return new LoadBaseline(values, tolerance);
+    }
+
+    /**
+     * Descreve as regressões encontradas; lista vazia se o resultado está dentro do baseline.
+     */
+    public List<String> regressions(Map<String, Summary> summaries) {
+        List<String> regressions = new ArrayList<>();
+        summaries.forEach((endpoint, summary) -> {
+            Double throughput = value(endpoint + ".throughput");
+            if (throughput != null && summary.throughput() < throughput * (1 - tolerance)) {
+                regressions.add(describe(endpoint, "throughput", summary.throughput(), throughput, "req/s"));
+            }
+            checkLatency(regressions, endpoint, summary.count(), "p50", 50, summary.p50());
+            checkLatency(regressions, endpoint, summary.count(), "p99", 99, summary.p99());
+            checkLatency(regressions, endpoint, summary.count(), "p999", 99.9, summary.p999());
+        });
+        return regressions;
+    }
+
+    private void checkLatency(List<String> regressions, String endpoint, long count,
+                              String percentile, double percent, double measured) {
+        Double baseline = value(endpoint + "." + percentile + ".ms");
+        boolean significant = Math.round(count * (100 - percent) / 100) >= TAIL_SAMPLES;
+        if (baseline != null && significant && measured > baseline * (1 + tolerance)) {
+            regressions.add(describe(endpoint, percentile, measured, baseline, "ms"));
+        }
+    }
+
+    private Double value(String key) {
+        String value = values.getProperty(key);
+        return value == null ? null : Double.valueOf(value.trim());
+    }
+
+    private String describe(String endpoint, String metric, double measured, double baseline, String unit) {
+        return String.format(Locale.ROOT, "%s %s: %.2f %s (baseline %.2f %s, tolerance %.0f%%)",
+                endpoint, metric, measured, unit, baseline, unit, tolerance * 100);
+    }
+}
@@ -0,0 +1,123 @@
+package com.mendes.example.support.load;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Requisições da coleção Postman ({@code pizza-order-api.postman_collection.json}) usadas como
+ * roteiro do teste de carga, indexadas pelo nome que têm na coleção.
+ *
+ * As URLs são relativas a {@code {{base_url}}}; a coleção mistura {@code {{base_url}}/orders}
+ * e {@code {{base_url}}/api/orders}, então o prefixo {@code /api} é descartado e o
+ * {@code base_url} informado deve incluir o context path.
+ */
+public final class PostmanCollection {
+
+    private static final Pattern VARIABLE = Pattern.compile("(\"?)\\{\\{(\\w+)}}(\"?)");
+    private static final Pattern EXPECTED_STATUS = Pattern.compile("\\((\\d{3})\\)");
+    private static final String BASE_URL = "{{base_url}}";
+
+    /**
+     * Requisição da coleção, com as variáveis {@code {{nome}}} ainda por substituir.
+     *
+     * @param expectedStatus status indicado no nome ("... (404)"), ou {@code 0} para qualquer 2xx
+     */
+    public record Template(String name, String method, String path, String body, int expectedStatus) {
+
+        /**
+         * Monta a requisição substituindo as variáveis. No corpo, valores não numéricos (UUIDs)
+         * são colocados entre aspas quando a coleção os escreve sem aspas.
+         */
+        public HttpRequest render(String baseUrl, Map<String, String> variables) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + substitute(path, variables, false)))
+                    .timeout(Duration.ofSeconds(60));
+            if (body == null) {
+                return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+            }
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(substitute(body, variables, true)))
+                    .build();
+        }
+
+        public boolean accepts(int status) {
+            return expectedStatus == 0 ? status / 100 == 2 : status == expectedStatus;
+        }
+    }
+
+    private final Map<String, Template> templates;
+
+    private PostmanCollection(Map<String, Template> templates) {
+        this.templates = templates;
+    }
+
+    public static PostmanCollection load(Path file) {
+        ObjectMapper mapper = JsonMapper.builder().build();
+        Map<String, Template> templates = new LinkedHashMap<>();
+        collect(mapper.readTree(file.toFile()).path("item"), templates);
+        return new PostmanCollection(templates);
+    }
+
+    /**
+     * @throws IllegalArgumentException se a coleção não tiver uma requisição com esse nome
+     */
+    public Template get(String name) {
+        Template template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("Request '" + name + "' not found in the Postman collection");
+        }
+        return template;
+    }
+
+    private static void collect(JsonNode items, Map<String, Template> templates) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collect(item.get("item"), templates);
+                continue;
+            }
+            JsonNode request = item.get("request");
+            JsonNode url = request.get("url");
+            String raw = url.isString() ? url.asString() : url.get("raw").asString();
+            String path = raw.startsWith(BASE_URL) ? raw.substring(BASE_URL.length()) : raw;
+            if (path.startsWith("/api/")) {
+                path = path.substring("/api".length());
+            }
+            JsonNode body = request.path("body").path("raw");
+            String name = item.get("name").asString();
+            Matcher status = EXPECTED_STATUS.matcher(name);
+            templates.put(name, new Template(
+                    name,
+                    request.get("method").asString(),
+                    path,
+                    body.isMissingNode() || body.asString().isBlank() ? null : body.asString(),
+                    status.find() ? Integer.parseInt(status.group(1)) : 0));
+        }
+    }
+
+    private static String substitute(String text, Map<String, String> variables, boolean json) {
+        Matcher matcher = VARIABLE.matcher(text);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String value = variables.get(matcher.group(2));
+            if (value == null) {
+                throw new IllegalArgumentException("Variable '" + matcher.group(2) + "' has no value");
+            }
+            boolean quoted = !matcher.group(1).isEmpty() && !matcher.group(3).isEmpty();
+            String replacement = json && !quoted && !value.chars().allMatch(Character::isDigit)
+                    ? '"' + value + '"'
+                    : matcher.group(1) + value + matcher.group(3);
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}